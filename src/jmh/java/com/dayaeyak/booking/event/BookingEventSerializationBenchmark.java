@@ -0,0 +1,108 @@
+package com.dayaeyak.booking.event;
+
+import com.dayaeyak.booking.domain.booking.dto.request.BookingPerformanceRequestDto;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingSectionRequestDto;
+import com.dayaeyak.booking.domain.booking.enums.BookingStatus;
+import com.dayaeyak.booking.domain.booking.enums.ServiceType;
+import com.dayaeyak.booking.event.schema.BookingCompleteEventSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * booking-complete 이벤트 JSON / binary 인코딩 비교 (크기, 인코딩/디코딩 시간)
+ *
+ * 실행 : ./gradlew jmh
+ * 크기는 setup 에서 출력하고, 시간은 JMH 결과(build/results/jmh/results.txt)로 확인합니다.
+ * sections : 구역 수, seatsPerSection : 구역별 좌석 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingEventSerializationBenchmark {
+
+    @Param({"1", "4"})
+    private int sections;
+
+    @Param({"2", "8"})
+    private int seatsPerSection;
+
+    private ObjectMapper objectMapper;
+    private JsonEventSerializer jsonEventSerializer;
+    private BinaryEventSerializer binaryEventSerializer;
+    private BookingRequestDto event;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        jsonEventSerializer = new JsonEventSerializer(objectMapper);
+        binaryEventSerializer = new BinaryEventSerializer(List.of(new BookingCompleteEventSchema()), jsonEventSerializer);
+        event = createEvent(sections, seatsPerSection);
+        json = jsonEventSerializer.serialize(event).payload();
+        binary = binaryEventSerializer.serialize(event).payload();
+        System.out.printf("%nsections=%d, seatsPerSection=%d : json=%d bytes, binary=%d bytes (%.1f%%)%n",
+                sections, seatsPerSection, json.length, binary.length, binary.length * 100.0 / json.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return jsonEventSerializer.serialize(event).payload();
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return binaryEventSerializer.serialize(event).payload();
+    }
+
+    @Benchmark
+    public Object jsonDecode() throws Exception {
+        return objectMapper.readValue(json, BookingRequestDto.class);
+    }
+
+    @Benchmark
+    public Object binaryDecode() {
+        return binaryEventSerializer.deserialize(binary);
+    }
+
+    private static BookingRequestDto createEvent(int sectionCount, int seatsPerSection) {
+        List<BookingSectionRequestDto> sectionRequests = new ArrayList<>(sectionCount);
+        for (int s = 0; s < sectionCount; s++) {
+            List<Long> seatIds = new ArrayList<>(seatsPerSection);
+            List<Integer> seatNumbers = new ArrayList<>(seatsPerSection);
+            for (int i = 0; i < seatsPerSection; i++) {
+                seatIds.add(1_000_000L + s * 1_000L + i);
+                seatNumbers.add(i + 1);
+            }
+            sectionRequests.add(new BookingSectionRequestDto(10L + s, "SECTION-" + s, 150000, seatIds, seatNumbers));
+        }
+        BookingSectionRequestDto first = sectionRequests.get(0);
+        BookingPerformanceRequestDto performance = new BookingPerformanceRequestDto(
+                100L, LocalDate.of(2026, 10, 18), LocalTime.of(19, 30), first.sectionName(), first.seatPrice(), false,
+                200L, first.sectionId(), first.seatIds(), first.seatNumber(), null,
+                sectionCount > 1 ? sectionRequests : null);
+        return new BookingRequestDto(7L, 200L, ServiceType.PERFORMANCE,
+                150000 * sectionCount * seatsPerSection, BookingStatus.COMPLETED, performance);
+    }
+}
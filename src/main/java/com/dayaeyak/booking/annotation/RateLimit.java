@@ -0,0 +1,14 @@
+package com.dayaeyak.booking.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 사용자(X-User-Id)별, 공연별 요청 수 제한 대상 API (booking.rate-limit.*)
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RateLimit {
+}
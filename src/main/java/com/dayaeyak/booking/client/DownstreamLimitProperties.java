@@ -0,0 +1,29 @@
+package com.dayaeyak.booking.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * 외부 서비스(Feign client 이름)별 동시 호출 수 제한
+ *
+ * booking.downstream.max-concurrent.{서비스 이름} : 동시 호출 수 (없으면 defaultMaxConcurrent)
+ * booking.downstream.acquire-timeout-ms          : 호출 슬롯 대기 시간, 초과 시 즉시 실패
+ */
+@ConfigurationProperties(prefix = "booking.downstream")
+public record DownstreamLimitProperties(
+        Integer defaultMaxConcurrent,
+        Map<String, Integer> maxConcurrent,
+        Long acquireTimeoutMs
+) {
+
+    public DownstreamLimitProperties {
+        defaultMaxConcurrent = defaultMaxConcurrent == null ? 200 : defaultMaxConcurrent;
+        maxConcurrent = maxConcurrent == null ? Map.of() : maxConcurrent;
+        acquireTimeoutMs = acquireTimeoutMs == null ? 1_000L : acquireTimeoutMs;
+    }
+
+    public int maxConcurrentOf(String downstream) {
+        return maxConcurrent.getOrDefault(downstream, defaultMaxConcurrent);
+    }
+}
@@ -0,0 +1,122 @@
+package com.dayaeyak.booking.client;
+
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import feign.Capability;
+import feign.Client;
+import feign.Response;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 Feign client 호출에 외부 서비스별 격리(bulkhead)와 circuit breaker 를 적용
+ *
+ * 외부 서비스 하나가 느려져도 그 서비스로 가는 호출만 실패하도록 서비스(Feign client 이름)별로 따로 관리합니다.
+ * - bulkhead        : 동시 호출 수 제한, 슬롯을 acquireTimeoutMs 안에 얻지 못하면 호출하지 않고 DOWNSTREAM_BUSY
+ * - circuit breaker : 실패/지연 비율이 기준을 넘으면 일정 시간 호출하지 않고 DOWNSTREAM_UNAVAILABLE
+ *                     (resilience4j.circuitbreaker.instances.{서비스 이름}, 없으면 default 설정)
+ * - timeout         : spring.cloud.openfeign.client.config.{서비스 이름} 의 connect/read timeout, 초과 시 실패로 집계
+ * 두 경우 모두 즉시 실패하므로 오케스트레이터는 기다리지 않고 보상 흐름을 진행합니다.
+ *
+ * 지표 : booking.downstream.inflight, booking.downstream.rejected{reason=bulkhead|circuit_open},
+ *        resilience4j.circuitbreaker.* (상태, 실패율, 호출 수)
+ */
+@Slf4j
+public class DownstreamResilienceCapability implements Capability {
+
+    private static final String REJECTED_BY_BULKHEAD = "bulkhead";
+    private static final String REJECTED_BY_CIRCUIT = "circuit_open";
+
+    private final DownstreamLimitProperties properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Semaphore> limits = new ConcurrentHashMap<>();
+
+    public DownstreamResilienceCapability(DownstreamLimitProperties properties,
+                                          CircuitBreakerRegistry circuitBreakerRegistry,
+                                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            String downstream = request.requestTemplate().feignTarget().name();
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(downstream);
+            if (!circuitBreaker.tryAcquirePermission()) {
+                reject(downstream, REJECTED_BY_CIRCUIT);
+                throw new CustomException(ErrorCode.DOWNSTREAM_UNAVAILABLE);
+            }
+
+            Semaphore permits = limits.computeIfAbsent(downstream, this::register);
+            try {
+                acquire(downstream, permits);
+            } catch (CustomException e) {
+                circuitBreaker.releasePermission(); // 호출하지 않았으므로 집계하지 않음
+                throw e;
+            }
+
+            long start = System.nanoTime();
+            try {
+                Response response = client.execute(request, options);
+                long elapsed = System.nanoTime() - start;
+                if (response.status() >= 500) {
+                    circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS,
+                            new IOException(downstream + " responded " + response.status()));
+                } else {
+                    circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                throw e;
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private void acquire(String downstream, Semaphore permits) {
+        try {
+            if (!permits.tryAcquire(properties.acquireTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                reject(downstream, REJECTED_BY_BULKHEAD);
+                throw new CustomException(ErrorCode.DOWNSTREAM_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.DOWNSTREAM_BUSY);
+        }
+    }
+
+    private void reject(String downstream, String reason) {
+        Counter.builder("booking.downstream.rejected")
+                .description("격리/차단으로 호출하지 않고 실패한 수")
+                .tag("downstream", downstream)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.warn("Downstream call rejected: downstream={}, reason={}", downstream, reason);
+    }
+
+    private Semaphore register(String downstream) {
+        int maxConcurrent = properties.maxConcurrentOf(downstream);
+        Semaphore permits = new Semaphore(maxConcurrent);
+        Gauge.builder("booking.downstream.inflight", permits, p -> maxConcurrent - p.availablePermits())
+                .description("외부 서비스 동시 호출 수")
+                .tag("downstream", downstream)
+                .register(meterRegistry);
+        return permits;
+    }
+}
@@ -14,6 +14,10 @@ public interface PaymentClient {
     @PostMapping("/payments/request")
     ApiResponse<PaymentRequestResponseDto> requestPayment(@RequestBody PaymentCreateRequestDto requestDto);
 
+    // 결제 접수만 하고 바로 응답 (결과는 payment-result 이벤트 또는 콜백으로 전달)
+    @PostMapping("/payments/request-async")
+    ApiResponse<PaymentRequestResponseDto> requestPaymentAsync(@RequestBody PaymentCreateRequestDto requestDto);
+
     @PostMapping("/payments/refund/{bookingId}")
     ApiResponse<Boolean> refundPayment(@PathVariable Long bookingId);
 
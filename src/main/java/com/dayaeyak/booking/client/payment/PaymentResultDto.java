@@ -0,0 +1,21 @@
+package com.dayaeyak.booking.client.payment;
+
+/**
+ * 비동기 결제 결과 (payment-result 이벤트, 결제 결과 콜백 공통)
+ *
+ * @param bookingId     결제 요청 시 전달한 예약 ID
+ * @param paymentId     결제 ID
+ * @param paymentStatus COMPLETED 면 결제 완료, 그 외는 결제 실패
+ * @param reason        실패 사유 (없으면 null)
+ */
+public record PaymentResultDto(
+        Long bookingId,
+        Long paymentId,
+        PaymentStatus paymentStatus,
+        String reason
+) {
+
+    public boolean isPaid() {
+        return paymentStatus == PaymentStatus.COMPLETED;
+    }
+}
@@ -28,12 +28,33 @@ public interface PerformanceClient {
             @PathVariable Long seatId,
             @RequestBody UpdateSeatSoldOutRequestDto requestDto);
 
+    // 같은 구역 여러 좌석 조회 (좌석 수와 관계없이 호출 1번)
+    @GetMapping("/performances/{performanceId}/sessions/{sessionId}/sections/{sectionId}/seats/batch")
+    public ApiResponse<List<SeatResponseDto>> readPerformanceSeatsByIds(
+            @PathVariable Long performanceId,
+            @PathVariable Long sessionId,
+            @PathVariable Long sectionId,
+            @RequestParam List<Long> seatIds);
+
+    // 같은 구역 여러 좌석 판매 여부 변경 (좌석 수와 관계없이 호출 1번)
+    @PostMapping("/performances/{performanceId}/sessions/{sessionId}/sections/{sectionId}/seats/sold-out")
+    public ApiResponse<List<SeatResponseDto>> changeIsSoldOutAll(
+            @PathVariable Long performanceId,
+            @PathVariable Long sessionId,
+            @PathVariable Long sectionId,
+            @RequestBody UpdateSeatsSoldOutRequestDto requestDto);
+
     @GetMapping("/performances/{performanceId}/sessions/{sessionId}/sections/{sectionId}/seats")
     public ApiResponse<List<SeatStatusDto>> readPerformanceSeats(
             @PathVariable Long performanceId,
             @PathVariable Long sessionId,
             @PathVariable Long sectionId);
 
+    @GetMapping("/performances/{performanceId}/sessions/{sessionId}/sections")
+    public ApiResponse<List<SectionResponseDto>> readPerformanceSections(
+            @PathVariable Long performanceId,
+            @PathVariable Long sessionId);
+
     }
 
 
@@ -0,0 +1,7 @@
+package com.dayaeyak.booking.client.performance;
+
+public record SectionResponseDto(
+        Long sectionId,
+        String sectionName
+) {
+}
@@ -0,0 +1,10 @@
+package com.dayaeyak.booking.client.performance;
+
+import java.util.List;
+
+// 같은 구역 여러 좌석의 판매 여부를 한 번에 변경
+public record UpdateSeatsSoldOutRequestDto(
+        List<Long> seatIds,
+        Boolean isSoldOut
+) {
+}
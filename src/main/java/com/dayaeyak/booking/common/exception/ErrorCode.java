@@ -15,10 +15,15 @@ public enum ErrorCode {
     ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, " Entity Not Found"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Server Error"),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST,  "유효하지 않은 타입입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // Booking
     BOOKING_NOT_FOUND(HttpStatus.NOT_FOUND,  "해당 예약을 찾을 수 없습니다."),
+    BOOKING_SAGA_NOT_FOUND(HttpStatus.NOT_FOUND, "예약 진행 정보를 찾을 수 없습니다."),
+    BOOKING_SAGA_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "예약 요청이 많아 접수할 수 없습니다. 잠시 후 다시 시도해주세요."),
     DUPLICATE_BOOKING(HttpStatus.CONFLICT, "이미 예약된 시간입니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
 
     // Booking Detail
     BOOKING_DETAIL_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 예약 상세 정보를 찾을 수 없습니다."),
@@ -27,7 +32,19 @@ public enum ErrorCode {
     // Orchestration & External Services
     SEAT_ALREADY_SOLD(HttpStatus.CONFLICT, "이미 판매된 좌석입니다."),
     SEAT_ALREADY_LOCKED(HttpStatus.CONFLICT, "이미 다른 사용자가 선점한 좌석입니다."),
+    SEAT_HOLD_EXPIRED(HttpStatus.CONFLICT, "좌석 선점 시간이 만료되었습니다."),
+    SEAT_MAP_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "좌석 정보를 불러오는 중입니다. 잠시 후 다시 시도해주세요."),
+    SEAT_PREWARM_IN_PROGRESS(HttpStatus.CONFLICT, "이미 좌석 정보 사전 로딩이 진행 중입니다."),
+    SEAT_PREWARM_NOT_FOUND(HttpStatus.NOT_FOUND, "좌석 정보 사전 로딩 이력이 없습니다."),
+    SEAT_PREWARM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "진행 중인 좌석 정보 사전 로딩이 많습니다. 잠시 후 다시 시도해주세요."),
+    SEAT_AVAILABILITY_NOT_FOUND(HttpStatus.NOT_FOUND, "좌석 현황 정보가 없습니다."),
     PAYMENT_FAILED(HttpStatus.BAD_REQUEST, "결제에 실패했습니다."),
+    PAYMENT_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "결제 결과 확인 시간이 초과되었습니다."),
+    PAYMENT_RESULT_MISMATCH(HttpStatus.FORBIDDEN, "예약의 결제와 일치하지 않는 결제 결과입니다."),
+    PAYMENT_RESULT_NOT_READY(HttpStatus.CONFLICT, "결제 접수를 처리 중입니다. 잠시 후 다시 전달해주세요."),
+    PAYMENT_CALLBACK_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "결제 결과 서명이 올바르지 않습니다."),
+    DOWNSTREAM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    DOWNSTREAM_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 서비스 장애로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     INSUFFICIENT_SEATS(HttpStatus.CONFLICT, "좌석이 부족합니다."),
 
     SEAT_NOT_AVAILABLE(HttpStatus.NOT_FOUND, "좌석이 충분하지 않습니다."),
@@ -35,6 +52,10 @@ public enum ErrorCode {
     CANCELLATION_PERIOD_EXPIRED(HttpStatus.NOT_FOUND, " 취소 기간이 만료되었습니다."),
     ALREADY_CANCELLED_BOOKING(HttpStatus.NOT_FOUND, " 이미 취소된 예약입니다."),
 
+    // Waiting Room
+    WAITING_TOKEN_REQUIRED(HttpStatus.FORBIDDEN, "대기열 입장 후 예약할 수 있습니다."),
+    WAITING_TOKEN_INVALID(HttpStatus.FORBIDDEN, "유효하지 않거나 입장 시간이 만료된 대기열 token 입니다."),
+
     //AuthorizationErrorCode
     INVALID_USER_ID(HttpStatus.BAD_REQUEST, "유효하지 않은 유저 ID입니다."),
     INVALID_USER_ROLE(HttpStatus.BAD_REQUEST, "유효하지 않은 유저 권한입니다."),
@@ -2,6 +2,7 @@
 package com.dayaeyak.booking.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -17,12 +18,27 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(CustomException.class)
     protected ResponseEntity<ErrorResponse> handleCustomException(CustomException e) {
-        log.error("handleCustomException", e);
         final ErrorCode errorCode = e.getErrorCode();
+        if (errorCode == ErrorCode.TOO_MANY_REQUESTS) {
+            log.debug("handleCustomException: {}", errorCode); // 요청 폭주 시 로그 비용 최소화
+        } else {
+            log.error("handleCustomException", e);
+        }
         final ErrorResponse response = ErrorResponse.of(errorCode);
         return new ResponseEntity<>(response, errorCode.getStatus());
     }
 
+    /**
+     * 요청 수 제한 초과, 다시 시도할 수 있는 시간을 Retry-After 로 전달
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.debug("handleTooManyRequestsException: retryAfter={}s", e.getRetryAfterSeconds()); // 요청 폭주 시 로그 비용 최소화
+        return ResponseEntity.status(ErrorCode.TOO_MANY_REQUESTS.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ErrorResponse.of(ErrorCode.TOO_MANY_REQUESTS));
+    }
+
     /**
      * @Valid 에서 binding error 발생
      */
@@ -0,0 +1,17 @@
+package com.dayaeyak.booking.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 수 제한 초과 (429), GlobalExceptionHandler 에서 Retry-After 헤더로 응답
+ */
+@Getter
+public class TooManyRequestsException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,51 @@
+package com.dayaeyak.booking.config;
+
+import com.dayaeyak.booking.orchestration.saga.BookingSagaExecutorProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 예약 saga 전용 thread pool
+ *
+ * 기본 @Async executor 는 queue 제한이 없어 몰리는 시간에 접수(202)된 saga 가 좌석 선점 만료, 복구 대기 시간을 넘겨
+ * 대기할 수 있으므로 크기를 제한하고, 가득 차면 AbortPolicy 로 거절해 접수 단계에서 503 으로 응답합니다.
+ *
+ * spring.threads.virtual.enabled 면 saga 를 가상 스레드에서 실행하되(결제/외부 호출 대기 중 플랫폼 스레드 점유 없음),
+ * 동시 실행 수와 대기열 제한은 그대로 max-pool-size / queue-capacity 를 따릅니다.
+ *
+ * 전용 Executor bean 이 있으면 Spring Boot 가 기본 applicationTaskExecutor 를 만들지 않으므로
+ * spring.task.execution.mode=force 로 기본 executor 를 유지해, 이름 없는 @Async 가 이 pool 을 쓰지 않도록 합니다.
+ *
+ * 지표 : executor.*{name=bookingSagaExecutor} (실행 중, 대기, 완료 수)
+ */
+@Configuration
+@EnableConfigurationProperties(BookingSagaExecutorProperties.class)
+public class BookingSagaExecutorConfig {
+
+    public static final String BOOKING_SAGA_EXECUTOR = "bookingSagaExecutor";
+
+    @Bean(name = BOOKING_SAGA_EXECUTOR)
+    public ThreadPoolTaskExecutor bookingSagaExecutor(BookingSagaExecutorProperties properties, Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setMaxPoolSize(properties.maxPoolSize());
+        executor.setQueueCapacity(properties.queueCapacity());
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // 가상 스레드는 만드는 비용이 작으므로 max 까지 바로 실행하고, 그 뒤부터 대기열 사용
+            executor.setCorePoolSize(properties.maxPoolSize());
+            executor.setThreadFactory(Thread.ofVirtual().name("booking-saga-", 0).factory());
+        } else {
+            executor.setCorePoolSize(properties.corePoolSize());
+            executor.setThreadNamePrefix("booking-saga-");
+        }
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(properties.awaitTerminationSeconds());
+        return executor;
+    }
+}
@@ -0,0 +1,24 @@
+package com.dayaeyak.booking.config;
+
+import com.dayaeyak.booking.client.DownstreamLimitProperties;
+import com.dayaeyak.booking.client.DownstreamResilienceCapability;
+import feign.Capability;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(DownstreamLimitProperties.class)
+public class FeignConfig {
+
+    // 모든 Feign client 에 공통 적용 (OpenFeign 이 Capability Bean 을 자동으로 적용)
+    // CircuitBreakerRegistry 는 resilience4j.circuitbreaker.* 설정으로 자동 구성 (상태/실패율 지표 포함)
+    @Bean
+    public Capability downstreamResilienceCapability(DownstreamLimitProperties properties,
+                                                     CircuitBreakerRegistry circuitBreakerRegistry,
+                                                     MeterRegistry meterRegistry) {
+        return new DownstreamResilienceCapability(properties, circuitBreakerRegistry, meterRegistry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.dayaeyak.booking.config;
+
+import com.dayaeyak.booking.client.payment.PaymentResultDto;
+import com.dayaeyak.booking.orchestration.saga.AsyncPaymentProperties;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 결제 결과(payment-result) 수신용 Kafka consumer
+ *
+ * - 처리 후 offset 을 commit 하므로 인스턴스가 죽으면 다시 받을 수 있음 (결과 처리는 중복 수신에 안전)
+ * - 처리 실패는 1초 간격으로 재시도 후 건너뜀, 반영하지 못한 결과는 결과 대기 시간 초과 시 보상으로 정리
+ * - 역직렬화할 수 없는 메시지는 재시도하지 않고 건너뜀
+ */
+@Configuration
+@EnableConfigurationProperties({KafkaConsumerProperties.class, AsyncPaymentProperties.class})
+public class KafkaConsumerConfig {
+
+    private static final long RETRY_INTERVAL_MS = 1_000L;
+    private static final long MAX_RETRIES = 5L;
+
+    @Bean
+    public ConsumerFactory<String, PaymentResultDto> paymentResultConsumerFactory(KafkaConsumerProperties properties) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, properties.bootstrapServers());
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, properties.groupId());
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        // 결제 서비스의 타입 header 와 무관하게 PaymentResultDto 로 읽음
+        JsonDeserializer<PaymentResultDto> valueDeserializer = new JsonDeserializer<>(PaymentResultDto.class, false);
+        return new DefaultKafkaConsumerFactory<>(
+                configProps,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(valueDeserializer));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentResultDto> paymentResultListenerContainerFactory(
+            ConsumerFactory<String, PaymentResultDto> paymentResultConsumerFactory,
+            KafkaConsumerProperties properties) {
+        ConcurrentKafkaListenerContainerFactory<String, PaymentResultDto> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(paymentResultConsumerFactory);
+        factory.setConcurrency(properties.concurrency());
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(RETRY_INTERVAL_MS, MAX_RETRIES)));
+        return factory;
+    }
+}
@@ -0,0 +1,22 @@
+package com.dayaeyak.booking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Kafka consumer 설정 (booking.kafka.consumer.*)
+ *
+ * concurrency : topic partition 을 나눠 읽을 consumer 스레드 수 (partition 수보다 많으면 남는 스레드는 쉼)
+ */
+@ConfigurationProperties(prefix = "booking.kafka.consumer")
+public record KafkaConsumerProperties(
+        String bootstrapServers,
+        String groupId,
+        Integer concurrency
+) {
+
+    public KafkaConsumerProperties {
+        bootstrapServers = bootstrapServers == null ? "13.209.66.160:9092" : bootstrapServers;
+        groupId = groupId == null ? "booking-service" : groupId;
+        concurrency = concurrency == null ? 3 : concurrency;
+    }
+}
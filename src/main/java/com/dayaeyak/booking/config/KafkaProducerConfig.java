@@ -1,104 +1,95 @@
 package com.dayaeyak.booking.config;
-import com.dayaeyak.booking.domain.booking.dto.kafka.BookingCancelRequestDto;
-import com.dayaeyak.booking.domain.booking.dto.kafka.BookingRequestKafkaDto;
-import com.dayaeyak.booking.domain.booking.dto.kafka.RestaurantBookCancelDto;
-import com.dayaeyak.booking.domain.booking.dto.kafka.RestaurantBookConfirmDto;
-import com.dayaeyak.booking.domain.booking.dto.request.BookingPerformanceRequestDto;
-import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+
+import com.dayaeyak.booking.event.EventFormatProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.BufferExhaustedException;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.support.ProducerListener;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+/**
+ * 공용 Kafka producer (인스턴스당 producer 1개, 연결/버퍼 풀 공유)
+ *
+ * 값 직렬화는 타입별로 나눕니다.
+ * - byte[] : 이미 인코딩된 outbox payload (JSON 또는 binary) 를 그대로 전송
+ * - String : 문자열 그대로 전송
+ * - 그 외  : JsonSerializer (타입 header 포함)
+ *
+ * 지표
+ * - spring.kafka.template          : send 부터 broker 응답까지 지연 (KafkaTemplate 기본 timer)
+ * - kafka.producer.*               : producer client 지표 (buffer 대기 시간, buffer 고갈 횟수, batch 크기 등)
+ * - booking.kafka.send.errors      : topic/예외별 발행 실패 수
+ */
+@Slf4j
 @Configuration
+@EnableConfigurationProperties({KafkaProducerProperties.class, EventFormatProperties.class})
 public class KafkaProducerConfig {
 
-    //private final String SERVER = "localhost:9092";
-    private final String SERVER = "13.209.66.160:9092";
-
     @Bean
-    public Map<String, Object> getStringObjectMap() {
+    public Map<String, Object> producerConfigs(KafkaProducerProperties properties) {
         Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, SERVER);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, properties.bootstrapServers());
+        configProps.put(ProducerConfig.ACKS_CONFIG, properties.acks());
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, properties.enableIdempotence());
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5); // idempotence 로 순서 보장되는 최대값
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, properties.lingerMs());
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, properties.batchSize());
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, properties.compressionType());
+        configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, properties.bufferMemory());
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, properties.maxBlockMs());
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, properties.deliveryTimeoutMs());
         return configProps;
     }
 
     @Bean
-    public Map<String, Object> producerConfigs() {
-        return getStringObjectMap();
-
-    }
-
-    @Bean
-    public ProducerFactory<String, BookingRequestKafkaDto> ProducerFactoryBR() {
-        return new DefaultKafkaProducerFactory<>(producerConfigs());
-    }
-
-    @Bean
-    public KafkaTemplate<String, BookingRequestKafkaDto> kafkaTemplateBR() {
-        return new KafkaTemplate<>(ProducerFactoryBR());
-    }
-
-    @Bean
-    public ProducerFactory<String, BookingCancelRequestDto> ProducerFactoryBC() {
-        return new DefaultKafkaProducerFactory<>(producerConfigs());
-    }
-
-    @Bean
-    public KafkaTemplate<String, BookingCancelRequestDto> kafkaTemplateBC() {
-        return new KafkaTemplate<>(ProducerFactoryBC());
-    }
-
-    @Bean
-    public ProducerFactory<String, RestaurantBookConfirmDto> ProducerFactoryRBC() {
-        return new DefaultKafkaProducerFactory<>(producerConfigs());
-    }
-
-    @Bean
-    public KafkaTemplate<String, RestaurantBookConfirmDto> kafkaTemplateRBC() {
-        return new KafkaTemplate<>(ProducerFactoryRBC());
-    }
-
-    @Bean
-    public ProducerFactory<String, RestaurantBookCancelDto> ProducerFactorRBCa() {
-        return new DefaultKafkaProducerFactory<>(producerConfigs());
-    }
-
-    @Bean
-    public KafkaTemplate<String, RestaurantBookCancelDto> kafkaTemplateRBCa() {
-        return new KafkaTemplate<>(ProducerFactorRBCa());
-    }
-
-    // BookingPerformanceRequestDto를 위한 ProducerFactory
-    @Bean
-    public ProducerFactory<String, BookingRequestDto> ProducerFactoryBPR() {
-        return new DefaultKafkaProducerFactory<>(producerConfigs());
+    public ProducerFactory<String, Object> producerFactory(Map<String, Object> producerConfigs,
+                                                           MeterRegistry meterRegistry) {
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>(); // 앞에서부터 타입 확인
+        valueSerializers.put(byte[].class, new ByteArraySerializer());
+        valueSerializers.put(String.class, new StringSerializer());
+        valueSerializers.put(Object.class, new JsonSerializer<>());
+
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(
+                producerConfigs,
+                new StringSerializer(),
+                new DelegatingByTypeSerializer(valueSerializers, true));
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
-    // BookingPerformanceRequestDto를 위한 KafkaTemplate
     @Bean
-    public KafkaTemplate<String, BookingRequestDto> kafkaTemplateBPR() {
-        return new KafkaTemplate<>(ProducerFactoryBPR());
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory,
+                                                       MeterRegistry meterRegistry) {
+        KafkaTemplate<String, Object> template = new KafkaTemplate<>(producerFactory);
+        template.setMicrometerEnabled(true);
+        template.setProducerListener(new ProducerListener<>() {
+            @Override
+            public void onError(ProducerRecord<String, Object> record, RecordMetadata recordMetadata,
+                                Exception exception) {
+                meterRegistry.counter("booking.kafka.send.errors",
+                        "topic", record.topic(),
+                        "exception", exception.getClass().getSimpleName(),
+                        "bufferExhausted", String.valueOf(exception instanceof BufferExhaustedException))
+                        .increment();
+                log.warn("Kafka send failed: topic={}, key={}, err={}",
+                        record.topic(), record.key(), exception.getMessage());
+            }
+        });
+        return template;
     }
-
-    @Bean
-    public ProducerFactory<String, Object> genericProducerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerConfigs());
-    }
-
-    @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(genericProducerFactory());
-    }
-
-
 }
-
-
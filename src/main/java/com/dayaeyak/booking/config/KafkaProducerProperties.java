@@ -0,0 +1,36 @@
+package com.dayaeyak.booking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 공용 Kafka producer 설정 (booking.kafka.producer.*)
+ *
+ * 처리량 : linger-ms 동안 모아 batch-size 단위로 압축(compression-type)해 전송
+ * 안정성 : acks=all + idempotence 로 재시도 시에도 partition 내 순서 유지, 중복 없음
+ * 보호   : buffer-memory 가 가득 차면 send 가 max-block-ms 까지 대기 후 실패
+ */
+@ConfigurationProperties(prefix = "booking.kafka.producer")
+public record KafkaProducerProperties(
+        String bootstrapServers,
+        String acks,
+        Boolean enableIdempotence,
+        Integer lingerMs,
+        Integer batchSize,
+        String compressionType,
+        Long bufferMemory,
+        Long maxBlockMs,
+        Integer deliveryTimeoutMs
+) {
+
+    public KafkaProducerProperties {
+        bootstrapServers = bootstrapServers == null ? "13.209.66.160:9092" : bootstrapServers;
+        acks = acks == null ? "all" : acks;
+        enableIdempotence = enableIdempotence == null ? Boolean.TRUE : enableIdempotence;
+        lingerMs = lingerMs == null ? 20 : lingerMs;
+        batchSize = batchSize == null ? 64 * 1024 : batchSize;
+        compressionType = compressionType == null ? "lz4" : compressionType;
+        bufferMemory = bufferMemory == null ? 32L * 1024 * 1024 : bufferMemory;
+        maxBlockMs = maxBlockMs == null ? 5_000L : maxBlockMs;
+        deliveryTimeoutMs = deliveryTimeoutMs == null ? 120_000 : deliveryTimeoutMs;
+    }
+}
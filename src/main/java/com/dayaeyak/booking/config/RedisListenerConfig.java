@@ -0,0 +1,37 @@
+package com.dayaeyak.booking.config;
+
+import com.dayaeyak.booking.domain.booking.BookingCache;
+import com.dayaeyak.booking.domain.booking.BookingCacheProperties;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaEventHub;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaStore;
+import com.dayaeyak.booking.seat.SeatAvailabilityCache;
+import com.dayaeyak.booking.seat.SeatAllocationProperties;
+import com.dayaeyak.booking.seat.SeatCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@EnableConfigurationProperties({BookingCacheProperties.class, SeatCacheProperties.class, SeatAllocationProperties.class})
+public class RedisListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            SeatAvailabilityCache seatAvailabilityCache,
+            BookingSagaEventHub bookingSagaEventHub,
+            BookingCache bookingCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        // Lua Script 가 발행하는 좌석 변경 알림 구독
+        container.addMessageListener(seatAvailabilityCache, new ChannelTopic(SeatAvailabilityCache.SEAT_CHANGE_CHANNEL));
+        // 비동기 예약 완료 알림 구독 (SSE 전달)
+        container.addMessageListener(bookingSagaEventHub, new ChannelTopic(BookingSagaStore.SAGA_EVENT_CHANNEL));
+        // 예약 변경 시 인스턴스 내부 예약 캐시 무효화
+        container.addMessageListener(bookingCache, new ChannelTopic(BookingCache.BOOKING_EVICT_CHANNEL));
+        return container;
+    }
+}
@@ -5,9 +5,27 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 
+import java.util.List;
+
 @Configuration
 public class RedisLuaConfig {
 
+    @Bean
+    public DefaultRedisScript<Long> initSeatMapScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/initSeatMap.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<Long> compareAndDeleteScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/compareAndDelete.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
     @Bean
     public DefaultRedisScript<Long> lockSeatsScript() {
         DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
@@ -31,4 +49,124 @@ public class RedisLuaConfig {
         redisScript.setResultType(Long.class);
         return redisScript;
     }
+
+    @Bean
+    public DefaultRedisScript<Long> initSeatBitmapScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/bitmap/initSeatBitmap.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<Long> lockSeatBitmapScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/bitmap/tryLockSeatBitmap.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<Long> confirmSeatBitmapScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/bitmap/confirmSeatBitmap.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<Long> releaseSeatBitmapScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/bitmap/releaseSeatBitmap.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<List> allocateSeatsScript() {
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/allocateSeats.lua"));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<List> allocateSeatBitmapScript() {
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/bitmap/allocateSeatBitmap.lua"));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<Long> releaseHoldsScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/releaseHolds.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<Long> releaseHoldsBitmapScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/bitmap/releaseHoldsBitmap.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<List> claimReleaseJobsScript() {
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/claimReleaseJobs.lua"));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<List> enterWaitingRoomScript() {
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/waiting/enterWaitingRoom.lua"));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<List> admitWaitingRoomScript() {
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/waiting/admitWaitingRoom.lua"));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<List> tokenBucketScript() {
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/tokenBucket.lua"));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<List> beginIdempotentRequestScript() {
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/beginIdempotentRequest.lua"));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<Long> completeIdempotentRequestScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/completeIdempotentRequest.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean
+    public DefaultRedisScript<Long> setBookingCacheIfNewerScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("lua/setBookingCacheIfNewer.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
 }
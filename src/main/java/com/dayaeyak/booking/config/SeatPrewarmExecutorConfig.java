@@ -0,0 +1,33 @@
+package com.dayaeyak.booking.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 좌석 사전 로딩 전용 thread pool
+ *
+ * 회차 단위로 드물게 실행되는 작업이므로 작게 두고, saga 전용 pool 과 분리해 예약 처리 자리를 차지하지 않도록 합니다.
+ * 가득 차면 AbortPolicy 로 거절하며, SeatPrewarmService 가 잠금을 풀고 503 으로 응답합니다.
+ */
+@Configuration
+public class SeatPrewarmExecutorConfig {
+
+    public static final String SEAT_PREWARM_EXECUTOR = "seatPrewarmExecutor";
+
+    private static final int POOL_SIZE = 2;
+    private static final int QUEUE_CAPACITY = 20;
+
+    @Bean(name = SEAT_PREWARM_EXECUTOR)
+    public ThreadPoolTaskExecutor seatPrewarmExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(POOL_SIZE);
+        executor.setMaxPoolSize(POOL_SIZE);
+        executor.setQueueCapacity(QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("seat-prewarm-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
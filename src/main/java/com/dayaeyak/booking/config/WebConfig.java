@@ -1,11 +1,16 @@
 package com.dayaeyak.booking.config;
 
 
+import com.dayaeyak.booking.idempotency.IdempotencyProperties;
 import com.dayaeyak.booking.interceptor.AuthorizationInterceptor;
+import com.dayaeyak.booking.interceptor.RateLimitInterceptor;
+import com.dayaeyak.booking.ratelimit.RateLimitProperties;
 import com.dayaeyak.booking.resolver.PassportHolderArgumentResolver;
+import com.dayaeyak.booking.waiting.WaitingRoomProperties;
 
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -15,15 +20,19 @@ import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties({WaitingRoomProperties.class, RateLimitProperties.class, IdempotencyProperties.class})
 public class WebConfig implements WebMvcConfigurer {
 
     private final AuthorizationInterceptor authorizationInterceptor;
 
+    private final RateLimitInterceptor rateLimitInterceptor;
+
     private final PassportHolderArgumentResolver passportHolderArgumentResolver;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(authorizationInterceptor);
+        registry.addInterceptor(rateLimitInterceptor); // @RateLimit API 만 적용
     }
 
     @Override
@@ -17,7 +17,13 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
-@Table(name = "bookings")
+@Table(name = "bookings",
+        indexes = {
+                @Index(name = "idx_bookings_created_at_id", columnList = "created_at, id"),
+                // 서비스별 조회 : 앞 3개 컬럼으로 조건/정렬, 뒤 컬럼은 index-only scan 용 (조회 컬럼)
+                @Index(name = "idx_bookings_service_created_at",
+                        columnList = "service_type, service_id, created_at, id, status, user_id")
+        })
 @Entity
 public class Booking extends BaseEntity {
 
@@ -0,0 +1,171 @@
+package com.dayaeyak.booking.domain.booking;
+
+import com.dayaeyak.booking.domain.booking.dto.response.BookingFindResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 예약 단건 조회 캐시 (인스턴스 내부 Caffeine → Redis → DB)
+ *
+ * 결제 이후 다른 서비스가 예약 상태를 반복 조회하므로, 조회는 캐시에서 응답하고
+ * 예약을 변경하는 메서드는 commit 이후 변경된 값을 캐시에 기록(write-through)합니다.
+ * - Redis 값은 예약 updatedAt 을 version 으로 함께 저장하고, 더 새로운 version 일 때만 덮어씀
+ *   (commit 전 값을 읽은 조회가 commit 후 기록된 값을 늦게 덮어써도 반영되지 않음)
+ * - 다른 인스턴스의 내부 캐시는 booking:cache:evict 채널 알림으로 삭제 (알림 유실 시 local-ttl 안에 맞춰짐)
+ * Redis 기록에 실패하면 Redis 값을 지우고, Redis 장애 시에는 캐시 없이 DB 에서 조회합니다.
+ *
+ * 지표 : cache.gets{cache=booking} (내부 캐시), booking.cache.requests{level=redis, result=hit|miss|error}
+ */
+@Slf4j
+@Component
+public class BookingCache implements MessageListener {
+
+    public static final String BOOKING_EVICT_CHANNEL = "booking:cache:evict";
+    private static final String KEY_PREFIX = "booking:cache:";
+    private static final String DATA_FIELD = "data";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> setBookingCacheIfNewerScript;
+    private final ObjectMapper objectMapper;
+    private final BookingCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<Long, BookingFindResponseDto> bookings;
+
+    public BookingCache(RedisTemplate<String, String> redisTemplate,
+                        DefaultRedisScript<Long> setBookingCacheIfNewerScript,
+                        ObjectMapper objectMapper,
+                        BookingCacheProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.setBookingCacheIfNewerScript = setBookingCacheIfNewerScript;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.bookings = Caffeine.newBuilder()
+                .maximumSize(properties.localMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.localTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, bookings, "booking");
+    }
+
+    // 같은 인스턴스의 동시 miss 는 한 번만 Redis/DB 조회
+    public BookingFindResponseDto get(Long bookingId, Function<Long, Booking> loader) {
+        if (!properties.enabled()) {
+            return BookingFindResponseDto.from(loader.apply(bookingId));
+        }
+        return bookings.get(bookingId, id -> loadThroughRedis(id, loader));
+    }
+
+    // 트랜잭션 안이면 commit 이후 변경된 값 기록 (updatedAt 은 commit 시 flush 에서 갱신됨)
+    public void updateAfterCommit(Booking booking) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(booking);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(booking);
+            }
+        });
+    }
+
+    private void update(Booking booking) {
+        Long bookingId = booking.getId();
+        BookingFindResponseDto response = BookingFindResponseDto.from(booking);
+        bookings.put(bookingId, response);
+        try {
+            write(bookingId, booking.getUpdatedAt(), response);
+            redisTemplate.convertAndSend(BOOKING_EVICT_CHANNEL, String.valueOf(bookingId));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to update booking cache: bookingId={}, err={}", bookingId, e.getMessage());
+            bookings.invalidate(bookingId);
+            try {
+                redisTemplate.delete(KEY_PREFIX + bookingId);
+            } catch (RuntimeException deleteError) {
+                log.warn("Failed to evict booking cache: bookingId={}, err={}", bookingId, deleteError.getMessage());
+            }
+        }
+    }
+
+    private BookingFindResponseDto loadThroughRedis(Long bookingId, Function<Long, Booking> loader) {
+        try {
+            Object cached = redisTemplate.opsForHash().get(KEY_PREFIX + bookingId, DATA_FIELD);
+            if (cached != null) {
+                count("hit");
+                return objectMapper.readValue((String) cached, BookingFindResponseDto.class);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            count("error");
+            log.warn("Failed to read booking cache: bookingId={}, err={}", bookingId, e.getMessage());
+            return BookingFindResponseDto.from(loader.apply(bookingId));
+        }
+
+        count("miss");
+        Booking booking = loader.apply(bookingId);
+        BookingFindResponseDto response = BookingFindResponseDto.from(booking);
+        try {
+            write(bookingId, booking.getUpdatedAt(), response);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to write booking cache: bookingId={}, err={}", bookingId, e.getMessage());
+        }
+        return response;
+    }
+
+    // 이미 더 새로운 version 이 있으면 기록하지 않음
+    private void write(Long bookingId, LocalDateTime updatedAt, BookingFindResponseDto response)
+            throws JsonProcessingException {
+        redisTemplate.execute(
+                setBookingCacheIfNewerScript,
+                List.of(KEY_PREFIX + bookingId),
+                String.valueOf(version(updatedAt)),
+                objectMapper.writeValueAsString(response),
+                String.valueOf(Duration.ofSeconds(properties.redisTtlSeconds()).toMillis())
+        );
+    }
+
+    // updatedAt (epoch microseconds, DB 저장 정밀도)
+    private static long version(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return 0L;
+        }
+        return updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + updatedAt.getNano() / 1_000;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            bookings.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid booking evict message: {}", body);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("booking.cache.requests", "level", "redis", "result", result).increment();
+    }
+}
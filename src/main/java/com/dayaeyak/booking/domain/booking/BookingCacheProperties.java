@@ -0,0 +1,26 @@
+package com.dayaeyak.booking.domain.booking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 예약 단건 조회 캐시 설정 (booking.cache.*)
+ *
+ * local-ttl-seconds : 인스턴스 내부(Caffeine) 캐시 유지 시간, 무효화 알림이 유실되어도 이 시간 안에 Redis 기준으로 맞춰짐
+ * local-max-size    : 인스턴스 내부 캐시 최대 예약 수
+ * redis-ttl-seconds : Redis 캐시 유지 시간
+ */
+@ConfigurationProperties(prefix = "booking.cache")
+public record BookingCacheProperties(
+        Boolean enabled,
+        Long localTtlSeconds,
+        Long localMaxSize,
+        Long redisTtlSeconds
+) {
+
+    public BookingCacheProperties {
+        enabled = enabled == null ? Boolean.TRUE : enabled;
+        localTtlSeconds = localTtlSeconds == null ? 5L : localTtlSeconds;
+        localMaxSize = localMaxSize == null ? 10_000L : localMaxSize;
+        redisTtlSeconds = redisTtlSeconds == null ? 600L : redisTtlSeconds;
+    }
+}
@@ -1,27 +1,53 @@
 package com.dayaeyak.booking.domain.booking;
 
 import com.dayaeyak.booking.annotation.Authorize;
+import com.dayaeyak.booking.annotation.PassportHolder;
+import com.dayaeyak.booking.annotation.RateLimit;
+import com.dayaeyak.booking.common.dto.Passport;
 import com.dayaeyak.booking.common.enums.UserRole;
 import com.dayaeyak.booking.domain.booking.dto.request.*;
 import com.dayaeyak.booking.domain.booking.dto.response.BookingCreateResponseDto;
 import com.dayaeyak.booking.domain.booking.dto.response.BookingFindResponseDto;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingPageResponseDto;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingServiceSummaryResponseDto;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingSummaryResponseDto;
+import com.dayaeyak.booking.domain.booking.enums.BookingStatus;
+import com.dayaeyak.booking.domain.booking.enums.ServiceType;
+import com.dayaeyak.booking.idempotency.IdempotencyService;
 import com.dayaeyak.booking.orchestration.BookingOrchestrator;
+import com.dayaeyak.booking.orchestration.dto.response.BookingSagaResponseDto;
+import com.dayaeyak.booking.orchestration.saga.AsyncPaymentSagaService;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaService;
+import com.dayaeyak.booking.orchestration.saga.PaymentCallbackVerifier;
 import com.dayaeyak.booking.utils.ApiResponse;
+import com.dayaeyak.booking.waiting.WaitingRoomService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/bookings")
 public class BookingController {
 
+    private static final String ADMISSION_TOKEN_HEADER = "X-Admission-Token"; // 대기열 입장 token
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key"; // 재시도 시 같은 결과 응답
+    private static final String PAYMENT_SIGNATURE_HEADER = "X-Payment-Signature"; // 결제 결과 콜백 HMAC 서명
+
     private final BookingService bookingService;
     private final BookingOrchestrator bookingOrchestrator;
+    private final BookingSagaService bookingSagaService;
+    private final AsyncPaymentSagaService asyncPaymentSagaService;
+    private final PaymentCallbackVerifier paymentCallbackVerifier;
+    private final WaitingRoomService waitingRoomService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<BookingCreateResponseDto>> createBooking(
@@ -38,8 +64,15 @@ public class BookingController {
 
     @Authorize(roles = { UserRole.MASTER})
     @GetMapping
-    public ResponseEntity<ApiResponse<List<BookingFindResponseDto>>> findBookings(){
-        return ApiResponse.success(HttpStatus.OK, bookingService.findBookings());
+    public ResponseEntity<ApiResponse<BookingPageResponseDto<BookingSummaryResponseDto>>> findBookings(
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) ServiceType serviceType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size){
+        BookingSearchCondition condition = new BookingSearchCondition(serviceType, null, status, from, to);
+        return ApiResponse.success(HttpStatus.OK, bookingService.findBookings(condition, cursor, size));
     }
 
     @Authorize(roles = { UserRole.MASTER})
@@ -65,16 +98,69 @@ public class BookingController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<BookingFindResponseDto>>> findBookingsByService(
-            @RequestBody BookingFindByServiceDto requestDto) {
-        return ApiResponse.success(HttpStatus.OK, bookingService.findBookingsByService(requestDto));
-
+    public ResponseEntity<ApiResponse<BookingPageResponseDto<BookingServiceSummaryResponseDto>>> findBookingsByService(
+            @RequestBody BookingFindByServiceDto requestDto,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ApiResponse.success(HttpStatus.OK,
+                bookingService.findBookingsByService(requestDto, status, from, to, cursor, size));
     }
 
+    @RateLimit
     @PostMapping("/orchestration")
     public ResponseEntity<ApiResponse<BookingCreateResponseDto>> orchestration(
-            @RequestBody BookingRequestDto requestDto){
-        return ApiResponse.success(HttpStatus.OK, bookingOrchestrator.orchestrateBooking(requestDto));
+            @RequestBody BookingRequestDto requestDto,
+            @RequestHeader(value = ADMISSION_TOKEN_HEADER, required = false) String admissionToken,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @PassportHolder Passport passport){
+        // 입장 확인은 결과 보관 대상이 아님 (대기 중 재시도가 403 을 재생하지 않도록 idempotent 처리 밖에서 확인)
+        waitingRoomService.verifyAdmission(requestDto, admissionToken);
+        BookingCreateResponseDto response = idempotencyService.execute(
+                idempotencyKey, passport.userId(), requestDto, BookingCreateResponseDto.class,
+                () -> bookingOrchestrator.orchestrateBooking(requestDto));
+        return ApiResponse.success(HttpStatus.OK, response);
+    }
+
+    // 좌석 선점까지만 처리하고 202 반환, 나머지는 백그라운드 처리
+    @RateLimit
+    @PostMapping("/orchestration/async")
+    public ResponseEntity<ApiResponse<BookingSagaResponseDto>> orchestrationAsync(
+            @RequestBody BookingRequestDto requestDto,
+            @RequestHeader(value = ADMISSION_TOKEN_HEADER, required = false) String admissionToken,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @PassportHolder Passport passport){
+        waitingRoomService.verifyAdmission(requestDto, admissionToken);
+        BookingSagaResponseDto response = idempotencyService.execute(
+                idempotencyKey, passport.userId(), requestDto, BookingSagaResponseDto.class,
+                () -> bookingSagaService.submit(requestDto));
+        return ApiResponse.success(HttpStatus.ACCEPTED, response);
+    }
+
+    @GetMapping("/orchestration/{sagaId}")
+    public ResponseEntity<ApiResponse<BookingSagaResponseDto>> findOrchestration(
+            @PathVariable String sagaId,
+            @PassportHolder Passport passport){
+        return ApiResponse.success(HttpStatus.OK, bookingSagaService.findSaga(sagaId, passport));
+    }
+
+    @GetMapping(value = "/orchestration/{sagaId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeOrchestration(
+            @PathVariable String sagaId,
+            @PassportHolder Passport passport){
+        return bookingSagaService.subscribe(sagaId, passport);
+    }
+
+    // 결제 서비스 결제 결과 콜백 (payment-result 이벤트와 같은 처리, 중복 호출에 안전)
+    // 서명이 맞는 body 만 처리하므로 원문 그대로 받음
+    @PostMapping("/payments/result")
+    public ResponseEntity<ApiResponse<Void>> paymentResult(
+            @RequestHeader(value = PAYMENT_SIGNATURE_HEADER, required = false) String signature,
+            @RequestBody String body){
+        asyncPaymentSagaService.handleResult(paymentCallbackVerifier.verify(body, signature));
+        return ApiResponse.success(HttpStatus.OK, "결제 결과가 반영되었습니다");
     }
 
 
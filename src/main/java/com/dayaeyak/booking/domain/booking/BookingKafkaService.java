@@ -4,43 +4,55 @@ import com.dayaeyak.booking.domain.booking.dto.kafka.BookingCancelRequestDto;
 import com.dayaeyak.booking.domain.booking.dto.kafka.BookingRequestKafkaDto;
 import com.dayaeyak.booking.domain.booking.dto.kafka.RestaurantBookCancelDto;
 import com.dayaeyak.booking.domain.booking.dto.kafka.RestaurantBookConfirmDto;
-import com.dayaeyak.booking.domain.booking.dto.request.BookingPerformanceRequestDto;
 import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+import com.dayaeyak.booking.outbox.OutboxMessage;
+import com.dayaeyak.booking.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * 예약 Kafka 이벤트 발행
+ *
+ * 직접 Kafka 로 보내지 않고 outbox 에 기록합니다. 호출한 쪽의 트랜잭션에 참여하므로
+ * 예약 상태 변경과 같은 트랜잭션에서 호출하면 함께 커밋되고, 발행은 OutboxRelayScheduler 가 처리합니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BookingKafkaService {
-    private final KafkaTemplate<String, BookingRequestKafkaDto> kafkaTemplateBR; // Booking Request
-    private final KafkaTemplate<String, BookingCancelRequestDto> kafkaTemplateBCR; // Booking Cancel Request
-    private final KafkaTemplate<String, RestaurantBookConfirmDto> kafkaTemplateRBC; // Booking Confirm Request
-    private final KafkaTemplate<String, RestaurantBookCancelDto> kafkaTemplateRBCa; // Booking Cancel
+
+    private static final String TOPIC = "booking-complete";
+
+    private final OutboxService outboxService;
 
     public void sendBookingRequest (String topic, String key, BookingRequestKafkaDto dto) {
-        kafkaTemplateBR.send(topic, key, dto);
+        outboxService.append(bookingRequestMessage(topic, key, dto));
     }
 
     public void sendBookingCancelRequest (String topic, String key, BookingCancelRequestDto dto) {
-        kafkaTemplateBCR.send(topic, key, dto);
+        outboxService.append(new OutboxMessage(topic, key, dto));
     }
 
     public void sendBookingRestaurantConfirm (String topic, String key, RestaurantBookConfirmDto dto) {
-        kafkaTemplateRBC.send(topic, key, dto);
+        outboxService.append(new OutboxMessage(topic, key, dto));
     }
 
     public void sendBookingRestaurantCancel (String topic, String key, RestaurantBookCancelDto dto) {
-        kafkaTemplateRBCa.send(topic, key, dto);
+        outboxService.append(new OutboxMessage(topic, key, dto));
     }
 
-    private final KafkaTemplate<String, BookingRequestDto> kafkaTemplate;
-    private static final String TOPIC = "booking-complete";
-
     public void send(BookingRequestDto dto) {
         log.info("Sending seat update message: {}", dto);
-        kafkaTemplate.send(TOPIC, dto);
+        outboxService.append(bookingCompleteMessage(dto));
+    }
+
+    // 예약 확정 트랜잭션에 함께 기록할 메시지
+    public static OutboxMessage bookingCompleteMessage(BookingRequestDto dto) {
+        return new OutboxMessage(TOPIC, null, dto);
+    }
+
+    public static OutboxMessage bookingRequestMessage(String topic, String key, BookingRequestKafkaDto dto) {
+        return new OutboxMessage(topic, key, dto);
     }
 }
@@ -0,0 +1,85 @@
+package com.dayaeyak.booking.domain.booking;
+
+import com.dayaeyak.booking.domain.booking.dto.request.BookingSearchCondition;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingServiceSummaryResponseDto;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingSummaryResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예약 목록 keyset 조회
+ *
+ * createdAt, id 내림차순으로 cursor 다음 예약부터 limit 개만 읽고, 목록에 필요한 컬럼만 projection 합니다.
+ * offset 없이 인덱스를 따라 읽으므로 페이지가 뒤로 가도 비용이 같습니다.
+ * - 전체 목록   : idx_bookings_created_at_id
+ * - 서비스별 목록 : idx_bookings_service_created_at (조회 컬럼까지 포함해 index-only scan)
+ * 조건이 있는 항목만 where 절에 넣어 null 비교로 인덱스를 못 타는 일이 없도록 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingQueryRepository {
+
+    private static final String SELECT_SUMMARY =
+            "select new com.dayaeyak.booking.domain.booking.dto.response.BookingSummaryResponseDto(" +
+            "b.id, b.userId, b.serviceType, b.serviceId, b.status, b.totalFee, b.createdAt) " +
+            "from Booking b where 1 = 1";
+    private static final String SELECT_SERVICE_SUMMARY =
+            "select new com.dayaeyak.booking.domain.booking.dto.response.BookingServiceSummaryResponseDto(" +
+            "b.id, b.userId, b.status, b.createdAt) " +
+            "from Booking b where 1 = 1";
+
+    private final EntityManager entityManager;
+
+    List<BookingSummaryResponseDto> findPage(BookingSearchCondition condition, BookingCursor cursor, int limit) {
+        return findPage(SELECT_SUMMARY, BookingSummaryResponseDto.class, condition, cursor, limit);
+    }
+
+    // serviceType, serviceId 필수
+    List<BookingServiceSummaryResponseDto> findServicePage(BookingSearchCondition condition, BookingCursor cursor,
+                                                           int limit) {
+        return findPage(SELECT_SERVICE_SUMMARY, BookingServiceSummaryResponseDto.class, condition, cursor, limit);
+    }
+
+    private <T> List<T> findPage(String select, Class<T> resultType,
+                                 BookingSearchCondition condition, BookingCursor cursor, int limit) {
+        StringBuilder jpql = new StringBuilder(select);
+        Map<String, Object> params = new HashMap<>();
+
+        if (condition.serviceType() != null) {
+            jpql.append(" and b.serviceType = :serviceType");
+            params.put("serviceType", condition.serviceType());
+        }
+        if (condition.serviceId() != null) {
+            jpql.append(" and b.serviceId = :serviceId");
+            params.put("serviceId", condition.serviceId());
+        }
+        if (condition.status() != null) {
+            jpql.append(" and b.status = :status");
+            params.put("status", condition.status());
+        }
+        if (condition.from() != null) {
+            jpql.append(" and b.createdAt >= :from");
+            params.put("from", condition.from());
+        }
+        if (condition.to() != null) {
+            jpql.append(" and b.createdAt < :to");
+            params.put("to", condition.to());
+        }
+        if (cursor != null) {
+            jpql.append(" and (b.createdAt < :cursorCreatedAt or (b.createdAt = :cursorCreatedAt and b.id < :cursorId))");
+            params.put("cursorCreatedAt", cursor.createdAt());
+            params.put("cursorId", cursor.id());
+        }
+        jpql.append(" order by b.createdAt desc, b.id desc");
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), resultType);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -7,13 +7,19 @@ import com.dayaeyak.booking.domain.booking.dto.request.BookingCreateRequestDto;
 import com.dayaeyak.booking.utils.ApiResponse;
 import com.dayaeyak.booking.domain.booking.dto.request.BookingFindByServiceDto;
 import com.dayaeyak.booking.domain.booking.dto.request.BookingPerformanceRequestDto;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingSearchCondition;
 import com.dayaeyak.booking.domain.booking.dto.request.BookingUpdateRequestDto;
 import com.dayaeyak.booking.domain.booking.dto.response.BookingCreateResponseDto;
 import com.dayaeyak.booking.domain.booking.dto.response.BookingFindResponseDto;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingPageResponseDto;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingServiceSummaryResponseDto;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingSummaryResponseDto;
 import com.dayaeyak.booking.domain.booking.enums.BookingStatus;
 
 import com.dayaeyak.booking.domain.detail.BookingDetail;
 import com.dayaeyak.booking.domain.detail.payload.PerformanceBookingDetail;
+import com.dayaeyak.booking.outbox.OutboxMessage;
+import com.dayaeyak.booking.outbox.OutboxService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,8 +27,9 @@ import org.springframework.kafka.core.KafkaTemplate; // KafkaTemplate 임포트
 import org.springframework.stereotype.Service;
 import com.dayaeyak.booking.domain.detail.BookingDetailRepository; // BookingDetailRepository 임포트
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import com.dayaeyak.booking.domain.detail.BookingDetailService;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -32,12 +39,18 @@ import org.springframework.data.redis.core.RedisTemplate;
 @Slf4j
 public class BookingService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final BookingRepository bookingRepository;
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final BookingDetailRepository bookingDetailRepository;
     private final PaymentClient paymentClient;
     private final RedisTemplate<String, String> redisTemplate; // 의존성 추가
     private final BookingDetailService bookingDetailService; // 의존성 추가
+    private final OutboxService outboxService;
+    private final BookingCache bookingCache;
+    private final BookingQueryRepository bookingQueryRepository;
 
 
     private Booking findBooking(Long bookingId){
@@ -63,35 +76,69 @@ public class BookingService {
         return booking;
     }
 
-    public List<BookingFindResponseDto> findBookings() {
-        return bookingRepository.findAll()
-                .stream()
-                .map(BookingFindResponseDto::from)
-                .collect(Collectors.toList());
+    // 최신순, cursor(이전 페이지의 nextCursor) 다음 예약부터 size 개
+    public BookingPageResponseDto<BookingSummaryResponseDto> findBookings(BookingSearchCondition condition,
+                                                                         String cursor, Integer size) {
+        validateRange(condition);
+        int pageSize = pageSize(size);
+        List<BookingSummaryResponseDto> rows =
+                bookingQueryRepository.findPage(condition, BookingCursor.decode(cursor), pageSize + 1);
+        return toPage(rows, pageSize, last -> new BookingCursor(last.createdAt(), last.bookingId()));
     }
 
     public BookingFindResponseDto findBookingById(Long bookingId) {
-        Booking booking = findBooking(bookingId);
-        return BookingFindResponseDto.from(booking);
+        return bookingCache.get(bookingId, this::findBooking);
     }
 
     @Transactional
     public void updateBooking(Long bookingId, BookingUpdateRequestDto requestDto) {
         Booking booking = findBooking(bookingId);
         booking.update(requestDto);
+        bookingCache.updateAfterCommit(booking);
     }
 
     @Transactional
     public void deleteBooking(Long bookingId) {
         Booking booking = findBooking(bookingId);
         booking.delete();
+        bookingCache.updateAfterCommit(booking);
+    }
+
+    // 서비스별 예약, 최신순 cursor 페이지 조회
+    public BookingPageResponseDto<BookingServiceSummaryResponseDto> findBookingsByService(
+            BookingFindByServiceDto requestDto, BookingStatus status,
+            LocalDateTime from, LocalDateTime to, String cursor, Integer size) {
+        if (requestDto.serviceType() == null || requestDto.serviceId() == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "serviceType, serviceId 는 필수입니다.");
+        }
+        BookingSearchCondition condition =
+                new BookingSearchCondition(requestDto.serviceType(), requestDto.serviceId(), status, from, to);
+        validateRange(condition);
+        int pageSize = pageSize(size);
+        List<BookingServiceSummaryResponseDto> rows =
+                bookingQueryRepository.findServicePage(condition, BookingCursor.decode(cursor), pageSize + 1);
+        return toPage(rows, pageSize, last -> new BookingCursor(last.createdAt(), last.bookingId()));
+    }
+
+    private static void validateRange(BookingSearchCondition condition) {
+        if (condition.from() != null && condition.to() != null && !condition.from().isBefore(condition.to())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 시작 시각은 끝 시각보다 앞서야 합니다.");
+        }
     }
 
-    public List<BookingFindResponseDto> findBookingsByService(BookingFindByServiceDto requestDto) {
-        return bookingRepository.findByServiceTypeAndServiceId(requestDto.serviceType(), requestDto.serviceId())
-                .stream()
-                .map(BookingFindResponseDto::from)
-                .collect(Collectors.toList());
+    private static int pageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // pageSize + 1 개를 읽어 다음 페이지 여부 확인
+    private static <T> BookingPageResponseDto<T> toPage(List<T> rows, int pageSize,
+                                                        Function<T, BookingCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new BookingPageResponseDto<>(rows, null, false);
+        }
+        List<T> bookings = List.copyOf(rows.subList(0, pageSize));
+        String nextCursor = cursorOf.apply(bookings.get(pageSize - 1)).encode();
+        return new BookingPageResponseDto<>(bookings, nextCursor, true);
     }
 
     @Transactional
@@ -100,18 +147,30 @@ public class BookingService {
         Booking booking = findBooking(bookingId);
         booking.setStatus(status);
         bookingRepository.save(booking);
+        bookingCache.updateAfterCommit(booking);
     }
 
     @Transactional
     public void confirmBooking(long bookingId) {
         Booking booking = findBooking(bookingId);
         booking.setStatus(BookingStatus.COMPLETED);
+        bookingCache.updateAfterCommit(booking);
+    }
+
+    // 예약 확정과 확정 이벤트(outbox)를 한 트랜잭션으로 기록
+    @Transactional
+    public void confirmBooking(long bookingId, List<OutboxMessage> events) {
+        Booking booking = findBooking(bookingId);
+        booking.setStatus(BookingStatus.COMPLETED);
+        outboxService.appendAll(events);
+        bookingCache.updateAfterCommit(booking);
     }
 
     @Transactional
     public void cancelBooking(Long bookingId) {
         Booking booking = findBooking(bookingId);
         booking.cancel();
+        bookingCache.updateAfterCommit(booking);
 
         // Feign Client를 통한 환불 요청
         ApiResponse<Boolean> response = paymentClient.refundPayment(bookingId);
@@ -12,4 +12,5 @@ import lombok.Setter;
 public class SeatStatusDto {
     private Long seatId;
     private boolean isBooked;
+    private Integer seatNumber; // 연속 좌석 배정 순서 기준
 }
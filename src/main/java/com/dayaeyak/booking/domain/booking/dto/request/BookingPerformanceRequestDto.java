@@ -14,8 +14,28 @@ public record BookingPerformanceRequestDto(
         Long performanceId,
         Long sectionId,
         List<Long> seatIds, // 선점 필요 정보
-        List<Integer> seatNumber
+        List<Integer> seatNumber,
+        Integer seatCount, // seatIds 없이 보내면 구역 내 연속 좌석 자동 배정
+        List<BookingSectionRequestDto> sections // 같은 회차 여러 구역 동시 예약 시 구역별 좌석 (있으면 sectionId ~ seatNumber 대신 사용)
 ) implements BookingDetailRequest {
 
+    // 예약할 구역별 좌석 (단일 구역 요청도 구역 1개로 변환)
+    public List<BookingSectionRequestDto> sectionRequests() {
+        if (sections != null && !sections.isEmpty()) {
+            return sections;
+        }
+        return List.of(new BookingSectionRequestDto(sectionId, sectionName, seatPrice, seatIds, seatNumber));
+    }
 
+    // 좌석 지정 없이 좌석 수만 요청한 경우
+    public boolean bestAvailableRequested() {
+        return (sections == null || sections.isEmpty()) && (seatIds == null || seatIds.isEmpty()) && seatCount != null;
+    }
+
+    // 자동 배정된 좌석으로 교체
+    public BookingPerformanceRequestDto withSeats(List<Long> seatIds, List<Integer> seatNumber) {
+        return new BookingPerformanceRequestDto(
+                sessionId, sessionDate, sessionTime, sectionName, seatPrice, isSoldOut,
+                performanceId, sectionId, seatIds, seatNumber, seatCount, sections);
+    }
 }
@@ -0,0 +1,21 @@
+package com.dayaeyak.booking.domain.booking.dto.request;
+
+import com.dayaeyak.booking.domain.booking.enums.BookingStatus;
+import com.dayaeyak.booking.domain.booking.enums.ServiceType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 목록 조회 조건 (null 인 조건은 적용하지 않음)
+ *
+ * @param from 생성 시각 시작 (포함)
+ * @param to   생성 시각 끝 (미포함)
+ */
+public record BookingSearchCondition(
+        ServiceType serviceType,
+        Long serviceId,
+        BookingStatus status,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+}
@@ -18,24 +18,27 @@ public record BookingSeatRequestDto(
     public static List<BookingSeatRequestDto> from(BookingPerformanceRequestDto performanceRequest) {
         LocalDateTime sessionDateTime = performanceRequest.sessionDate().atTime(performanceRequest.sessionTime());
         List<BookingSeatRequestDto> seatRequests = new ArrayList<>();
-        List<Long> seatIds = performanceRequest.seatIds();
-        List<Integer> seatNumbers = performanceRequest.seatNumber();
 
-        if (seatIds.size() != seatNumbers.size()) {
-            throw new IllegalArgumentException("seatIds 와 seatNumbers 리스트 크기가 다릅니다.");
-        }
+        for (BookingSectionRequestDto section : performanceRequest.sectionRequests()) {
+            List<Long> seatIds = section.seatIds();
+            List<Integer> seatNumbers = section.seatNumber();
+
+            if (seatIds.size() != seatNumbers.size()) {
+                throw new IllegalArgumentException("seatIds 와 seatNumbers 리스트 크기가 다릅니다.");
+            }
 
-        for (int i = 0; i < seatIds.size(); i++) {
-            seatRequests.add(new BookingSeatRequestDto(
-                    performanceRequest.performanceId(),
-                    performanceRequest.sessionId(),
-                    performanceRequest.sectionId(),
-                    seatIds.get(i),
-                    seatNumbers.get(i),
-                    performanceRequest.sectionName(),
-                    performanceRequest.seatPrice(),
-                    sessionDateTime
-            ));
+            for (int i = 0; i < seatIds.size(); i++) {
+                seatRequests.add(new BookingSeatRequestDto(
+                        performanceRequest.performanceId(),
+                        performanceRequest.sessionId(),
+                        section.sectionId(),
+                        seatIds.get(i),
+                        seatNumbers.get(i),
+                        section.sectionName(),
+                        section.seatPrice(),
+                        sessionDateTime
+                ));
+            }
         }
         return seatRequests;
     }
@@ -0,0 +1,13 @@
+package com.dayaeyak.booking.domain.booking.dto.request;
+
+import java.util.List;
+
+// 여러 구역 동시 예약 시 구역별 좌석 정보
+public record BookingSectionRequestDto(
+        Long sectionId,
+        String sectionName, // 디테일 필요정보
+        int seatPrice, // 디테일 필요 정보
+        List<Long> seatIds, // 선점 필요 정보
+        List<Integer> seatNumber
+) {
+}
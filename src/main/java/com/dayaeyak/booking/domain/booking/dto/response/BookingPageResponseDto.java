@@ -0,0 +1,10 @@
+package com.dayaeyak.booking.domain.booking.dto.response;
+
+import java.util.List;
+
+public record BookingPageResponseDto<T>(
+        List<T> bookings,
+        String nextCursor, // 다음 페이지 요청 시 cursor 로 전달
+        boolean hasNext
+) {
+}
@@ -0,0 +1,14 @@
+package com.dayaeyak.booking.domain.booking.dto.response;
+
+import com.dayaeyak.booking.domain.booking.enums.BookingStatus;
+
+import java.time.LocalDateTime;
+
+// 서비스별 예약 조회용 (서비스 정보는 요청에 있으므로 제외, 인덱스 컬럼만 조회)
+public record BookingServiceSummaryResponseDto(
+        Long bookingId,
+        Long userId,
+        BookingStatus status,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.dayaeyak.booking.domain.booking.dto.response;
+
+import com.dayaeyak.booking.domain.booking.enums.BookingStatus;
+import com.dayaeyak.booking.domain.booking.enums.ServiceType;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 (필요한 컬럼만 조회)
+public record BookingSummaryResponseDto(
+        Long bookingId,
+        Long userId,
+        ServiceType serviceType,
+        Long serviceId,
+        BookingStatus status,
+        Integer totalFee,
+        LocalDateTime createdAt
+) {
+}
@@ -3,5 +3,7 @@ package com.dayaeyak.booking.domain.detail.payload;
 public record SeatInfo(
         Long seatId,
         int seatNumber,
-        int price
-) { }
\ No newline at end of file
+        int price,
+        Long sectionId, // 여러 구역 예약 시 좌석별 구역
+        String sectionName
+) { }
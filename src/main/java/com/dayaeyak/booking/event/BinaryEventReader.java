@@ -0,0 +1,91 @@
+package com.dayaeyak.booking.event;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BinaryEventWriter 로 기록한 값 읽기
+ */
+public class BinaryEventReader {
+
+    private final ByteBuffer in;
+
+    public BinaryEventReader(byte[] bytes) {
+        this.in = ByteBuffer.wrap(bytes);
+    }
+
+    public int readByte() {
+        return in.get() & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return in.get() != 0;
+    }
+
+    public long readLong() {
+        long raw = readUnsignedVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public Long readNullableLong() {
+        return readPresence() ? readLong() : null;
+    }
+
+    public Integer readNullableInt() {
+        return readPresence() ? (int) readLong() : null;
+    }
+
+    public String readString() {
+        byte[] bytes = new byte[readCount()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public String readNullableString() {
+        return readPresence() ? readString() : null;
+    }
+
+    public int readCount() {
+        return (int) readUnsignedVarLong();
+    }
+
+    public List<Long> readLongs() {
+        int count = readCount();
+        List<Long> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readLong());
+        }
+        return values;
+    }
+
+    public List<Integer> readInts() {
+        int count = readCount();
+        List<Integer> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add((int) readLong());
+        }
+        return values;
+    }
+
+    private boolean readPresence() {
+        return in.get() != 0;
+    }
+
+    private long readUnsignedVarLong() {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IllegalArgumentException("Malformed varint");
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.dayaeyak.booking.event;
+
+/**
+ * 이벤트 타입 하나의 binary 스키마 (Bean 으로 등록하면 BinaryEventSerializer 가 사용)
+ *
+ * 스키마를 바꿀 때는 version 을 올리고, read 는 이전 버전으로 기록된 메시지도 읽을 수 있어야 합니다.
+ * schemaId 는 메시지에 기록되므로 한 번 정하면 바꾸지 않습니다.
+ */
+public interface BinaryEventSchema<T> {
+
+    // header(event-schema) 에 실리는 이름
+    String name();
+
+    int schemaId();
+
+    // 현재 쓰기 버전
+    int version();
+
+    Class<T> type();
+
+    // 이 스키마로 표현할 수 없는 값이면 false (JSON 으로 대체)
+    default boolean supports(T payload) {
+        return true;
+    }
+
+    void write(T payload, BinaryEventWriter writer);
+
+    T read(BinaryEventReader reader, int version);
+}
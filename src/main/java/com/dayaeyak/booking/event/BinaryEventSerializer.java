@@ -0,0 +1,73 @@
+package com.dayaeyak.booking.event;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스키마 버전이 명시된 compact binary 인코딩
+ *
+ * 메시지 구조 : [MAGIC 1byte][schemaId varint][schemaVersion varint][본문 (BinaryEventSchema 가 기록)]
+ * 스키마가 등록되지 않은 타입은 JSON 으로 인코딩합니다. (EncodedEvent.format 으로 구분)
+ */
+@Component
+public class BinaryEventSerializer implements EventSerializer {
+
+    static final int MAGIC = 0xBE;
+
+    private final Map<Class<?>, BinaryEventSchema<?>> schemasByType = new HashMap<>();
+    private final Map<Integer, BinaryEventSchema<?>> schemasById = new HashMap<>();
+    private final JsonEventSerializer jsonEventSerializer;
+
+    public BinaryEventSerializer(List<BinaryEventSchema<?>> schemas, JsonEventSerializer jsonEventSerializer) {
+        this.jsonEventSerializer = jsonEventSerializer;
+        for (BinaryEventSchema<?> schema : schemas) {
+            if (schemasById.put(schema.schemaId(), schema) != null) {
+                throw new IllegalStateException("Duplicate binary event schema id: " + schema.schemaId());
+            }
+            schemasByType.put(schema.type(), schema);
+        }
+    }
+
+    @Override
+    public EventFormat format() {
+        return EventFormat.BINARY;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public EncodedEvent serialize(Object payload) {
+        BinaryEventSchema<Object> schema = (BinaryEventSchema<Object>) schemasByType.get(payload.getClass());
+        if (schema == null || !schema.supports(payload)) {
+            return jsonEventSerializer.serialize(payload);
+        }
+
+        BinaryEventWriter writer = new BinaryEventWriter()
+                .writeByte(MAGIC)
+                .writeCount(schema.schemaId())
+                .writeCount(schema.version());
+        schema.write(payload, writer);
+        return new EncodedEvent(writer.toByteArray(), EventFormat.BINARY,
+                payload.getClass().getName(), schema.name(), schema.version());
+    }
+
+    // 소비자/운영 도구용 : 메시지에 기록된 스키마 버전으로 읽기
+    public Object deserialize(byte[] bytes) {
+        BinaryEventReader reader = new BinaryEventReader(bytes);
+        if (reader.readByte() != MAGIC) {
+            throw new IllegalArgumentException("Not a binary booking event");
+        }
+        int schemaId = reader.readCount();
+        int version = reader.readCount();
+        BinaryEventSchema<?> schema = schemasById.get(schemaId);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown binary event schema id: " + schemaId);
+        }
+        if (version > schema.version()) {
+            throw new IllegalArgumentException("Unsupported " + schema.name() + " schema version: " + version);
+        }
+        return schema.read(reader, version);
+    }
+}
@@ -0,0 +1,101 @@
+package com.dayaeyak.booking.event;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * compact binary 쓰기 도구
+ *
+ * - 정수는 zigzag varint (작은 값/음수 모두 1~2 byte)
+ * - 문자열은 UTF-8 byte 길이(varint) + 내용
+ * - nullable 값은 앞에 존재 여부 1 byte
+ * - 목록은 개수(varint) + 원소, null 목록은 빈 목록으로 기록
+ */
+public class BinaryEventWriter {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+
+    public BinaryEventWriter writeByte(int value) {
+        out.write(value);
+        return this;
+    }
+
+    public BinaryEventWriter writeBoolean(boolean value) {
+        out.write(value ? 1 : 0);
+        return this;
+    }
+
+    public BinaryEventWriter writeLong(long value) {
+        writeUnsignedVarLong((value << 1) ^ (value >> 63));
+        return this;
+    }
+
+    public BinaryEventWriter writeNullableLong(Long value) {
+        if (writePresence(value)) {
+            writeLong(value);
+        }
+        return this;
+    }
+
+    public BinaryEventWriter writeNullableInt(Integer value) {
+        if (writePresence(value)) {
+            writeLong(value);
+        }
+        return this;
+    }
+
+    public BinaryEventWriter writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedVarLong(bytes.length);
+        out.writeBytes(bytes);
+        return this;
+    }
+
+    public BinaryEventWriter writeNullableString(String value) {
+        if (writePresence(value)) {
+            writeString(value);
+        }
+        return this;
+    }
+
+    public BinaryEventWriter writeCount(int count) {
+        writeUnsignedVarLong(count);
+        return this;
+    }
+
+    public BinaryEventWriter writeLongs(List<Long> values) {
+        if (values == null) {
+            return writeCount(0);
+        }
+        writeCount(values.size());
+        values.forEach(this::writeLong);
+        return this;
+    }
+
+    public BinaryEventWriter writeInts(List<Integer> values) {
+        if (values == null) {
+            return writeCount(0);
+        }
+        writeCount(values.size());
+        values.forEach(value -> writeLong(value));
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    private boolean writePresence(Object value) {
+        out.write(value == null ? 0 : 1);
+        return value != null;
+    }
+
+    private void writeUnsignedVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -0,0 +1,19 @@
+package com.dayaeyak.booking.event;
+
+/**
+ * 인코딩된 Kafka 이벤트 값
+ *
+ * @param payload       Kafka 메시지 값
+ * @param format        실제 적용된 인코딩 (BINARY 요청이라도 스키마가 없으면 JSON)
+ * @param payloadType   원래 이벤트 클래스 이름 (JSON 소비자의 __TypeId__ header)
+ * @param schema        binary 스키마 이름, JSON 이면 null
+ * @param schemaVersion binary 스키마 버전, JSON 이면 0
+ */
+public record EncodedEvent(
+        byte[] payload,
+        EventFormat format,
+        String payloadType,
+        String schema,
+        int schemaVersion
+) {
+}
@@ -0,0 +1,11 @@
+package com.dayaeyak.booking.event;
+
+/**
+ * Kafka 이벤트 값 인코딩 방식
+ * - JSON   : Jackson JSON (타입 header __TypeId__ 포함, 기존 소비자 호환)
+ * - BINARY : 스키마 버전이 명시된 compact binary (BinaryEventSchema 가 등록된 타입만, 나머지는 JSON)
+ */
+public enum EventFormat {
+    JSON,
+    BINARY
+}
@@ -0,0 +1,27 @@
+package com.dayaeyak.booking.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * topic 별 이벤트 인코딩 방식
+ *
+ * booking.kafka.event-format.default-format   : 기본 인코딩 (없으면 JSON)
+ * booking.kafka.event-format.topics.{topic}  : topic 별 인코딩 (소비자가 binary 를 읽을 수 있게 된 topic 부터 전환)
+ */
+@ConfigurationProperties(prefix = "booking.kafka.event-format")
+public record EventFormatProperties(
+        EventFormat defaultFormat,
+        Map<String, EventFormat> topics
+) {
+
+    public EventFormatProperties {
+        defaultFormat = defaultFormat == null ? EventFormat.JSON : defaultFormat;
+        topics = topics == null ? Map.of() : topics;
+    }
+
+    public EventFormat formatOf(String topic) {
+        return topics.getOrDefault(topic, defaultFormat);
+    }
+}
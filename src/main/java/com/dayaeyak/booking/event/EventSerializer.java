@@ -0,0 +1,11 @@
+package com.dayaeyak.booking.event;
+
+/**
+ * Kafka 이벤트 인코딩 방식 (EventFormat 별 구현체를 Bean 으로 등록)
+ */
+public interface EventSerializer {
+
+    EventFormat format();
+
+    EncodedEvent serialize(Object payload);
+}
@@ -0,0 +1,42 @@
+package com.dayaeyak.booking.event;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * topic 설정에 맞는 EventSerializer 선택
+ *
+ * 인코딩된 크기를 booking.kafka.event.size{topic, format} 로 기록해 JSON/binary 크기를 운영 중에 비교합니다.
+ */
+@Component
+public class EventSerializers {
+
+    private final Map<EventFormat, EventSerializer> serializers = new EnumMap<>(EventFormat.class);
+    private final EventFormatProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public EventSerializers(List<EventSerializer> serializers,
+                            EventFormatProperties properties,
+                            MeterRegistry meterRegistry) {
+        serializers.forEach(serializer -> this.serializers.put(serializer.format(), serializer));
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public EncodedEvent serialize(String topic, Object payload) {
+        EncodedEvent encoded = serializers.get(properties.formatOf(topic)).serialize(payload);
+        DistributionSummary.builder("booking.kafka.event.size")
+                .description("인코딩된 이벤트 크기")
+                .baseUnit("bytes")
+                .tag("topic", topic)
+                .tag("format", encoded.format().name())
+                .register(meterRegistry)
+                .record(encoded.payload().length);
+        return encoded;
+    }
+}
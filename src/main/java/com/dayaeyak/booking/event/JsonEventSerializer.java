@@ -0,0 +1,30 @@
+package com.dayaeyak.booking.event;
+
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class JsonEventSerializer implements EventSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public EventFormat format() {
+        return EventFormat.JSON;
+    }
+
+    @Override
+    public EncodedEvent serialize(Object payload) {
+        try {
+            return new EncodedEvent(objectMapper.writeValueAsBytes(payload), EventFormat.JSON,
+                    payload.getClass().getName(), null, 0);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.dayaeyak.booking.event.schema;
+
+import com.dayaeyak.booking.domain.booking.dto.request.BookingPerformanceRequestDto;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingSectionRequestDto;
+import com.dayaeyak.booking.domain.booking.enums.BookingStatus;
+import com.dayaeyak.booking.domain.booking.enums.ServiceType;
+import com.dayaeyak.booking.event.BinaryEventReader;
+import com.dayaeyak.booking.event.BinaryEventSchema;
+import com.dayaeyak.booking.event.BinaryEventWriter;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * booking-complete (공연 좌석 확정) 이벤트 binary 스키마
+ *
+ * v1 : userId, serviceId, serviceType, totalFee, status
+ *      + 공연 정보 (performanceId, sessionId, sessionDate(epochDay), sessionTime(secondOfDay), isSoldOut, seatCount)
+ *      + 구역 목록 (sectionId, sectionName, seatPrice, seatIds, seatNumber)
+ * 단일 구역 요청도 구역 1개로 기록하며, 읽을 때 첫 구역을 최상위 필드로 복원합니다.
+ * 공연 외 상세 요청은 표현하지 않으므로 JSON 으로 보냅니다.
+ */
+@Component
+public class BookingCompleteEventSchema implements BinaryEventSchema<BookingRequestDto> {
+
+    private static final int VERSION = 1;
+
+    @Override
+    public String name() {
+        return "booking-complete";
+    }
+
+    @Override
+    public int schemaId() {
+        return 1;
+    }
+
+    @Override
+    public int version() {
+        return VERSION;
+    }
+
+    @Override
+    public Class<BookingRequestDto> type() {
+        return BookingRequestDto.class;
+    }
+
+    @Override
+    public boolean supports(BookingRequestDto payload) {
+        return payload.bookingDetailRequest() == null
+                || payload.bookingDetailRequest() instanceof BookingPerformanceRequestDto;
+    }
+
+    @Override
+    public void write(BookingRequestDto payload, BinaryEventWriter writer) {
+        writer.writeNullableLong(payload.userId())
+                .writeNullableLong(payload.serviceId())
+                .writeNullableString(payload.serviceType() == null ? null : payload.serviceType().name())
+                .writeNullableInt(payload.totalFee())
+                .writeNullableString(payload.status() == null ? null : payload.status().name());
+
+        if (!(payload.bookingDetailRequest() instanceof BookingPerformanceRequestDto performance)) {
+            writer.writeBoolean(false);
+            return;
+        }
+        writer.writeBoolean(true)
+                .writeNullableLong(performance.performanceId())
+                .writeNullableLong(performance.sessionId())
+                .writeNullableLong(performance.sessionDate() == null ? null : performance.sessionDate().toEpochDay())
+                .writeNullableInt(performance.sessionTime() == null ? null : performance.sessionTime().toSecondOfDay())
+                .writeBoolean(performance.isSoldOut())
+                .writeNullableInt(performance.seatCount());
+
+        List<BookingSectionRequestDto> sections = performance.sectionRequests();
+        writer.writeCount(sections.size());
+        for (BookingSectionRequestDto section : sections) {
+            writer.writeNullableLong(section.sectionId())
+                    .writeNullableString(section.sectionName())
+                    .writeLong(section.seatPrice())
+                    .writeLongs(section.seatIds())
+                    .writeInts(section.seatNumber());
+        }
+    }
+
+    @Override
+    public BookingRequestDto read(BinaryEventReader reader, int version) {
+        Long userId = reader.readNullableLong();
+        Long serviceId = reader.readNullableLong();
+        String serviceType = reader.readNullableString();
+        Integer totalFee = reader.readNullableInt();
+        String status = reader.readNullableString();
+
+        BookingPerformanceRequestDto performance = reader.readBoolean() ? readPerformance(reader) : null;
+        return new BookingRequestDto(
+                userId,
+                serviceId,
+                serviceType == null ? null : ServiceType.valueOf(serviceType),
+                totalFee,
+                status == null ? null : BookingStatus.valueOf(status),
+                performance
+        );
+    }
+
+    private BookingPerformanceRequestDto readPerformance(BinaryEventReader reader) {
+        Long performanceId = reader.readNullableLong();
+        Long sessionId = reader.readNullableLong();
+        Long epochDay = reader.readNullableLong();
+        Integer secondOfDay = reader.readNullableInt();
+        boolean isSoldOut = reader.readBoolean();
+        Integer seatCount = reader.readNullableInt();
+
+        int sectionCount = reader.readCount();
+        List<BookingSectionRequestDto> sections = new ArrayList<>(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            sections.add(new BookingSectionRequestDto(
+                    reader.readNullableLong(),
+                    reader.readNullableString(),
+                    (int) reader.readLong(),
+                    reader.readLongs(),
+                    reader.readInts()));
+        }
+
+        BookingSectionRequestDto first = sections.isEmpty()
+                ? new BookingSectionRequestDto(null, null, 0, List.of(), List.of())
+                : sections.get(0);
+        return new BookingPerformanceRequestDto(
+                sessionId,
+                epochDay == null ? null : LocalDate.ofEpochDay(epochDay),
+                secondOfDay == null ? null : LocalTime.ofSecondOfDay(secondOfDay),
+                first.sectionName(),
+                first.seatPrice(),
+                isSoldOut,
+                performanceId,
+                first.sectionId(),
+                first.seatIds(),
+                first.seatNumber(),
+                seatCount,
+                sections.size() > 1 ? sections : null
+        );
+    }
+}
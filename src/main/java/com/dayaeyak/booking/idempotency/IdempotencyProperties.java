@@ -0,0 +1,24 @@
+package com.dayaeyak.booking.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Idempotency-Key 설정 (booking.idempotency.*)
+ *
+ * result-ttl-seconds      : 처리 결과 보관 시간 (이 시간 동안 같은 key 의 재시도는 결과를 그대로 응답)
+ * in-progress-ttl-seconds : 처리 중 상태 유지 시간, 처리하던 인스턴스가 죽으면 이후 재시도가 다시 처리 (예약 처리 시간보다 길게)
+ * wait-timeout-ms         : 처리 중인 같은 요청을 기다리는 최대 시간, 초과 시 409
+ */
+@ConfigurationProperties(prefix = "booking.idempotency")
+public record IdempotencyProperties(
+        Long resultTtlSeconds,
+        Long inProgressTtlSeconds,
+        Long waitTimeoutMs
+) {
+
+    public IdempotencyProperties {
+        resultTtlSeconds = resultTtlSeconds == null ? 86_400L : resultTtlSeconds;
+        inProgressTtlSeconds = inProgressTtlSeconds == null ? 60L : inProgressTtlSeconds;
+        waitTimeoutMs = waitTimeoutMs == null ? 10_000L : waitTimeoutMs;
+    }
+}
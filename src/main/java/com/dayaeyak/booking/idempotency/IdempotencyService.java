@@ -0,0 +1,201 @@
+package com.dayaeyak.booking.idempotency;
+
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 요청 처리 (Redis Hash, key : booking:idempotency:{userId}:{Idempotency-Key})
+ * userId 는 요청 body 가 아니라 인증된 사용자(X-User-Id) 기준이라 다른 사용자의 key 와 겹치지 않음
+ *
+ * - 처음 온 요청만 실행하고 결과(응답 또는 4xx 오류)를 result-ttl 동안 보관, 이후 재시도는 조회 한 번으로 같은 결과 응답
+ * - 429 처럼 잠시 후 재시도하면 달라지는 오류는 보관하지 않음
+ * - 같은 요청이 처리 중이면 끝날 때까지 기다렸다가 같은 결과 응답 (wait-timeout 초과 시 409)
+ * - 같은 key 로 다른 body 를 보내면 422
+ * - 5xx 오류는 보관하지 않고 key 를 지워 재시도가 다시 처리
+ * - 결과 기록과 key 삭제는 처리 시작 시 기록한 owner token 이 같을 때만 반영
+ *   (처리 중 상태가 만료되어 재시도가 key 를 다시 가져간 뒤 먼저 온 요청이 끝나도 재시도의 상태를 건드리지 않음)
+ *
+ * 지표 : booking.idempotency.requests{result=executed|replayed|waited|in_progress|mismatch|expired}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final String KEY_FORMAT = "booking:idempotency:%d:%s";
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final long MIN_POLL_INTERVAL_MS = 20L;
+    private static final long MAX_POLL_INTERVAL_MS = 500L;
+
+    private static final String ACQUIRED = "ACQUIRED";
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String FAILED = "FAILED";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<List> beginIdempotentRequestScript;
+    private final DefaultRedisScript<Long> completeIdempotentRequestScript;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // idempotencyKey 가 없으면 그대로 실행
+    public <T> T execute(String idempotencyKey, Long userId, Object request, Class<T> responseType, Supplier<T> action) {
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        String key = String.format(KEY_FORMAT, userId, idempotencyKey);
+        String fingerprint = fingerprint(request);
+        String owner = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + properties.waitTimeoutMs();
+        long pollInterval = MIN_POLL_INTERVAL_MS;
+        boolean waited = false;
+
+        while (true) {
+            List<?> state = redisTemplate.execute(
+                    beginIdempotentRequestScript,
+                    List.of(key),
+                    fingerprint,
+                    String.valueOf(Duration.ofSeconds(properties.inProgressTtlSeconds()).toMillis()),
+                    owner
+            );
+            if (state == null || state.isEmpty()) {
+                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "Idempotency-Key 조회 실패");
+            }
+            String status = (String) state.get(0);
+            if (ACQUIRED.equals(status)) {
+                count("executed");
+                return executeAndStore(key, owner, action);
+            }
+            if (!fingerprint.equals(state.get(1))) {
+                count("mismatch");
+                throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            if (!IN_PROGRESS.equals(status)) {
+                count(waited ? "waited" : "replayed");
+                return replay(status, state, responseType);
+            }
+
+            // 처리 중인 같은 요청을 기다림 (처리 인스턴스가 죽으면 처리 중 상태가 만료되어 다음 조회에서 다시 처리)
+            if (System.currentTimeMillis() + pollInterval > deadline) {
+                count("in_progress");
+                throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            }
+            sleep(pollInterval);
+            pollInterval = Math.min(pollInterval * 2, MAX_POLL_INTERVAL_MS);
+            waited = true;
+        }
+    }
+
+    // 결과 기록 / key 삭제 실패는 기록만 하고 실행 결과(응답 또는 원래 예외)를 그대로 전달
+    private <T> T executeAndStore(String key, String owner, Supplier<T> action) {
+        T response;
+        try {
+            response = action.get();
+        } catch (CustomException e) {
+            if (e.getErrorCode().getStatus().is4xxClientError() && !isTransient(e.getErrorCode())) {
+                complete(key, owner,
+                        "status", FAILED,
+                        "errorCode", e.getErrorCode().name(),
+                        "message", e.getMessage() == null ? e.getErrorCode().getMessage() : e.getMessage());
+            } else {
+                complete(key, owner);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            complete(key, owner);
+            throw e;
+        }
+
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize idempotent response: key={}", key, e);
+            complete(key, owner);
+            return response;
+        }
+        complete(key, owner, "status", COMPLETED, "response", body);
+        return response;
+    }
+
+    // 본인이 처리 중일 때만 결과 기록 (fields 가 없으면 key 삭제)
+    private void complete(String key, String owner, String... fields) {
+        List<String> args = new ArrayList<>(fields.length + 2);
+        args.add(owner);
+        args.add(String.valueOf(Duration.ofSeconds(properties.resultTtlSeconds()).toMillis()));
+        args.addAll(Arrays.asList(fields));
+        try {
+            Long applied = redisTemplate.execute(completeIdempotentRequestScript, List.of(key), args.toArray());
+            if (!Long.valueOf(1L).equals(applied)) {
+                count("expired");
+                log.warn("Idempotent request finished after losing ownership: key={}", key);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to complete idempotent request: key={}", key, e);
+        }
+    }
+
+    // 재시도 시점에 결과가 달라지는 오류
+    private static boolean isTransient(ErrorCode errorCode) {
+        return errorCode.getStatus() == HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    private <T> T replay(String status, List<?> state, Class<T> responseType) {
+        if (FAILED.equals(status)) {
+            throw new CustomException(ErrorCode.valueOf((String) state.get(3)), (String) state.get(4));
+        }
+        try {
+            return objectMapper.readValue((String) state.get(2), responseType);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage(), e);
+        }
+    }
+
+    // 같은 key 로 다른 요청을 보냈는지 확인용 (요청 body JSON 의 SHA-256)
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage(), e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("booking.idempotency.requests", "result", result).increment();
+    }
+}
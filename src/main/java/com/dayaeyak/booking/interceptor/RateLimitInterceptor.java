@@ -0,0 +1,85 @@
+package com.dayaeyak.booking.interceptor;
+
+import com.dayaeyak.booking.annotation.RateLimit;
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.common.exception.ErrorResponse;
+import com.dayaeyak.booking.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * @RateLimit API 의 사용자별 요청 수 제한
+ *
+ * 요청 body 를 읽기 전에 X-User-Id 로 먼저 확인하고(없으면 접속 주소 기준), 경로에 performanceId 가 있으면 공연별로도 확인합니다.
+ * (body 에만 공연 정보가 있는 예약 요청은 RateLimitRequestBodyAdvice 에서 공연별로 확인)
+ * 초과 요청은 예외 처리 없이 바로 429 와 Retry-After 로 응답합니다. (body advice 는 TooManyRequestsException 으로 같은 응답)
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String USER_ID_HEADER = "X-User-Id";
+    private static final String PERFORMANCE_ID_VARIABLE = "performanceId";
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !handlerMethod.hasMethodAnnotation(RateLimit.class)
+                || !rateLimiter.isEnabled()) {
+            return true;
+        }
+
+        String userId = request.getHeader(USER_ID_HEADER);
+        RateLimiter.Decision userDecision = StringUtils.hasText(userId)
+                ? rateLimiter.tryAcquireUser(parseId(userId))
+                : rateLimiter.tryAcquireClient(request.getRemoteAddr());
+        if (!userDecision.allowed()) {
+            return reject(response, userDecision);
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables != null && pathVariables.containsKey(PERFORMANCE_ID_VARIABLE)) {
+            RateLimiter.Decision decision =
+                    rateLimiter.tryAcquirePerformance(parseId(pathVariables.get(PERFORMANCE_ID_VARIABLE)));
+            if (!decision.allowed()) {
+                return reject(response, decision);
+            }
+        }
+        return true;
+    }
+
+    private boolean reject(HttpServletResponse response, RateLimiter.Decision decision) throws Exception {
+        response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(ErrorResponse.of(ErrorCode.TOO_MANY_REQUESTS)));
+        return false;
+    }
+
+    private static Long parseId(String id) {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
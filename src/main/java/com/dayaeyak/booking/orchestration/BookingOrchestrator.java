@@ -6,7 +6,7 @@ import com.dayaeyak.booking.client.payment.PaymentRequestResponseDto;
 import com.dayaeyak.booking.client.payment.PaymentStatus;
 import com.dayaeyak.booking.client.performance.PerformanceClient;
 import com.dayaeyak.booking.client.performance.SeatResponseDto;
-import com.dayaeyak.booking.client.performance.UpdateSeatSoldOutRequestDto;
+import com.dayaeyak.booking.client.performance.UpdateSeatsSoldOutRequestDto;
 import com.dayaeyak.booking.client.restaurant.RestaurantClient;
 import com.dayaeyak.booking.client.restaurant.SeatAvailabilityDto;
 import com.dayaeyak.booking.client.restaurant.SeatsRequestDto;
@@ -25,17 +25,27 @@ import com.dayaeyak.booking.domain.booking.enums.BookingStatus;
 import com.dayaeyak.booking.domain.booking.enums.ServiceType;
 import com.dayaeyak.booking.domain.detail.BookingDetailService;
 import com.dayaeyak.booking.domain.detail.payload.*;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaLog;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaLogService;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaStep;
+import com.dayaeyak.booking.seat.AllocatedSeat;
+import com.dayaeyak.booking.seat.SeatInventory;
+import com.dayaeyak.booking.seat.SeatKeys;
+import com.dayaeyak.booking.seat.SeatMapLoader;
+import com.dayaeyak.booking.seat.SeatReleaseQueue;
+import com.dayaeyak.booking.seat.SeatState;
 import com.dayaeyak.booking.utils.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * BookingOrchestrator — 좌석 선점(Redis) 우선 → 예약(PENDING) 생성 → 결제 → 확정 흐름
@@ -44,6 +54,7 @@ import java.util.concurrent.TimeUnit;
  * - 외부 API 호출(결제/공연)은 네트워크 지연 발생 가능하므로 오케스트레이터 전체를 트랜잭션으로 묶지 않습니다.
  * - Redis 선점은 setIfAbsent (SETNX) + TTL 방식으로 처리합니다.
  * - 실패 시 보상(compensate): 예약 취소, Redis 선점 해제, 필요시 결제 환불 호출.
+ * - 공연 예약은 단계/보상 진행을 booking_saga_logs 에 기록하고, 중단된 saga 는 BookingSagaRecoveryScheduler 가 복구합니다.
  *
  * TODO:
  * - PerformanceClient, PaymentClient, NotificationClient 를 실제 Feign/Rest 구현체로 프로젝트에 추가하세요.
@@ -62,16 +73,17 @@ public class BookingOrchestrator {
     private final RedisTemplate<String, String> redisTemplate;
     private final BookingDetailService bookingDetailService;
     private final BookingKafkaService bookingKafkaService;
-    private final DefaultRedisScript<Long> lockSeatsScript;
-    private final DefaultRedisScript<Long> confirmBooking;
-    private final DefaultRedisScript<Long> releaseSeats;
+    private final SeatInventory seatInventory;
+    private final SeatMapLoader seatMapLoader;
+    private final SeatReleaseQueue seatReleaseQueue;
+    private final BookingSagaLogService bookingSagaLogService;
 
 
     // 보유 시간: 예시 5분 (초 단위)
     private static final long HOLD_TTL_SECONDS = 5 * 60L;
     private static final long HOLD_TTL_Hours = 10L;
-    private static final String SEAT_KEY_FORMAT = "seat:%d:%d:%d"; // seat:{sessionId}:{serviceId}:{seatId}
-    private static final String SEAT_HASH_KEY_FORMAT = "seat:%d:%d:%d"; // serviceId, sessionId, sectionId
+    private static final int MAX_CONTIGUOUS_SEATS = 10; // 연속 좌석 자동 배정 최대 좌석 수
+    private static final long RELEASE_GRACE_SECONDS = 60L; // 선점 만료 후 해제 작업 실행까지 여유 (결제 지연 대비)
 
 
 
@@ -105,17 +117,18 @@ public class BookingOrchestrator {
                 throw new CustomException(ErrorCode.SEAT_ALREADY_LOCKED);
             }
 
-            // 2) 공연 서비스에 좌석 유효성/동시성 재확인 (DB 기준)
-            for (Long seatId : performanceRequest.seatIds()) {
-                ApiResponse<SeatResponseDto> seatResponse = performanceClient.readPerformanceSeat(
-                        performanceRequest.performanceId(),
-                        performanceRequest.sessionId(),
-                        performanceRequest.sectionId(),
-                        seatId);
-                SeatResponseDto seatResponseDto = seatResponse.getData();
-                if (Boolean.TRUE.equals(seatResponseDto.isSoldOut())) {
-                    throw new CustomException(ErrorCode.SEAT_ALREADY_SOLD);
-                }
+            // 2) 공연 서비스에 좌석 유효성/동시성 재확인 (DB 기준, 좌석 전체를 한 번에 조회)
+            ApiResponse<List<SeatResponseDto>> seatResponse = performanceClient.readPerformanceSeatsByIds(
+                    performanceRequest.performanceId(),
+                    performanceRequest.sessionId(),
+                    performanceRequest.sectionId(),
+                    performanceRequest.seatIds());
+            List<SeatResponseDto> seats = seatResponse.getData();
+            if (seats == null || seats.size() != performanceRequest.seatIds().size()) {
+                throw new CustomException(ErrorCode.SEAT_NOT_AVAILABLE); // 없는 좌석 포함
+            }
+            if (seats.stream().anyMatch(seat -> Boolean.TRUE.equals(seat.isSoldOut()))) {
+                throw new CustomException(ErrorCode.SEAT_ALREADY_SOLD);
             }
 
             // 3) 예약(PENDING) 생성
@@ -140,16 +153,12 @@ public class BookingOrchestrator {
 
 
 
-            // 6) 공연 서비스에 좌석 최종 확정 요청
-            UpdateSeatSoldOutRequestDto updateSeatSoldOutRequestDto = new UpdateSeatSoldOutRequestDto(true);
-            for (Long seatId : performanceRequest.seatIds()) {
-                ApiResponse<SeatResponseDto> seatResponse = performanceClient.changeIsSoldOut(
-                        performanceRequest.performanceId(),
-                        performanceRequest.sessionId(),
-                        performanceRequest.sectionId(),
-                        seatId,
-                        updateSeatSoldOutRequestDto);
-            }
+            // 6) 공연 서비스에 좌석 최종 확정 요청 (좌석 전체를 한 번에 변경)
+            performanceClient.changeIsSoldOutAll(
+                    performanceRequest.performanceId(),
+                    performanceRequest.sessionId(),
+                    performanceRequest.sectionId(),
+                    new UpdateSeatsSoldOutRequestDto(performanceRequest.seatIds(), true));
 
             // 7) Booking 확정 및 Redis 정리
             bookingService.confirmBooking(booking.getId());
@@ -164,7 +173,9 @@ public class BookingOrchestrator {
                 seatInfos.add(new SeatInfo(
                         seat.seatId(),
                         seat.seatNumber(),
-                        seat.seatPrice()
+                        seat.seatPrice(),
+                        seat.sectionId(),
+                        seat.sectionName()
                 ));
             }
 
@@ -216,90 +227,301 @@ public class BookingOrchestrator {
 
 
     public BookingCreateResponseDto orchestratePerformanceBooking2(BookingRequestDto requestDto) {
+        return completePerformanceBooking(holdPerformanceSeats(requestDto));
+    }
+
+    public PerformanceSeatHold holdPerformanceSeats(BookingRequestDto requestDto) {
+        return holdPerformanceSeats(requestDto, null);
+    }
+
+    // 1) ~ 2) 좌석 맵 로딩 및 선점 (비동기 예약 접수는 여기까지만 요청 스레드에서 처리, sagaId 를 saga 기록에 남김)
+    public PerformanceSeatHold holdPerformanceSeats(BookingRequestDto requestDto, String sagaId) {
         BookingPerformanceRequestDto performanceRequest =
                 (BookingPerformanceRequestDto) requestDto.bookingDetailRequest();
 
-        Booking booking = null;
-        Long paymentId = null;
         boolean seatsLocked = false;
-        List<Long> seatIds = performanceRequest.seatIds();
-
-        // Redis Key 생성
-        String redisKey = String.format("seat:%d:%d:%d",
-                performanceRequest.performanceId(),
-                performanceRequest.sessionId(),
-                performanceRequest.sectionId());
+        Map<String, List<Long>> seatsBySection = new LinkedHashMap<>(); // 구역 Redis Key → seatId 목록
+        String holdToken = "HOLD:" + UUID.randomUUID(); // 선점 소유자 식별용
 
         try {
 
-            // 1) 공연 좌석 초기화 (Redis에 없으면 로딩)
-            if (!Boolean.TRUE.equals(redisTemplate.hasKey(redisKey))) {
-                ApiResponse<List<SeatStatusDto>> seatList = performanceClient.readPerformanceSeats(
+            // 1) 공연 좌석 초기화 (구역별로 Redis에 없으면 클러스터 전체에서 한 번만 로딩)
+            for (BookingSectionRequestDto section : performanceRequest.sectionRequests()) {
+                String sectionKey = SeatKeys.sectionKey(
                         performanceRequest.performanceId(),
                         performanceRequest.sessionId(),
-                        performanceRequest.sectionId()
+                        section.sectionId());
+                seatMapLoader.ensureLoaded(
+                        sectionKey,
+                        performanceRequest.performanceId(),
+                        performanceRequest.sessionId(),
+                        section.sectionId()
                 );
+                seatsBySection.merge(sectionKey, section.seatIds() == null ? List.of() : section.seatIds(),
+                        (existing, added) -> {
+                            List<Long> merged = new ArrayList<>(existing);
+                            merged.addAll(added);
+                            return merged;
+                        });
+            }
 
-                Map<String, String> seatMap = new HashMap<>();
-                for (SeatStatusDto seatStatus : seatList.getData()) { // SeatStatusDto 리스트 순회
-                    String seatKey = String.valueOf(seatStatus.getSeatId()); // 실제 seatId 사용
-                    seatMap.put(seatKey, seatStatus.isBooked() ? "booked" : "available");
+            // 2) Lua Script로 좌석 선점 (holdToken 소유의 locked 상태로 변경, 만료된 선점은 회수)
+            //    여러 구역도 같은 회차이므로 Lua Script 한 번으로 전체 all-or-nothing 선점
+            if (performanceRequest.bestAvailableRequested()) {
+                String redisKey = seatsBySection.keySet().iterator().next();
+                // 좌석 수만 요청 → seatNumber 순으로 가장 앞쪽의 연속 좌석을 찾아 한 번에 선점
+                int seatCount = performanceRequest.seatCount();
+                if (seatCount < 1 || seatCount > MAX_CONTIGUOUS_SEATS) {
+                    throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
                 }
-                redisTemplate.opsForHash().putAll(redisKey, seatMap);
-                redisTemplate.expire(redisKey, Duration.ofHours(1)); // 캐시 TTL (옵션)
+                List<AllocatedSeat> allocated = seatInventory.allocateContiguous(
+                        redisKey, seatCount, holdToken, Duration.ofSeconds(HOLD_TTL_SECONDS));
+                if (allocated.isEmpty()) {
+                    throw new CustomException(ErrorCode.INSUFFICIENT_SEATS);
+                }
+                List<Long> seatIds = allocated.stream().map(AllocatedSeat::seatId).toList();
+                seatsBySection.put(redisKey, seatIds);
+                performanceRequest = performanceRequest.withSeats(
+                        seatIds, allocated.stream().map(AllocatedSeat::seatNumber).toList());
+                requestDto = new BookingRequestDto(
+                        requestDto.userId(),
+                        requestDto.serviceId(),
+                        requestDto.serviceType(),
+                        requestDto.totalFee(),
+                        requestDto.status(),
+                        performanceRequest
+                ); // 공연 서비스 확정 이벤트에 배정된 좌석 전달
+            } else if (seatsBySection.values().stream().anyMatch(List::isEmpty)) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE); // 좌석 없는 구역
+            } else if (!seatInventory.lock(seatsBySection, holdToken, Duration.ofSeconds(HOLD_TTL_SECONDS))) {
+                throw new CustomException(ErrorCode.SEAT_ALREADY_LOCKED);
             }
 
-            // 2) Lua Script로 좌석 선점 (locked 상태로 변경)
-            String holdToken = "HOLD:" + UUID.randomUUID();
+            seatsLocked = true; // 선점 상태 확인 flag
 
-            Long result = redisTemplate.execute(
-                    lockSeatsScript, // Lua Script Bean
-                    Collections.singletonList(redisKey),
-                    seatIds.stream().map(String::valueOf).toArray(String[]::new)
-            );
+            // 흐름이 중간에 끊겨도 선점 만료 후 워커가 정리하도록 해제 작업 등록 (확정/해제된 좌석은 영향 없음)
+            seatReleaseQueue.schedule(seatsBySection, holdToken,
+                    Instant.now().plusSeconds(HOLD_TTL_SECONDS + RELEASE_GRACE_SECONDS));
 
-            if (result == null || result == 0L) {
-                throw new CustomException(ErrorCode.SEAT_ALREADY_LOCKED);
+            PerformanceSeatHold hold = new PerformanceSeatHold(requestDto, performanceRequest, seatsBySection, holdToken);
+            bookingSagaLogService.start(hold, sagaId); // saga 진행 기록 시작 (이후 단계는 복구 가능)
+            return hold;
+
+        } catch (Exception ex) {
+            log.error("공연 좌석 선점 실패: userId={}, serviceId={}, err={}",
+                    requestDto.userId(), requestDto.serviceId(), ex.getMessage(), ex);
+
+            if (seatsLocked) {
+                // Redis 상태 복구
+                seatInventory.release(seatsBySection, holdToken);
             }
 
-            seatsLocked = true; // 선점 상태 확인 flag
+            if (ex instanceof CustomException) {
+                throw ex;
+            } else {
+                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, ex.getMessage(), ex);
+            }
+        }
+    }
 
+    // 3) ~ 8) 예약 생성, 결제, 좌석 확정 (실패 시 보상 : 좌석 해제, 예약 취소, 환불)
+    //    단계마다 booking_saga_logs 에 기록해, 중간에 인스턴스가 죽어도 복구 워커가 이어서 진행하거나 보상
+    public BookingCreateResponseDto completePerformanceBooking(PerformanceSeatHold hold) {
+        BookingRequestDto requestDto = hold.requestDto();
+        String holdToken = hold.holdToken();
+
+        try {
 
             // 3) 예약(PENDING) 생성
-            BookingCreateRequestDto createRequestDto = new BookingCreateRequestDto(
-                    requestDto.userId(),
-                    requestDto.serviceId(),
-                    requestDto.serviceType(),
-                    requestDto.totalFee(),
-                    requestDto.status()
-            );
-            booking = bookingService.createOrchestrationBooking(createRequestDto);
+            Booking booking = createPerformanceBooking(hold);
 
             // 4) 결제 요청
             PaymentCreateRequestDto paymentCreateRequestDto =
                     new PaymentCreateRequestDto(booking.getId(), PaymentStatus.PENDING, requestDto.totalFee());
 
-            ApiResponse<PaymentRequestResponseDto> response = paymentClient.requestPayment(paymentCreateRequestDto);
+            bookingSagaLogService.record(holdToken, BookingSagaStep.PAYMENT_REQUESTED);
+            ApiResponse<PaymentRequestResponseDto> response =
+                    requestPayment(holdToken, () -> paymentClient.requestPayment(paymentCreateRequestDto));
 
             if (!response.getData().paymentStatus().equals(PaymentStatus.COMPLETED)) {
+                bookingSagaLogService.record(holdToken, BookingSagaStep.PAYMENT_DECLINED);
                 throw new CustomException(ErrorCode.PAYMENT_FAILED);
             }
-            paymentId = response.getData().paymentId(); // 결제 ID 저장
+            bookingSagaLogService.paymentCompleted(holdToken, response.getData().paymentId()); // 결제 ID 저장
 
-            // 5) 결제 완료 → 좌석 booked 상태 반영 (Lua Script 활용 가능)
-            redisTemplate.execute(
-                    confirmBooking,
-                    Collections.singletonList(redisKey),
-                    seatIds.stream().map(String::valueOf).toArray(String[]::new)
-            );
+            return confirmPerformanceBooking(hold, booking.getId());
 
-            bookingService.confirmBooking(booking.getId());
+        } catch (Exception ex) {
+            throw failPerformanceBooking(hold, ex);
+        }
+    }
+
+    // 3) ~ 4) 비동기 결제 : 예약 생성 후 결제 접수까지만 처리하고, 좌석 선점을 유지한 채 결제 결과 이벤트/콜백을 기다림
+    //    결제가 바로 끝난 경우에만 이어서 확정한 결과 반환 (결과 대기 중이면 empty, 이후 AsyncPaymentSagaService 가 진행)
+    public Optional<BookingCreateResponseDto> requestPerformancePayment(PerformanceSeatHold hold,
+                                                                        Duration resultTimeout) {
+        BookingRequestDto requestDto = hold.requestDto();
+        String holdToken = hold.holdToken();
+
+        try {
+
+            // 3) 예약(PENDING) 생성
+            Long bookingId = createPerformanceBooking(hold).getId();
+
+            // 4) 결제 접수 : 결과가 요청 응답보다 먼저 도착할 수 있으므로 결과 대기 상태를 먼저 기록
+            PaymentCreateRequestDto paymentCreateRequestDto =
+                    new PaymentCreateRequestDto(bookingId, PaymentStatus.PENDING, requestDto.totalFee());
+
+            bookingSagaLogService.awaitPayment(holdToken, resultTimeout);
+            ApiResponse<PaymentRequestResponseDto> response;
+            try {
+                response = requestPayment(holdToken, () -> paymentClient.requestPaymentAsync(paymentCreateRequestDto));
+            } catch (RuntimeException e) {
+                // 응답을 받지 못함 : 그 사이 결제 결과가 반영됐으면 결과 처리 쪽에 맡기고, 아니면 결과를 모르는 채 보상
+                boolean rejected = e instanceof CustomException customException && isRejectedBeforeCall(customException);
+                if (!rejected && !bookingSagaLogService.expirePayment(bookingId, e.getMessage())) {
+                    log.warn("결제 접수 응답 전에 결제 결과가 반영되었습니다: bookingId={}, err={}", bookingId, e.getMessage());
+                    return Optional.empty();
+                }
+                throw e;
+            }
+
+            PaymentRequestResponseDto payment = response.getData();
+            bookingSagaLogService.paymentRequested(bookingId, payment.paymentId());
+            if (payment.paymentStatus() == PaymentStatus.PENDING) {
+                return Optional.empty();
+            }
+            // 바로 결과가 나온 경우도 결과 이벤트와 같은 방식으로 한 번만 반영
+            boolean paid = payment.paymentStatus() == PaymentStatus.COMPLETED;
+            if (!bookingSagaLogService.resolvePayment(bookingId, payment.paymentId(), paid,
+                    ErrorCode.PAYMENT_FAILED.getMessage())) {
+                return Optional.empty(); // 먼저 도착한 결과 이벤트가 진행
+            }
+            if (!paid) {
+                throw new CustomException(ErrorCode.PAYMENT_FAILED);
+            }
+            return Optional.of(confirmPerformanceBooking(hold, bookingId));
 
-            // 6) 공연 서비스에 좌석 최종 확정 요청
+        } catch (Exception ex) {
+            throw failPerformanceBooking(hold, ex);
+        }
+    }
+
+    // 3) 예약(PENDING) 생성
+    private Booking createPerformanceBooking(PerformanceSeatHold hold) {
+        BookingRequestDto requestDto = hold.requestDto();
+        BookingCreateRequestDto createRequestDto = new BookingCreateRequestDto(
+                requestDto.userId(),
+                requestDto.serviceId(),
+                requestDto.serviceType(),
+                requestDto.totalFee(),
+                requestDto.status()
+        );
+        Booking booking = bookingService.createOrchestrationBooking(createRequestDto);
+        bookingSagaLogService.bookingCreated(hold.holdToken(), booking.getId());
+        return booking;
+    }
 
-            bookingKafkaService.send(requestDto);
+    // 결제 요청 : bulkhead/circuit breaker 로 전송 전에 실패하면 결제되지 않았으므로 환불 없이 보상
+    private ApiResponse<PaymentRequestResponseDto> requestPayment(
+            String holdToken, Supplier<ApiResponse<PaymentRequestResponseDto>> request) {
+        try {
+            return request.get();
+        } catch (CustomException e) {
+            if (isRejectedBeforeCall(e)) {
+                bookingSagaLogService.record(holdToken, BookingSagaStep.PAYMENT_DECLINED);
+            }
+            throw e;
+        }
+    }
+
+    // 5) 결제 완료 → 좌석 booked 상태 반영 후 확정
+    private BookingCreateResponseDto confirmPerformanceBooking(PerformanceSeatHold hold, Long bookingId) {
+        if (!seatInventory.confirm(hold.seatsBySection(), hold.holdToken())) {
+            throw new CustomException(ErrorCode.SEAT_HOLD_EXPIRED); // 선점 만료 후 다른 요청이 회수 → 환불
+        }
+        bookingSagaLogService.record(hold.holdToken(), BookingSagaStep.SEATS_CONFIRMED);
+
+        return finishPerformanceBooking(hold, bookingId, BookingSagaStep.SEATS_CONFIRMED);
+    }
+
+    // 선점 이후 단계를 실행하지 못함 (비동기 실행 거절 등) : 선점한 좌석 보상 후 던질 예외 반환
+    public CustomException abandonPerformanceHold(PerformanceSeatHold hold, CustomException cause) {
+        return failPerformanceBooking(hold, cause);
+    }
+
+    // 실패 시 보상 후 다시 던질 예외 반환 (남은 보상은 복구 워커가 기록을 보고 이어서 진행)
+    private CustomException failPerformanceBooking(PerformanceSeatHold hold, Exception ex) {
+        BookingRequestDto requestDto = hold.requestDto();
+        String holdToken = hold.holdToken();
+        log.error("공연 예약 실패: userId={}, serviceId={}, err={}",
+                requestDto.userId(), requestDto.serviceId(), ex.getMessage(), ex);
+
+        try {
+            compensatePerformanceBooking(bookingSagaLogService.startCompensation(holdToken, ex.getMessage()));
+        } catch (Exception compensationEx) {
+            log.error("공연 예약 보상 실패, 복구 워커가 재시도합니다: holdToken={}", holdToken, compensationEx);
+        }
+
+        // GlobalExceptionHandler가 처리하도록 발생한 예외를 그대로 다시 던짐
+        if (ex instanceof CustomException customException) {
+            return customException;
+        }
+        return new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, ex.getMessage(), ex);
+    }
+
+    // 중단된 공연 예약 복구 : 결제까지 끝났으면 이어서 확정, 아니면 보상. 마지막 단계 반환
+    public BookingSagaStep recoverPerformanceBooking(BookingSagaLog sagaLog) {
+        String holdToken = sagaLog.getHoldToken();
+        BookingSagaStep step = sagaLog.getStep();
+
+        if (step == BookingSagaStep.COMPENSATING) {
+            return compensatePerformanceBooking(sagaLog);
+        }
+        if (!step.isPaid()) {
+            return compensatePerformanceBooking(
+                    bookingSagaLogService.startCompensation(holdToken, "중단된 예약 복구 (" + step + ")"));
+        }
+
+        if (step == BookingSagaStep.PAYMENT_COMPLETED) {
+            if (!seatInventory.confirm(sagaLog.getSeatsBySection(), holdToken)) {
+                if (!isAllBooked(sagaLog.getSeatsBySection())) {
+                    // 선점 만료 후 다른 요청이 회수 → 환불
+                    return compensatePerformanceBooking(bookingSagaLogService.startCompensation(
+                            holdToken, ErrorCode.SEAT_HOLD_EXPIRED.getMessage()));
+                }
+                // 좌석 확정 직후 기록 전에 중단된 경우 : 이미 booked
+            }
+            bookingSagaLogService.record(holdToken, BookingSagaStep.SEATS_CONFIRMED);
+            step = BookingSagaStep.SEATS_CONFIRMED;
+        }
+
+        finishPerformanceBooking(sagaLog.toSeatHold(), sagaLog.getBookingId(), step);
+        return BookingSagaStep.COMPLETED;
+    }
+
+    // 좌석 확정 이후 단계 : 예약 확정(이벤트 포함), 디테일 저장 (from 이후 단계부터 실행)
+    private BookingCreateResponseDto finishPerformanceBooking(PerformanceSeatHold hold, Long bookingId,
+                                                              BookingSagaStep from) {
+        BookingRequestDto requestDto = hold.requestDto();
+        BookingPerformanceRequestDto performanceRequest = hold.performanceRequest();
+        String holdToken = hold.holdToken();
+
+        // 6) 예약 확정 + 공연 서비스 좌석 최종 확정 이벤트, 알람 이벤트를 한 트랜잭션으로 기록 (발행은 outbox relay)
+        if (from != BookingSagaStep.BOOKING_CONFIRMED) {
+            String testval = String.valueOf(bookingId);
+            BookingRequestKafkaDto dto = new BookingRequestKafkaDto(
+                    1L,ServiceType.PERFORMANCE,1L,testval,"sevicename",null);
 
-            // 7) BookingDetail 저장
+            bookingService.confirmBooking(bookingId, List.of(
+                    BookingKafkaService.bookingCompleteMessage(requestDto),
+                    BookingKafkaService.bookingRequestMessage("booking", "1", dto)));
+            bookingSagaLogService.record(holdToken, BookingSagaStep.BOOKING_CONFIRMED);
+        }
+        Booking booking = bookingService.getBookingById(bookingId);
+
+        // 7) BookingDetail 저장 (복구로 다시 실행된 경우 이미 저장된 디테일은 건너뜀)
+        if (bookingDetailService.findBookingDetailByBookingId(bookingId).isEmpty()) {
             List<BookingSeatRequestDto> seatRequests = BookingSeatRequestDto.from(performanceRequest);
             List<SeatInfo> seatInfos = new ArrayList<>();
 
@@ -308,60 +530,75 @@ public class BookingOrchestrator {
                 seatInfos.add(new SeatInfo(
                         seat.seatId(),
                         seat.seatNumber(),
-                        seat.seatPrice()
+                        seat.seatPrice(),
+                        seat.sectionId(),
+                        seat.sectionName()
                 ));
             }
 
             PerformanceBookingDetail payload = new PerformanceBookingDetail(
                     booking.getServiceId(),      // performanceId
                     performanceRequest.sessionId(),
-                    performanceRequest.sectionId(),
-                    // 모든 좌석이 같은 구역(section)에 있다고 가정
+                    // 대표 구역은 첫 구역, 여러 구역 예약 시 좌석별 구역은 SeatInfo 에 기록
+                    seatRequests.isEmpty() ? null : seatRequests.get(0).sectionId(),
                     seatRequests.isEmpty() ? null : seatRequests.get(0).sectionName(),
                     performanceRequest.sessionDate().atTime(performanceRequest.sessionTime()),
                     seatInfos // 생성된 SeatInfo 리스트
             );
-            bookingDetailService.createBookingDetail(booking.getId(), payload);
+            bookingDetailService.createBookingDetail(bookingId, payload);
+        }
 
-            // 8) 알람 발송 (Kafka)
-            String testval = String.valueOf(booking.getId());
-            BookingRequestKafkaDto dto = new BookingRequestKafkaDto(
-                    1L,ServiceType.PERFORMANCE,1L,testval,"sevicename",null);
+        bookingSagaLogService.record(holdToken, BookingSagaStep.COMPLETED);
+        return BookingCreateResponseDto.from(booking);
+    }
 
-            bookingKafkaService.sendBookingRequest("booking","1", dto);
+    // 보상 : 좌석 해제 → 예약 취소 → 환불, 끝난 보상은 기록해 재실행 시 건너뜀
+    private BookingSagaStep compensatePerformanceBooking(BookingSagaLog sagaLog) {
+        String holdToken = sagaLog.getHoldToken();
+        Long bookingId = sagaLog.getBookingId();
 
-            return BookingCreateResponseDto.from(booking);
+        // Redis 상태 복구
+        if (!sagaLog.isSeatsReleased()) {
+            seatInventory.release(sagaLog.getSeatsBySection(), holdToken);
+            bookingSagaLogService.seatsReleased(holdToken);
+        }
 
-        } catch (Exception ex) {
-            log.error("공연 예약 실패: userId={}, serviceId={}, err={}",
-                    requestDto.userId(), requestDto.serviceId(), ex.getMessage(), ex);
+        if (bookingId != null && !sagaLog.isBookingCancelled()) {
+            bookingService.updateBookingStatus(bookingId, BookingStatus.CANCELLED);
+            bookingSagaLogService.bookingCancelled(holdToken);
+        }
 
-            if (seatsLocked) {
-                // Redis 상태 복구
-                redisTemplate.execute(
-                        releaseSeats,
-                        Collections.singletonList(redisKey),
-                        seatIds.stream().map(String::valueOf).toArray(String[]::new)
-                );
+        if (bookingId != null && sagaLog.isRefundRequired()) {
+            ApiResponse<Boolean> response = paymentClient.refundPayment(bookingId);
+            boolean refunded = response != null && Boolean.TRUE.equals(response.getData());
+            // 결제 결과를 모르는 경우 환불할 결제가 없을 수 있음
+            if (!refunded && !sagaLog.isPaymentUncertain()) {
+                throw new CustomException(ErrorCode.PAYMENT_FAILED, "환불 실패: bookingId=" + bookingId);
             }
+            bookingSagaLogService.paymentRefunded(holdToken);
+            log.error("결제 실패 환불을 진행했습니다: bookingId={}, refunded={}", bookingId, refunded);
+        }
 
+        bookingSagaLogService.record(holdToken, BookingSagaStep.COMPENSATED);
+        return BookingSagaStep.COMPENSATED;
+    }
 
-            if (booking != null) {
-                bookingService.updateBookingStatus(booking.getId(), BookingStatus.CANCELLED);
-            }
-
-            if (paymentId != null) {
-                paymentClient.refundPayment(booking.getId());
-                log.error("결제 실패 환불을 진행했습니다");
-            }
+    // 외부 서비스 격리/차단으로 요청을 보내지 않고 실패했는지 확인 (DownstreamResilienceCapability)
+    private boolean isRejectedBeforeCall(CustomException e) {
+        return e.getErrorCode() == ErrorCode.DOWNSTREAM_BUSY || e.getErrorCode() == ErrorCode.DOWNSTREAM_UNAVAILABLE;
+    }
 
-            // GlobalExceptionHandler가 처리하도록 발생한 예외를 그대로 다시 던짐
-            if (ex instanceof CustomException) {
-                throw ex;
-            } else {
-                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, ex.getMessage(), ex);
+    // 모든 좌석이 booked 인지 확인
+    private boolean isAllBooked(Map<String, List<Long>> seatsBySection) {
+        for (Map.Entry<String, List<Long>> section : seatsBySection.entrySet()) {
+            Map<Long, SeatState> seatMap = seatInventory.readSeatMap(section.getKey());
+            for (Long seatId : section.getValue()) {
+                if (seatMap.get(seatId) != SeatState.BOOKED) {
+                    return false;
+                }
             }
         }
+        return true;
     }
 
 
@@ -513,7 +750,7 @@ public class BookingOrchestrator {
         private List<String> tryLockSeats(Long sessionId, Long serviceId, List<Long> seatIds, String holdToken) {
             List<String> lockedKeys = new ArrayList<>();
             for (Long seatId : seatIds) {
-                String key = String.format(SEAT_KEY_FORMAT, sessionId, serviceId, seatId);
+                String key = SeatKeys.seatLockKey(serviceId, sessionId, seatId);
                 Boolean ok = redisTemplate.opsForValue().setIfAbsent(key, holdToken, HOLD_TTL_Hours, TimeUnit.HOURS);
                 if (Boolean.TRUE.equals(ok)) {
                     lockedKeys.add(key);
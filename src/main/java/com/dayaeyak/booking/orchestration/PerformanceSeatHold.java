@@ -0,0 +1,23 @@
+package com.dayaeyak.booking.orchestration;
+
+import com.dayaeyak.booking.domain.booking.dto.request.BookingPerformanceRequestDto;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 선점까지 끝난 공연 예약 (선점 이후 단계에 넘길 정보)
+ *
+ * @param requestDto         자동 배정 시 배정된 좌석이 반영된 예약 요청
+ * @param performanceRequest 자동 배정 시 배정된 좌석이 반영된 공연 예약 정보
+ * @param seatsBySection     구역 Redis Key → 선점한 seatId 목록
+ * @param holdToken          선점 소유자 식별용 token
+ */
+public record PerformanceSeatHold(
+        BookingRequestDto requestDto,
+        BookingPerformanceRequestDto performanceRequest,
+        Map<String, List<Long>> seatsBySection,
+        String holdToken
+) {
+}
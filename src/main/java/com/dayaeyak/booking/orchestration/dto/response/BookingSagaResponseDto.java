@@ -0,0 +1,28 @@
+package com.dayaeyak.booking.orchestration.dto.response;
+
+import com.dayaeyak.booking.domain.booking.dto.response.BookingCreateResponseDto;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaStatus;
+
+import java.util.Map;
+
+public record BookingSagaResponseDto(
+        String sagaId,
+        BookingSagaStatus status,
+        BookingCreateResponseDto booking, // COMPLETED 일 때
+        String errorCode, // FAILED 일 때
+        String message
+) {
+    public static BookingSagaResponseDto accepted(String sagaId) {
+        return new BookingSagaResponseDto(sagaId, BookingSagaStatus.ACCEPTED, null, null, null);
+    }
+
+    public static BookingSagaResponseDto from(String sagaId, Map<Object, Object> saga, BookingCreateResponseDto booking) {
+        return new BookingSagaResponseDto(
+                sagaId,
+                BookingSagaStatus.valueOf((String) saga.get("status")),
+                booking,
+                (String) saga.get("errorCode"),
+                (String) saga.get("message")
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비동기 결제 설정 (booking.payment.*)
+ *
+ * async-enabled     : true 면 비동기 예약 접수(/bookings/orchestration/async)의 결제를 결과 이벤트/콜백으로 기다림
+ * result-topic      : 결제 결과 이벤트 topic
+ * result-timeout-ms : 결제 결과 대기 시간, 초과 시 환불 요청을 포함해 보상 (좌석 선점 시간보다 짧게)
+ * callback-secret   : 결제 결과 콜백 body 의 HMAC-SHA256 서명 key (결제 서비스와 공유), 없으면 콜백을 받지 않고 이벤트만 사용
+ */
+@ConfigurationProperties(prefix = "booking.payment")
+public record AsyncPaymentProperties(
+        Boolean asyncEnabled,
+        String resultTopic,
+        Long resultTimeoutMs,
+        String callbackSecret
+) {
+
+    public AsyncPaymentProperties {
+        asyncEnabled = asyncEnabled == null ? Boolean.FALSE : asyncEnabled;
+        resultTopic = resultTopic == null ? "payment-result" : resultTopic;
+        resultTimeoutMs = resultTimeoutMs == null ? 180_000L : resultTimeoutMs;
+    }
+}
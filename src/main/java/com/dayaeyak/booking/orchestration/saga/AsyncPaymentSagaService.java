@@ -0,0 +1,141 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import com.dayaeyak.booking.client.payment.PaymentClient;
+import com.dayaeyak.booking.client.payment.PaymentResultDto;
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.domain.booking.BookingService;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingCreateResponseDto;
+import com.dayaeyak.booking.orchestration.BookingOrchestrator;
+import com.dayaeyak.booking.utils.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비동기 결제 결과 처리
+ *
+ * 결제 결과(payment-result 이벤트 또는 콜백)를 받아 PAYMENT_PENDING 에서 멈춘 saga 를 이어서 진행합니다.
+ * - 결과는 saga 기록을 잠근 뒤 결과를 기다리던 saga 에만 한 번 반영하므로 중복 수신, 이벤트/콜백 동시 수신에도 한 번만 진행
+ * - 결제 접수 응답으로 받은 결제 ID 와 다른 결과는 반영하지 않음 (mismatch)
+ * - 결제 완료 : 좌석 확정 → 예약 확정, 결제 실패 : 보상 (환불 없음)
+ * - 결과 대기 시간이 지나면 복구 워커가 결과를 모르는 채 보상 (환불 요청 포함)
+ * - 보상 이후 도착한 결제 완료(늦은 결과)는 다시 환불 요청
+ * 진행이 끝나면 BookingSagaStore 상태를 갱신해 상태 조회/SSE 로 결과를 전달합니다.
+ *
+ * 지표 : booking.payment.result{result=paid|declined|duplicate|late|late_refund|unknown|mismatch}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncPaymentSagaService {
+
+    private final BookingOrchestrator bookingOrchestrator;
+    private final BookingSagaLogService bookingSagaLogService;
+    private final BookingSagaStore bookingSagaStore;
+    private final BookingService bookingService;
+    private final PaymentClient paymentClient;
+    private final MeterRegistry meterRegistry;
+
+    public void handleResult(PaymentResultDto result) {
+        Long bookingId = result.bookingId();
+        boolean applied;
+        try {
+            applied = bookingSagaLogService.resolvePayment(
+                    bookingId, result.paymentId(), result.isPaid(), declineReason(result));
+        } catch (CustomException e) {
+            if (e.getErrorCode() == ErrorCode.PAYMENT_RESULT_MISMATCH) {
+                count("mismatch");
+                log.warn("Payment result rejected: bookingId={}, paymentId={}", bookingId, result.paymentId());
+                throw e;
+            }
+            if (e.getErrorCode() != ErrorCode.BOOKING_SAGA_NOT_FOUND) {
+                throw e;
+            }
+            count("unknown"); // 이 서비스의 saga 가 아닌 결제 (동기 결제 등)
+            log.warn("Payment result for unknown saga ignored: bookingId={}", bookingId);
+            return;
+        }
+
+        BookingSagaLog sagaLog = bookingSagaLogService.getByBookingId(bookingId);
+        if (!applied) {
+            handleUnapplied(sagaLog, result);
+            return;
+        }
+
+        count(result.isPaid() ? "paid" : "declined");
+        try {
+            publish(sagaLog, bookingOrchestrator.recoverPerformanceBooking(sagaLog));
+        } catch (Exception e) {
+            // 결과는 반영됐으므로 남은 단계는 복구 워커가 이어서 진행
+            log.error("결제 결과 반영 후 진행 실패, 복구 워커가 재시도합니다: bookingId={}", bookingId, e);
+        }
+    }
+
+    // 복구 워커 : 결과 대기 시간이 지난 saga 는 보상, 진행 중 멈춘 saga 는 이어서 진행. 마지막 단계 반환
+    public BookingSagaStep recover(BookingSagaLog sagaLog) {
+        if (sagaLog.isAwaitingPayment()) {
+            if (!bookingSagaLogService.expirePayment(sagaLog.getBookingId(), ErrorCode.PAYMENT_TIMEOUT.getMessage())) {
+                return sagaLog.getStep(); // 그 사이 도착한 결제 결과가 진행
+            }
+            sagaLog = bookingSagaLogService.getByBookingId(sagaLog.getBookingId());
+        }
+        BookingSagaStep step = bookingOrchestrator.recoverPerformanceBooking(sagaLog);
+        publish(sagaLog, step);
+        return step;
+    }
+
+    // 결과를 기다리지 않는 saga 에 온 결과 : 이미 반영한 결과면 무시, 보상 이후 도착한 결제 완료면 환불
+    private void handleUnapplied(BookingSagaLog sagaLog, PaymentResultDto result) {
+        boolean compensated = sagaLog.getStep() == BookingSagaStep.COMPENSATING
+                || sagaLog.getStep() == BookingSagaStep.COMPENSATED
+                || sagaLog.getStep() == BookingSagaStep.FAILED;
+        if (!compensated || sagaLog.getPaymentId() != null) {
+            count("duplicate");
+            log.info("Duplicate payment result ignored: bookingId={}, step={}", result.bookingId(), sagaLog.getStep());
+            return;
+        }
+        if (!result.isPaid()) {
+            count("late");
+            return;
+        }
+
+        // 결과 대기 시간 초과로 보상한 뒤 결제가 완료된 경우 (환불 요청은 결제 서비스에서 예약 기준으로 한 번만 처리)
+        ApiResponse<Boolean> response = paymentClient.refundPayment(result.bookingId());
+        if (response == null || !Boolean.TRUE.equals(response.getData())) {
+            throw new CustomException(ErrorCode.PAYMENT_FAILED, "늦은 결제 환불 실패: bookingId=" + result.bookingId());
+        }
+        count("late_refund");
+        log.error("보상 이후 결제 완료되어 환불했습니다: bookingId={}, paymentId={}", result.bookingId(), result.paymentId());
+    }
+
+    // 비동기 예약 접수 상태 갱신 (상태 조회/SSE)
+    private void publish(BookingSagaLog sagaLog, BookingSagaStep step) {
+        if (sagaLog.getSagaId() == null) {
+            return;
+        }
+        if (step == BookingSagaStep.COMPLETED) {
+            bookingSagaStore.complete(sagaLog.getSagaId(),
+                    BookingCreateResponseDto.from(bookingService.getBookingById(sagaLog.getBookingId())));
+        } else if (step == BookingSagaStep.COMPENSATED) {
+            bookingSagaStore.fail(sagaLog.getSagaId(), failureOf(sagaLog), null);
+        }
+    }
+
+    // 보상으로 끝난 사유 : 결제까지 끝났으면 좌석 선점 만료, 결과를 모르면 결제 시간 초과, 아니면 결제 실패
+    private static ErrorCode failureOf(BookingSagaLog sagaLog) {
+        if (sagaLog.getPaymentId() != null) {
+            return ErrorCode.SEAT_HOLD_EXPIRED;
+        }
+        return sagaLog.isPaymentUncertain() ? ErrorCode.PAYMENT_TIMEOUT : ErrorCode.PAYMENT_FAILED;
+    }
+
+    private static String declineReason(PaymentResultDto result) {
+        return result.reason() == null ? ErrorCode.PAYMENT_FAILED.getMessage() : result.reason();
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("booking.payment.result", "result", result).increment();
+    }
+}
@@ -0,0 +1,92 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import com.dayaeyak.booking.orchestration.dto.response.BookingSagaResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 비동기 예약 결과 SSE 전달
+ *
+ * 예약을 처리한 인스턴스와 SSE 를 연결한 인스턴스가 다를 수 있으므로
+ * booking:saga:events 채널로 완료 알림을 받아 이 인스턴스에 연결된 구독자에게만 전송합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingSagaEventHub implements MessageListener {
+
+    private static final long SSE_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+    private static final String EVENT_NAME = "booking-status";
+
+    private final BookingSagaStore bookingSagaStore;
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(String sagaId) {
+        BookingSagaResponseDto saga = bookingSagaStore.find(sagaId);
+
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        emitters.computeIfAbsent(sagaId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> remove(sagaId, emitter));
+        emitter.onTimeout(() -> remove(sagaId, emitter));
+        emitter.onError(e -> remove(sagaId, emitter));
+
+        // 구독 전에 이미 끝났을 수 있으므로 등록 후 현재 상태를 한 번 보냄
+        send(emitter, saga);
+        if (saga.status().isTerminal()) {
+            emitter.complete();
+        } else {
+            // 등록과 완료 알림 사이에 끝난 경우 대비
+            BookingSagaResponseDto latest = bookingSagaStore.find(sagaId);
+            if (latest.status().isTerminal()) {
+                send(emitter, latest);
+                emitter.complete();
+            }
+        }
+        return emitter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sagaId = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<SseEmitter> subscribers = emitters.remove(sagaId);
+        if (subscribers == null) {
+            return;
+        }
+        BookingSagaResponseDto saga = bookingSagaStore.find(sagaId);
+        for (SseEmitter emitter : subscribers) {
+            send(emitter, saga);
+            emitter.complete();
+        }
+    }
+
+    private void send(SseEmitter emitter, BookingSagaResponseDto saga) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(saga));
+        } catch (IOException e) {
+            log.debug("SSE send failed: sagaId={}", saga.sagaId());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(String sagaId, SseEmitter emitter) {
+        List<SseEmitter> subscribers = emitters.get(sagaId);
+        if (subscribers != null) {
+            subscribers.remove(emitter);
+            if (subscribers.isEmpty()) {
+                emitters.remove(sagaId, subscribers);
+            }
+        }
+    }
+}
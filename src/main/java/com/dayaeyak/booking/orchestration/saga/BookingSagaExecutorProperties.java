@@ -0,0 +1,27 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비동기 예약 실행 thread pool 설정 (booking.saga.executor.*)
+ *
+ * core-pool-size / max-pool-size : saga 동시 실행 수 (queue 가 가득 찬 뒤에 max 까지 늘어남, 가상 스레드 사용 시 max 만 사용)
+ * queue-capacity                 : 실행 대기 saga 수, 가득 차면 접수 단계에서 503
+ *                                  (대기 시간이 좌석 선점 시간, 복구 대기 시간보다 충분히 짧도록 작게)
+ * await-termination-seconds      : 종료 시 실행 중인 saga 를 기다리는 시간
+ */
+@ConfigurationProperties(prefix = "booking.saga.executor")
+public record BookingSagaExecutorProperties(
+        Integer corePoolSize,
+        Integer maxPoolSize,
+        Integer queueCapacity,
+        Integer awaitTerminationSeconds
+) {
+
+    public BookingSagaExecutorProperties {
+        corePoolSize = corePoolSize == null ? 32 : corePoolSize;
+        maxPoolSize = maxPoolSize == null ? 64 : maxPoolSize;
+        queueCapacity = queueCapacity == null ? 200 : queueCapacity;
+        awaitTerminationSeconds = awaitTerminationSeconds == null ? 30 : awaitTerminationSeconds;
+    }
+}
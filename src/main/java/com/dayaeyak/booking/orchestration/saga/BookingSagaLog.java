@@ -0,0 +1,214 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import com.dayaeyak.booking.common.entity.BaseEntity;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingPerformanceRequestDto;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+import com.dayaeyak.booking.domain.booking.enums.BookingStatus;
+import com.dayaeyak.booking.domain.booking.enums.ServiceType;
+import com.dayaeyak.booking.orchestration.PerformanceSeatHold;
+import com.vladmihalcea.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공연 예약 saga 진행 기록 (예약 1건 = 1행, hold token 으로 식별)
+ *
+ * 단계가 바뀔 때마다 커밋하므로 인스턴스가 중간에 죽어도 어디까지 진행했는지 남습니다.
+ * next_recovery_at 이 지나도록 끝나지 않은 saga 는 BookingSagaRecoveryScheduler 가 이어서 진행하거나 보상합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "booking_saga_logs",
+        indexes = {
+                @Index(name = "idx_booking_saga_logs_recovery", columnList = "step, next_recovery_at"),
+                @Index(name = "idx_booking_saga_logs_booking_id", columnList = "booking_id")
+        })
+@Entity
+public class BookingSagaLog extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "hold_token", nullable = false, unique = true, updatable = false)
+    private String holdToken;
+
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    // 비동기 결제 접수 응답으로 받은 결제 ID (결제 결과가 이 예약의 결제인지 검증), 접수 응답 전이면 null
+    @Column(name = "requested_payment_id")
+    private Long requestedPaymentId;
+
+    // 비동기 예약 접수 ID (결제 결과 수신, 복구 시 BookingSagaStore 상태 갱신용), 동기 예약은 null
+    @Column(name = "saga_id", updatable = false)
+    private String sagaId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "step", nullable = false)
+    private BookingSagaStep step;
+
+    // 복구 시 예약 요청 재구성용
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "service_id", nullable = false)
+    private Long serviceId;
+
+    @Column(name = "total_fee")
+    private Integer totalFee;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "request_status")
+    private BookingStatus requestStatus;
+
+    @Type(JsonType.class)
+    @Column(name = "seats_by_section", columnDefinition = "json", nullable = false)
+    private Map<String, List<Long>> seatsBySection;
+
+    @Type(JsonType.class)
+    @Column(name = "performance_request", columnDefinition = "json", nullable = false)
+    private BookingPerformanceRequestDto performanceRequest;
+
+    // 보상 진행 상황 (재실행 시 끝난 보상은 건너뜀)
+    @Column(name = "seats_released", nullable = false)
+    private boolean seatsReleased;
+
+    @Column(name = "booking_cancelled", nullable = false)
+    private boolean bookingCancelled;
+
+    @Column(name = "payment_refunded", nullable = false)
+    private boolean paymentRefunded;
+
+    // 결제 결과를 모른 채 보상에 들어간 경우 (환불 요청은 하되 환불할 결제가 없어도 성공으로 봄)
+    @Column(name = "payment_uncertain", nullable = false)
+    private boolean paymentUncertain;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "recovery_attempts", nullable = false)
+    private int recoveryAttempts;
+
+    @Column(name = "next_recovery_at", nullable = false)
+    private LocalDateTime nextRecoveryAt;
+
+    public BookingSagaLog(PerformanceSeatHold hold, String sagaId, LocalDateTime nextRecoveryAt) {
+        BookingRequestDto requestDto = hold.requestDto();
+        this.holdToken = hold.holdToken();
+        this.sagaId = sagaId;
+        this.step = BookingSagaStep.SEATS_HELD;
+        this.userId = requestDto.userId();
+        this.serviceId = requestDto.serviceId();
+        this.totalFee = requestDto.totalFee();
+        this.requestStatus = requestDto.status();
+        this.seatsBySection = hold.seatsBySection();
+        this.performanceRequest = hold.performanceRequest();
+        this.nextRecoveryAt = nextRecoveryAt;
+    }
+
+    // 선점 이후 단계를 다시 실행할 수 있도록 선점 정보 복원
+    public PerformanceSeatHold toSeatHold() {
+        BookingRequestDto requestDto = new BookingRequestDto(
+                userId,
+                serviceId,
+                ServiceType.PERFORMANCE,
+                totalFee,
+                requestStatus,
+                performanceRequest
+        );
+        return new PerformanceSeatHold(requestDto, performanceRequest, seatsBySection, holdToken);
+    }
+
+    public void advance(BookingSagaStep step, LocalDateTime nextRecoveryAt) {
+        this.step = step;
+        this.nextRecoveryAt = nextRecoveryAt;
+    }
+
+    public void bookingCreated(Long bookingId, LocalDateTime nextRecoveryAt) {
+        this.bookingId = bookingId;
+        advance(BookingSagaStep.BOOKING_CREATED, nextRecoveryAt);
+    }
+
+    public void paymentCompleted(Long paymentId, LocalDateTime nextRecoveryAt) {
+        this.paymentId = paymentId;
+        advance(BookingSagaStep.PAYMENT_COMPLETED, nextRecoveryAt);
+    }
+
+    // 결제 결과 대기 : 결과가 timeoutAt 까지 오지 않으면 복구 워커가 보상
+    public void awaitPayment(LocalDateTime timeoutAt) {
+        advance(BookingSagaStep.PAYMENT_PENDING, timeoutAt);
+    }
+
+    // 처음 받은 결제 ID 만 기록
+    public void paymentRequested(Long paymentId) {
+        if (this.requestedPaymentId == null) {
+            this.requestedPaymentId = paymentId;
+        }
+    }
+
+    // 선점 직후 아직 누구도 진행하지 않은 saga (복구 워커가 가져간 적 없음)
+    public boolean isUnstarted() {
+        return step == BookingSagaStep.SEATS_HELD && recoveryAttempts == 0;
+    }
+
+    public boolean isAwaitingPayment() {
+        return step == BookingSagaStep.PAYMENT_PENDING;
+    }
+
+    // 이미 보상 중이면 처음 기록한 사유 유지
+    public void startCompensation(String reason, LocalDateTime nextRecoveryAt) {
+        if (step != BookingSagaStep.COMPENSATING) {
+            this.paymentUncertain = step == BookingSagaStep.PAYMENT_REQUESTED
+                    || step == BookingSagaStep.PAYMENT_PENDING;
+            this.failureReason = truncate(reason);
+            this.step = BookingSagaStep.COMPENSATING;
+        }
+        this.nextRecoveryAt = nextRecoveryAt;
+    }
+
+    public void markSeatsReleased() {
+        this.seatsReleased = true;
+    }
+
+    public void markBookingCancelled() {
+        this.bookingCancelled = true;
+    }
+
+    public void markPaymentRefunded() {
+        this.paymentRefunded = true;
+    }
+
+    public boolean isRefundRequired() {
+        return !paymentRefunded && (paymentId != null || paymentUncertain);
+    }
+
+    // 복구 워커가 가져감 : 임대 시간 동안 다른 인스턴스가 다시 가져가지 않음
+    public void claim(LocalDateTime leaseUntil) {
+        this.recoveryAttempts++;
+        this.nextRecoveryAt = leaseUntil;
+    }
+
+    public void fail(String reason) {
+        this.step = BookingSagaStep.FAILED;
+        this.failureReason = truncate(reason);
+    }
+
+    private static String truncate(String reason) {
+        if (reason == null || reason.length() <= 500) {
+            return reason;
+        }
+        return reason.substring(0, 500);
+    }
+}
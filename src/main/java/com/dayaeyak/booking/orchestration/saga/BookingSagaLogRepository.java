@@ -0,0 +1,44 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingSagaLogRepository extends JpaRepository<BookingSagaLog, Long> {
+
+    Optional<BookingSagaLog> findByHoldToken(String holdToken);
+
+    Optional<BookingSagaLog> findByBookingId(Long bookingId);
+
+    // 비동기 실행 시작 확인용, 복구 워커 임대와 동시에 일어나도 한쪽만 진행
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from BookingSagaLog s where s.holdToken = :holdToken")
+    Optional<BookingSagaLog> findByHoldTokenForUpdate(@Param("holdToken") String holdToken);
+
+    // 결제 결과 반영용, 같은 예약의 결과가 동시에 들어와도 한 건씩 처리
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from BookingSagaLog s where s.bookingId = :bookingId")
+    Optional<BookingSagaLog> findByBookingIdForUpdate(@Param("bookingId") Long bookingId);
+
+    // 복구 대상 조회, 다른 인스턴스가 잠근 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select s from BookingSagaLog s " +
+            "where s.step not in :terminalSteps and s.nextRecoveryAt <= :now " +
+            "order by s.nextRecoveryAt")
+    List<BookingSagaLog> findRecoverable(@Param("terminalSteps") Collection<BookingSagaStep> terminalSteps,
+                                         @Param("now") LocalDateTime now,
+                                         Pageable pageable);
+
+    long countByStepNotInAndNextRecoveryAtLessThanEqual(Collection<BookingSagaStep> steps, LocalDateTime now);
+}
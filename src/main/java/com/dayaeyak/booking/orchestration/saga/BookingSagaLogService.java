@@ -0,0 +1,182 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.orchestration.PerformanceSeatHold;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 공연 예약 saga 단계 기록
+ *
+ * 단계마다 짧은 트랜잭션으로 바로 커밋합니다. (오케스트레이터 전체는 트랜잭션으로 묶지 않음)
+ * 기록할 때마다 next_recovery_at 을 RECOVER_AFTER 뒤로 미뤄, 정상 진행 중인 saga 는 복구 대상이 되지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookingSagaLogService {
+
+    // 마지막 기록 이후 이 시간 동안 진행이 없으면 인스턴스가 죽은 것으로 보고 복구 (결제 요청 타임아웃보다 길게)
+    private static final Duration RECOVER_AFTER = Duration.ofSeconds(90);
+
+    private final BookingSagaLogRepository bookingSagaLogRepository;
+
+    // sagaId : 비동기 예약 접수 ID (동기 예약은 null), 복구 결과를 접수 상태에 반영할 때 사용
+    @Transactional
+    public void start(PerformanceSeatHold hold, String sagaId) {
+        bookingSagaLogRepository.save(new BookingSagaLog(hold, sagaId, recoverAt()));
+    }
+
+    // 비동기 실행 대기열에서 꺼낸 saga 실행 시작 : 대기 중 복구 워커가 먼저 가져갔으면 false (실행하지 않음)
+    // 가져가면 복구 시점을 다시 미뤄 실행 중에는 복구 대상이 되지 않음
+    @Transactional
+    public boolean claimExecution(String holdToken) {
+        BookingSagaLog sagaLog = bookingSagaLogRepository.findByHoldTokenForUpdate(holdToken)
+                .orElseThrow(() -> new CustomException(ErrorCode.BOOKING_SAGA_NOT_FOUND));
+        if (!sagaLog.isUnstarted()) {
+            return false;
+        }
+        sagaLog.advance(BookingSagaStep.SEATS_HELD, recoverAt());
+        return true;
+    }
+
+    @Transactional
+    public void bookingCreated(String holdToken, Long bookingId) {
+        update(holdToken, sagaLog -> sagaLog.bookingCreated(bookingId, recoverAt()));
+    }
+
+    @Transactional
+    public void paymentCompleted(String holdToken, Long paymentId) {
+        update(holdToken, sagaLog -> sagaLog.paymentCompleted(paymentId, recoverAt()));
+    }
+
+    // 비동기 결제 : 결과 대기 동안은 복구 대상에서 빼고, timeout 이 지나면 복구 워커가 보상
+    @Transactional
+    public void awaitPayment(String holdToken, Duration timeout) {
+        update(holdToken, sagaLog -> sagaLog.awaitPayment(LocalDateTime.now().plus(timeout)));
+    }
+
+    // 비동기 결제 접수 응답 : 이후 결제 결과 검증용 결제 ID 기록
+    @Transactional
+    public void paymentRequested(Long bookingId, Long paymentId) {
+        lockByBookingId(bookingId).paymentRequested(paymentId);
+    }
+
+    // 결제 결과 반영 : 결과를 기다리던 saga 에만 한 번 반영, 중복/늦은 결과는 false
+    // 접수 응답으로 받은 결제 ID 와 다른 결과는 PAYMENT_RESULT_MISMATCH,
+    // 접수 응답 전에 도착한 결과는 검증할 수 없으므로 PAYMENT_RESULT_NOT_READY (이벤트 재시도/콜백 재전송으로 다시 처리)
+    @Transactional
+    public boolean resolvePayment(Long bookingId, Long paymentId, boolean paid, String reason) {
+        BookingSagaLog sagaLog = lockByBookingId(bookingId);
+        verifyPayment(sagaLog, paymentId);
+        if (!sagaLog.isAwaitingPayment()) {
+            return false;
+        }
+        if (paid) {
+            sagaLog.paymentCompleted(paymentId, recoverAt());
+        } else {
+            sagaLog.advance(BookingSagaStep.PAYMENT_DECLINED, recoverAt());
+            sagaLog.startCompensation(reason, recoverAt()); // 결제되지 않았으므로 환불 없음
+        }
+        return true;
+    }
+
+    // 결제 결과 대기 시간 초과 : 결과를 모르므로 환불 요청을 포함해 보상, 그 사이 결과가 반영됐으면 false
+    @Transactional
+    public boolean expirePayment(Long bookingId, String reason) {
+        BookingSagaLog sagaLog = lockByBookingId(bookingId);
+        if (!sagaLog.isAwaitingPayment()) {
+            return false;
+        }
+        sagaLog.startCompensation(reason, recoverAt());
+        return true;
+    }
+
+    public BookingSagaLog getByBookingId(Long bookingId) {
+        return bookingSagaLogRepository.findByBookingId(bookingId)
+                .orElseThrow(() -> new CustomException(ErrorCode.BOOKING_SAGA_NOT_FOUND));
+    }
+
+    @Transactional
+    public void record(String holdToken, BookingSagaStep step) {
+        update(holdToken, sagaLog -> sagaLog.advance(step, recoverAt()));
+    }
+
+    // 보상 시작 : 보상 진행 상황이 담긴 기록 반환
+    @Transactional
+    public BookingSagaLog startCompensation(String holdToken, String reason) {
+        return update(holdToken, sagaLog -> sagaLog.startCompensation(reason, recoverAt()));
+    }
+
+    @Transactional
+    public void seatsReleased(String holdToken) {
+        update(holdToken, BookingSagaLog::markSeatsReleased);
+    }
+
+    @Transactional
+    public void bookingCancelled(String holdToken) {
+        update(holdToken, BookingSagaLog::markBookingCancelled);
+    }
+
+    @Transactional
+    public void paymentRefunded(String holdToken) {
+        update(holdToken, BookingSagaLog::markPaymentRefunded);
+    }
+
+    @Transactional
+    public void fail(String holdToken, String reason) {
+        update(holdToken, sagaLog -> sagaLog.fail(reason));
+    }
+
+    // 복구 대상 saga 를 limit 건 가져와 lease 동안 임대 (여러 인스턴스가 동시에 실행해도 중복 처리하지 않음)
+    @Transactional
+    public List<BookingSagaLog> claimRecoverable(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingSagaLog> sagaLogs = bookingSagaLogRepository.findRecoverable(
+                BookingSagaStep.terminalSteps(), now, PageRequest.of(0, limit));
+        sagaLogs.forEach(sagaLog -> sagaLog.claim(now.plus(lease)));
+        return sagaLogs;
+    }
+
+    public long countRecoverable() {
+        return bookingSagaLogRepository.countByStepNotInAndNextRecoveryAtLessThanEqual(
+                BookingSagaStep.terminalSteps(), LocalDateTime.now());
+    }
+
+    private BookingSagaLog update(String holdToken, Consumer<BookingSagaLog> change) {
+        BookingSagaLog sagaLog = bookingSagaLogRepository.findByHoldToken(holdToken)
+                .orElseThrow(() -> new CustomException(ErrorCode.BOOKING_SAGA_NOT_FOUND));
+        change.accept(sagaLog);
+        return sagaLog;
+    }
+
+    // 접수 응답 없이 보상된 saga 에 온 결과는 검증 없이 통과 (늦은 결과 처리는 예약 기준 환불 요청뿐)
+    private static void verifyPayment(BookingSagaLog sagaLog, Long paymentId) {
+        Long requestedPaymentId = sagaLog.getRequestedPaymentId();
+        if (requestedPaymentId != null) {
+            if (!requestedPaymentId.equals(paymentId)) {
+                throw new CustomException(ErrorCode.PAYMENT_RESULT_MISMATCH);
+            }
+            return;
+        }
+        if (sagaLog.isAwaitingPayment()) {
+            throw new CustomException(ErrorCode.PAYMENT_RESULT_NOT_READY);
+        }
+    }
+
+    private BookingSagaLog lockByBookingId(Long bookingId) {
+        return bookingSagaLogRepository.findByBookingIdForUpdate(bookingId)
+                .orElseThrow(() -> new CustomException(ErrorCode.BOOKING_SAGA_NOT_FOUND));
+    }
+
+    private static LocalDateTime recoverAt() {
+        return LocalDateTime.now().plus(RECOVER_AFTER);
+    }
+}
@@ -0,0 +1,89 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.config.BookingSagaExecutorConfig;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingCreateResponseDto;
+import com.dayaeyak.booking.orchestration.BookingOrchestrator;
+import com.dayaeyak.booking.orchestration.PerformanceSeatHold;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 예약 접수 후 나머지 단계를 백그라운드에서 실행하고 결과를 BookingSagaStore 에 기록
+ * (비동기 결제로 결과를 기다리게 되면 ACCEPTED 로 두고, 결과 수신 시 AsyncPaymentSagaService 가 기록)
+ * 전용 thread pool(bookingSagaExecutor)에서 실행하며, 가득 차면 호출 시 TaskRejectedException
+ * 공연 예약은 실행 전에 saga 기록을 가져가 확인하므로, 대기하는 동안 복구 워커가 먼저 보상한 saga 는 실행하지 않습니다.
+ * (이 경우 결과는 복구 워커가 BookingSagaStore 에 기록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingSagaRunner {
+
+    private final BookingOrchestrator bookingOrchestrator;
+    private final BookingSagaStore bookingSagaStore;
+    private final BookingSagaLogService bookingSagaLogService;
+    private final AsyncPaymentProperties asyncPaymentProperties;
+
+    // 좌석 선점 이후 단계 (예약 생성, 결제, 확정)
+    @Async(BookingSagaExecutorConfig.BOOKING_SAGA_EXECUTOR)
+    public void completePerformanceBooking(String sagaId, PerformanceSeatHold hold) {
+        if (!claim(sagaId, hold)) {
+            return;
+        }
+        run(sagaId, () -> bookingOrchestrator.completePerformanceBooking(hold));
+    }
+
+    // 좌석 선점 이후 예약 생성, 결제 접수 (결제 결과는 이벤트/콜백으로 수신)
+    @Async(BookingSagaExecutorConfig.BOOKING_SAGA_EXECUTOR)
+    public void requestPerformancePayment(String sagaId, PerformanceSeatHold hold) {
+        if (!claim(sagaId, hold)) {
+            return;
+        }
+        Duration resultTimeout = Duration.ofMillis(asyncPaymentProperties.resultTimeoutMs());
+        runUntilParked(sagaId, () -> bookingOrchestrator.requestPerformancePayment(hold, resultTimeout));
+    }
+
+    // 좌석 선점이 없는 서비스는 전체 흐름
+    @Async(BookingSagaExecutorConfig.BOOKING_SAGA_EXECUTOR)
+    public void orchestrateBooking(String sagaId, BookingRequestDto requestDto) {
+        run(sagaId, () -> bookingOrchestrator.orchestrateBooking(requestDto));
+    }
+
+    private boolean claim(String sagaId, PerformanceSeatHold hold) {
+        try {
+            if (bookingSagaLogService.claimExecution(hold.holdToken())) {
+                return true;
+            }
+            log.warn("복구 워커가 먼저 처리한 saga 실행 생략: sagaId={}, holdToken={}", sagaId, hold.holdToken());
+        } catch (Exception e) {
+            // 기록을 확인하지 못하면 실행하지 않음 (복구 시점이 지나면 복구 워커가 보상)
+            log.error("비동기 예약 실행 시작 실패: sagaId={}", sagaId, e);
+        }
+        return false;
+    }
+
+    private void run(String sagaId, Supplier<BookingCreateResponseDto> saga) {
+        runUntilParked(sagaId, () -> Optional.of(saga.get()));
+    }
+
+    // 결과 없이 끝나면 결제 결과 대기 중이므로 상태를 그대로 둠
+    private void runUntilParked(String sagaId, Supplier<Optional<BookingCreateResponseDto>> saga) {
+        try {
+            saga.get().ifPresent(booking -> bookingSagaStore.complete(sagaId, booking));
+        } catch (CustomException e) {
+            bookingSagaStore.fail(sagaId, e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            log.error("비동기 예약 실패: sagaId={}", sagaId, e);
+            bookingSagaStore.fail(sagaId, ErrorCode.INTERNAL_SERVER_ERROR, null);
+        }
+    }
+}
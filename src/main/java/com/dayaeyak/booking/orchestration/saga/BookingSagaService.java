@@ -0,0 +1,85 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import com.dayaeyak.booking.common.dto.Passport;
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+import com.dayaeyak.booking.domain.booking.enums.ServiceType;
+import com.dayaeyak.booking.orchestration.BookingOrchestrator;
+import com.dayaeyak.booking.orchestration.PerformanceSeatHold;
+import com.dayaeyak.booking.orchestration.dto.response.BookingSagaResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 예약 접수
+ *
+ * 요청 스레드에서는 좌석 선점까지만 처리하고 sagaId 를 반환합니다. (선점 실패는 바로 응답)
+ * 예약 생성, 결제, 확정은 BookingSagaRunner 가 백그라운드에서 처리하며, 결과는 상태 조회 또는 SSE 로 확인합니다.
+ * booking.payment.async-enabled 면 공연 예약은 결제 접수까지만 처리하고 결제 결과 수신 시 이어서 진행합니다.
+ * 실행 thread pool 이 가득 차면 무한정 대기시키지 않고 503 (좌석 선점 전에 확인, 선점 후 거절되면 좌석 보상)
+ */
+@Service
+@RequiredArgsConstructor
+public class BookingSagaService {
+
+    private final BookingOrchestrator bookingOrchestrator;
+    private final BookingSagaRunner bookingSagaRunner;
+    private final BookingSagaStore bookingSagaStore;
+    private final BookingSagaEventHub bookingSagaEventHub;
+    private final AsyncPaymentProperties asyncPaymentProperties;
+    private final ThreadPoolTaskExecutor bookingSagaExecutor;
+
+    public BookingSagaResponseDto submit(BookingRequestDto requestDto) {
+        ensureCapacity();
+        String sagaId = UUID.randomUUID().toString();
+
+        if (requestDto.serviceType() == ServiceType.PERFORMANCE) {
+            PerformanceSeatHold hold = bookingOrchestrator.holdPerformanceSeats(requestDto, sagaId);
+            bookingSagaStore.accept(sagaId, requestDto.userId());
+            try {
+                if (asyncPaymentProperties.asyncEnabled()) {
+                    bookingSagaRunner.requestPerformancePayment(sagaId, hold); // 결제 결과는 이벤트/콜백으로 수신
+                } else {
+                    bookingSagaRunner.completePerformanceBooking(sagaId, hold);
+                }
+            } catch (TaskRejectedException e) {
+                bookingSagaStore.fail(sagaId, ErrorCode.BOOKING_SAGA_BUSY, null);
+                throw bookingOrchestrator.abandonPerformanceHold(hold, new CustomException(ErrorCode.BOOKING_SAGA_BUSY));
+            }
+        } else {
+            bookingSagaStore.accept(sagaId, requestDto.userId());
+            try {
+                bookingSagaRunner.orchestrateBooking(sagaId, requestDto);
+            } catch (TaskRejectedException e) {
+                bookingSagaStore.fail(sagaId, ErrorCode.BOOKING_SAGA_BUSY, null);
+                throw new CustomException(ErrorCode.BOOKING_SAGA_BUSY);
+            }
+        }
+        return BookingSagaResponseDto.accepted(sagaId);
+    }
+
+    public BookingSagaResponseDto findSaga(String sagaId, Passport passport) {
+        bookingSagaStore.verifyOwner(sagaId, passport);
+        return bookingSagaStore.find(sagaId);
+    }
+
+    public SseEmitter subscribe(String sagaId, Passport passport) {
+        bookingSagaStore.verifyOwner(sagaId, passport);
+        return bookingSagaEventHub.subscribe(sagaId);
+    }
+
+    // 실행 중 thread 와 대기열이 모두 찬 경우 좌석을 선점하기 전에 거절
+    private void ensureCapacity() {
+        ThreadPoolExecutor pool = bookingSagaExecutor.getThreadPoolExecutor();
+        if (pool.getActiveCount() >= pool.getMaximumPoolSize() && pool.getQueue().remainingCapacity() == 0) {
+            throw new CustomException(ErrorCode.BOOKING_SAGA_BUSY);
+        }
+    }
+}
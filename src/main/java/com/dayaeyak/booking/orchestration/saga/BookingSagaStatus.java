@@ -0,0 +1,11 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+public enum BookingSagaStatus {
+    ACCEPTED,   // 좌석 선점 완료, 예약/결제 진행 중
+    COMPLETED,  // 예약 확정
+    FAILED;     // 실패 (보상 완료)
+
+    public boolean isTerminal() {
+        return this != ACCEPTED;
+    }
+}
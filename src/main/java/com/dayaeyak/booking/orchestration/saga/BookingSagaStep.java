@@ -0,0 +1,44 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 공연 예약 saga 진행 단계 (booking_saga_logs.step)
+ *
+ * 정방향 : SEATS_HELD → BOOKING_CREATED → PAYMENT_REQUESTED → PAYMENT_COMPLETED
+ *          → SEATS_CONFIRMED → BOOKING_CONFIRMED → COMPLETED
+ *          (비동기 결제는 PAYMENT_REQUESTED → PAYMENT_PENDING 에서 멈췄다가 결제 결과 수신 시 이어서 진행)
+ * 보상   : COMPENSATING → COMPENSATED
+ */
+public enum BookingSagaStep {
+
+    SEATS_HELD,         // Redis 좌석 선점 완료
+    BOOKING_CREATED,    // 예약(PENDING) 생성
+    PAYMENT_REQUESTED,  // 결제 요청 전송 (결과 미확인)
+    PAYMENT_PENDING,    // 결제 접수, 결과 이벤트/콜백 대기 (좌석 선점 유지)
+    PAYMENT_DECLINED,   // 결제 거절 (결제되지 않음)
+    PAYMENT_COMPLETED,  // 결제 완료
+    SEATS_CONFIRMED,    // Redis 좌석 booked 반영
+    BOOKING_CONFIRMED,  // 예약 COMPLETED 반영 (확정/알람 이벤트 outbox 기록 포함)
+    COMPLETED,          // 디테일 저장까지 완료
+    COMPENSATING,       // 보상 진행 중
+    COMPENSATED,        // 보상 완료
+    FAILED;             // 복구 재시도 한도 초과 (수동 확인 필요)
+
+    private static final Set<BookingSagaStep> TERMINAL = EnumSet.of(COMPLETED, COMPENSATED, FAILED);
+    private static final Set<BookingSagaStep> PAID = EnumSet.of(PAYMENT_COMPLETED, SEATS_CONFIRMED, BOOKING_CONFIRMED);
+
+    public static Set<BookingSagaStep> terminalSteps() {
+        return TERMINAL;
+    }
+
+    public boolean isTerminal() {
+        return TERMINAL.contains(this);
+    }
+
+    // 결제까지 끝나 복구 시 보상이 아닌 이어서 진행할 단계
+    public boolean isPaid() {
+        return PAID.contains(this);
+    }
+}
@@ -0,0 +1,101 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import com.dayaeyak.booking.common.dto.Passport;
+import com.dayaeyak.booking.common.enums.UserRole;
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingCreateResponseDto;
+import com.dayaeyak.booking.orchestration.dto.response.BookingSagaResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 비동기 예약 진행 상태 (Redis Hash, key : booking:saga:{sagaId})
+ * 상태가 끝나면(COMPLETED/FAILED) booking:saga:events 채널에 sagaId 를 발행해 모든 인스턴스의 SSE 구독자에게 알립니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingSagaStore {
+
+    public static final String SAGA_EVENT_CHANNEL = "booking:saga:events";
+
+    private static final String SAGA_KEY_FORMAT = "booking:saga:%s";
+    private static final Duration SAGA_TTL = Duration.ofHours(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void accept(String sagaId, Long userId) {
+        save(sagaId, Map.of(
+                "status", BookingSagaStatus.ACCEPTED.name(),
+                "userId", String.valueOf(userId)));
+    }
+
+    // 동기 예약 API 와 같은 응답을 JSON 으로 보관
+    public void complete(String sagaId, BookingCreateResponseDto booking) {
+        try {
+            save(sagaId, Map.of(
+                    "status", BookingSagaStatus.COMPLETED.name(),
+                    "booking", objectMapper.writeValueAsString(booking)));
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage(), e);
+        }
+        redisTemplate.convertAndSend(SAGA_EVENT_CHANNEL, sagaId);
+    }
+
+    public void fail(String sagaId, ErrorCode errorCode, String message) {
+        save(sagaId, Map.of(
+                "status", BookingSagaStatus.FAILED.name(),
+                "errorCode", errorCode.name(),
+                "message", message == null ? errorCode.getMessage() : message));
+        redisTemplate.convertAndSend(SAGA_EVENT_CHANNEL, sagaId);
+    }
+
+    // 접수한 사용자(또는 MASTER)만 조회 가능
+    public void verifyOwner(String sagaId, Passport passport) {
+        Object userId = redisTemplate.opsForHash().get(key(sagaId), "userId");
+        if (userId == null) {
+            throw new CustomException(ErrorCode.BOOKING_SAGA_NOT_FOUND);
+        }
+        if (passport.role() != UserRole.MASTER && !String.valueOf(passport.userId()).equals(userId)) {
+            throw new CustomException(ErrorCode.REQUEST_ACCESS_DENIED);
+        }
+    }
+
+    public BookingSagaResponseDto find(String sagaId) {
+        Map<Object, Object> saga = redisTemplate.opsForHash().entries(key(sagaId));
+        if (saga.isEmpty()) {
+            throw new CustomException(ErrorCode.BOOKING_SAGA_NOT_FOUND);
+        }
+        return BookingSagaResponseDto.from(sagaId, saga, readBooking(saga.get("booking")));
+    }
+
+    private BookingCreateResponseDto readBooking(Object booking) {
+        if (booking == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue((String) booking, BookingCreateResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage(), e);
+        }
+    }
+
+    private void save(String sagaId, Map<String, String> fields) {
+        Map<String, String> values = new HashMap<>(fields);
+        values.put("updatedAt", String.valueOf(System.currentTimeMillis()));
+        redisTemplate.opsForHash().putAll(key(sagaId), values);
+        redisTemplate.expire(key(sagaId), SAGA_TTL);
+    }
+
+    private String key(String sagaId) {
+        return String.format(SAGA_KEY_FORMAT, sagaId);
+    }
+}
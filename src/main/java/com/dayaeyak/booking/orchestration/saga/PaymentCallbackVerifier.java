@@ -0,0 +1,68 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import com.dayaeyak.booking.client.payment.PaymentResultDto;
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * 결제 결과 콜백 서명 검증
+ *
+ * 결제 서비스는 요청 body 그대로의 HMAC-SHA256(booking.payment.callback-secret) 을 hex 로 X-Payment-Signature 에 담아 보냅니다.
+ * 서명 key 가 설정되지 않았으면 콜백을 모두 거절합니다. (payment-result 이벤트만 사용)
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentCallbackVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final AsyncPaymentProperties properties;
+    private final ObjectMapper objectMapper;
+
+    // 서명이 맞으면 결제 결과로 변환
+    public PaymentResultDto verify(String body, String signature) {
+        String secret = properties.callbackSecret();
+        if (!StringUtils.hasText(secret) || !StringUtils.hasText(signature) || body == null) {
+            throw new CustomException(ErrorCode.PAYMENT_CALLBACK_UNAUTHORIZED);
+        }
+
+        byte[] expected = sign(secret, body);
+        byte[] actual;
+        try {
+            actual = HexFormat.of().parseHex(signature.trim());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.PAYMENT_CALLBACK_UNAUTHORIZED);
+        }
+        if (!MessageDigest.isEqual(expected, actual)) { // 비교 시간이 일치 길이에 따라 달라지지 않도록
+            throw new CustomException(ErrorCode.PAYMENT_CALLBACK_UNAUTHORIZED);
+        }
+
+        try {
+            return objectMapper.readValue(body, PaymentResultDto.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private static byte[] sign(String secret, String body) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac.doFinal(body.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage(), e);
+        }
+    }
+}
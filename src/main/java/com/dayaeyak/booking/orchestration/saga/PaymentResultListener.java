@@ -0,0 +1,36 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import com.dayaeyak.booking.client.payment.PaymentResultDto;
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 결과 이벤트 수신 (booking.payment.async-enabled 일 때만 구독)
+ *
+ * 결제 접수 응답 전에 도착한 결과(PAYMENT_RESULT_NOT_READY)는 오류로 넘겨 container 재시도로 다시 처리하고,
+ * 결제 ID 가 다른 결과는 재시도해도 같으므로 버립니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentResultListener {
+
+    private final AsyncPaymentSagaService asyncPaymentSagaService;
+
+    @KafkaListener(
+            id = "payment-result",
+            topics = "${booking.payment.result-topic:payment-result}",
+            containerFactory = "paymentResultListenerContainerFactory",
+            autoStartup = "${booking.payment.async-enabled:false}")
+    public void onPaymentResult(PaymentResultDto result) {
+        try {
+            asyncPaymentSagaService.handleResult(result);
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.PAYMENT_RESULT_MISMATCH) {
+                throw e;
+            }
+        }
+    }
+}
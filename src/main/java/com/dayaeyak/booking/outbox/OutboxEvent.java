@@ -0,0 +1,89 @@
+package com.dayaeyak.booking.outbox;
+
+import com.dayaeyak.booking.event.EncodedEvent;
+import com.dayaeyak.booking.event.EventFormat;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발행 대기 중인 Kafka 이벤트 (transactional outbox)
+ *
+ * 예약 상태 변경과 같은 트랜잭션으로 저장되고, OutboxRelayScheduler 가 id 순서대로 Kafka 에 발행합니다.
+ * 발행에 실패하면 next_attempt_at 까지 뒤 이벤트 발행도 멈춰(head-of-line) 저장 순서를 지킵니다.
+ * 발행이 끝난 행은 published_at 을 기록하고 보관 기간이 지나면 삭제합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "booking_outbox",
+        indexes = @Index(name = "idx_booking_outbox_pending", columnList = "published_at, abandoned_at, id"))
+@Entity
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "topic", nullable = false, updatable = false)
+    private String topic;
+
+    @Column(name = "event_key", updatable = false)
+    private String eventKey;
+
+    // 소비자의 JsonDeserializer 가 타입 header(__TypeId__)로 역직렬화하므로 원래 클래스 이름을 함께 보관
+    @Column(name = "payload_type", nullable = false, updatable = false)
+    private String payloadType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false, updatable = false)
+    private EventFormat format;
+
+    // binary 인코딩일 때 스키마 이름/버전 (header 로 전달)
+    @Column(name = "schema_name", updatable = false)
+    private String schemaName;
+
+    @Column(name = "schema_version", nullable = false, updatable = false)
+    private int schemaVersion;
+
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "bytea")
+    private byte[] payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    // 재시도 한도를 넘겨 발행을 포기한 시각 (수동 재발행 대상)
+    @Column(name = "abandoned_at")
+    private LocalDateTime abandonedAt;
+
+    public OutboxEvent(String topic, String eventKey, EncodedEvent encoded) {
+        this.topic = topic;
+        this.eventKey = eventKey;
+        this.payloadType = encoded.payloadType();
+        this.format = encoded.format();
+        this.schemaName = encoded.schema();
+        this.schemaVersion = encoded.schemaVersion();
+        this.payload = encoded.payload();
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public boolean isRetryDue(LocalDateTime now) {
+        return !nextAttemptAt.isAfter(now);
+    }
+}
@@ -0,0 +1,44 @@
+package com.dayaeyak.booking.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 발행 대기 이벤트를 저장 순서대로 조회
+    @Query("select e from OutboxEvent e " +
+            "where e.publishedAt is null and e.abandonedAt is null " +
+            "order by e.id")
+    List<OutboxEvent> findPending(Pageable pageable);
+
+    long countByPublishedAtIsNullAndAbandonedAtIsNull();
+
+    @Modifying
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.lastError = :error, " +
+            "e.nextAttemptAt = :nextAttemptAt where e.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("error") String error,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.lastError = :error, " +
+            "e.abandonedAt = :abandonedAt where e.id = :id")
+    int markAbandoned(@Param("id") Long id,
+                      @Param("error") String error,
+                      @Param("abandonedAt") LocalDateTime abandonedAt);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,15 @@
+package com.dayaeyak.booking.outbox;
+
+/**
+ * outbox 에 기록할 Kafka 메시지
+ *
+ * @param topic   발행할 topic
+ * @param key     메시지 key (같은 key 는 같은 partition 에 순서대로 발행), 없으면 null
+ * @param payload 직렬화할 이벤트 객체 (topic 별 인코딩 적용)
+ */
+public record OutboxMessage(
+        String topic,
+        String key,
+        Object payload
+) {
+}
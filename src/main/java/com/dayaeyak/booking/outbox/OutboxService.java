@@ -0,0 +1,80 @@
+package com.dayaeyak.booking.outbox;
+
+import com.dayaeyak.booking.event.EventSerializers;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Kafka 이벤트 outbox 기록/조회
+ *
+ * append 는 호출한 쪽의 트랜잭션에 참여하므로, 예약 상태 변경과 이벤트 기록이 함께 커밋되거나 함께 롤백됩니다.
+ * payload 는 topic 별 인코딩(EventSerializers)으로 기록 시점에 직렬화합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventSerializers eventSerializers;
+
+    @Transactional
+    public void append(OutboxMessage message) {
+        appendAll(List.of(message));
+    }
+
+    @Transactional
+    public void appendAll(List<OutboxMessage> messages) {
+        List<OutboxEvent> events = messages.stream()
+                .map(message -> new OutboxEvent(
+                        message.topic(),
+                        message.key(),
+                        eventSerializers.serialize(message.topic(), message.payload())))
+                .toList();
+        outboxEventRepository.saveAll(events);
+    }
+
+    public List<OutboxEvent> findPending(int limit) {
+        return outboxEventRepository.findPending(PageRequest.of(0, limit));
+    }
+
+    @Transactional
+    public void markPublished(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            outboxEventRepository.markPublished(ids, LocalDateTime.now());
+        }
+    }
+
+    // 실패한 이벤트는 backoff 뒤에 다시 발행
+    @Transactional
+    public void markFailed(Long id, String error, Duration backoff) {
+        outboxEventRepository.markFailed(id, truncate(error), LocalDateTime.now().plus(backoff));
+    }
+
+    // 발행 포기 : 이후 이벤트 발행을 더 막지 않도록 대기 목록에서 제외
+    @Transactional
+    public void markAbandoned(Long id, String error) {
+        outboxEventRepository.markAbandoned(id, truncate(error), LocalDateTime.now());
+    }
+
+    @Transactional
+    public int purgePublished(Duration retention) {
+        return outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    public long countPending() {
+        return outboxEventRepository.countByPublishedAtIsNullAndAbandonedAtIsNull();
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,29 @@
+package com.dayaeyak.booking.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청 수 제한 설정 (booking.rate-limit.*), token bucket 방식
+ *
+ * *-capacity           : 순간적으로 허용하는 최대 요청 수
+ * *-refill-per-second  : 지속적으로 허용하는 초당 요청 수
+ * user-*               : 사용자(X-User-Id)별
+ * performance-*        : 공연별 (모든 사용자 합)
+ */
+@ConfigurationProperties(prefix = "booking.rate-limit")
+public record RateLimitProperties(
+        Boolean enabled,
+        Integer userCapacity,
+        Integer userRefillPerSecond,
+        Integer performanceCapacity,
+        Integer performanceRefillPerSecond
+) {
+
+    public RateLimitProperties {
+        enabled = enabled == null ? Boolean.TRUE : enabled;
+        userCapacity = userCapacity == null ? 10 : userCapacity;
+        userRefillPerSecond = userRefillPerSecond == null ? 5 : userRefillPerSecond;
+        performanceCapacity = performanceCapacity == null ? 2_000 : performanceCapacity;
+        performanceRefillPerSecond = performanceRefillPerSecond == null ? 1_000 : performanceRefillPerSecond;
+    }
+}
@@ -0,0 +1,45 @@
+package com.dayaeyak.booking.ratelimit;
+
+import com.dayaeyak.booking.annotation.RateLimit;
+import com.dayaeyak.booking.common.exception.TooManyRequestsException;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingPerformanceRequestDto;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * @RateLimit 예약 API 의 공연별 요청 수 제한 (공연 정보가 요청 body 에만 있으므로 body 를 읽은 직후 확인)
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class RateLimitRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return methodParameter.hasMethodAnnotation(RateLimit.class) && targetType == BookingRequestDto.class;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        if (rateLimiter.isEnabled()
+                && body instanceof BookingRequestDto requestDto
+                && requestDto.bookingDetailRequest() instanceof BookingPerformanceRequestDto performanceRequest
+                && performanceRequest.performanceId() != null) {
+            RateLimiter.Decision decision = rateLimiter.tryAcquirePerformance(performanceRequest.performanceId());
+            if (!decision.allowed()) {
+                throw new TooManyRequestsException(decision.retryAfterSeconds()); // interceptor 와 같이 Retry-After 응답
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,94 @@
+package com.dayaeyak.booking.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis token bucket 요청 수 제한 (Lua Script 한 번으로 충전/사용)
+ *
+ * - key : ratelimit:user:{userId}, ratelimit:client:{clientAddress}, ratelimit:performance:{performanceId}
+ * - Redis 장애 시에는 예약 흐름을 막지 않도록 허용 (fail-open)
+ *
+ * 지표 : booking.rate-limit.requests{scope=user|client|performance, result=allowed|rejected|error}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private static final String USER_KEY_PREFIX = "ratelimit:user:";
+    private static final String CLIENT_KEY_PREFIX = "ratelimit:client:";
+    private static final String PERFORMANCE_KEY_PREFIX = "ratelimit:performance:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<List> tokenBucketScript;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param allowed      허용 여부
+     * @param retryAfterMs 거절 시 다시 허용될 때까지 대기 시간
+     */
+    public record Decision(boolean allowed, long retryAfterMs) {
+
+        private static final Decision ALLOWED = new Decision(true, 0);
+
+        // Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+        public long retryAfterSeconds() {
+            return Math.max(1, (retryAfterMs + 999) / 1000);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public Decision tryAcquireUser(Long userId) {
+        return tryAcquire("user", USER_KEY_PREFIX + userId,
+                properties.userCapacity(), properties.userRefillPerSecond());
+    }
+
+    // X-User-Id 가 없는 요청은 접속 주소별로 사용자와 같은 한도 적용
+    public Decision tryAcquireClient(String clientAddress) {
+        return tryAcquire("client", CLIENT_KEY_PREFIX + clientAddress,
+                properties.userCapacity(), properties.userRefillPerSecond());
+    }
+
+    public Decision tryAcquirePerformance(Long performanceId) {
+        return tryAcquire("performance", PERFORMANCE_KEY_PREFIX + performanceId,
+                properties.performanceCapacity(), properties.performanceRefillPerSecond());
+    }
+
+    private Decision tryAcquire(String scope, String key, int capacity, int refillPerSecond) {
+        try {
+            List<?> result = redisTemplate.execute(
+                    tokenBucketScript,
+                    List.of(key),
+                    String.valueOf(capacity),
+                    String.valueOf(refillPerSecond),
+                    String.valueOf(System.currentTimeMillis()),
+                    "1"
+            );
+            if (result == null || result.size() < 3 || ((Number) result.get(0)).longValue() == 1L) {
+                count(scope, "allowed");
+                return Decision.ALLOWED;
+            }
+            count(scope, "rejected");
+            return new Decision(false, ((Number) result.get(2)).longValue());
+        } catch (Exception e) {
+            count(scope, "error");
+            log.warn("Rate limit check failed, allowing request: key={}, err={}", key, e.getMessage());
+            return Decision.ALLOWED;
+        }
+    }
+
+    private void count(String scope, String result) {
+        meterRegistry.counter("booking.rate-limit.requests", "scope", scope, "result", result).increment();
+    }
+}
@@ -0,0 +1,109 @@
+package com.dayaeyak.booking.scheduler;
+
+import com.dayaeyak.booking.orchestration.BookingOrchestrator;
+import com.dayaeyak.booking.orchestration.saga.AsyncPaymentSagaService;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaLog;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaLogService;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaStep;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 중단된 공연 예약 saga 복구 워커
+ *
+ * - 기동 직후 한 번, 이후 주기적으로 실행합니다.
+ * - 마지막 기록 이후 진행이 멈춘 saga 를 FOR UPDATE SKIP LOCKED 로 BATCH_SIZE 건씩 임대해 가져오므로
+ *   여러 인스턴스가 동시에 실행해도 같은 saga 를 중복 처리하지 않습니다.
+ * - 결제까지 끝난 saga 는 이어서 확정하고, 나머지는 보상(좌석 해제, 예약 취소, 환불)합니다.
+ * - 비동기 접수 saga(sagaId 있음)는 결과를 비동기 예약 상태에 반영하고, 결제 결과 대기 시간이 지나면 보상합니다.
+ * - 실패한 saga 는 임대 만료 후 다시 시도하며, MAX_ATTEMPTS 를 넘기면 FAILED 로 남겨 수동 확인합니다.
+ */
+@Slf4j
+@Component
+public class BookingSagaRecoveryScheduler {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int MAX_BATCHES_PER_RUN = 10;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(2);
+
+    private final BookingSagaLogService bookingSagaLogService;
+    private final BookingOrchestrator bookingOrchestrator;
+    private final AsyncPaymentSagaService asyncPaymentSagaService;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public BookingSagaRecoveryScheduler(BookingSagaLogService bookingSagaLogService,
+                                        BookingOrchestrator bookingOrchestrator,
+                                        AsyncPaymentSagaService asyncPaymentSagaService,
+                                        MeterRegistry meterRegistry) {
+        this.bookingSagaLogService = bookingSagaLogService;
+        this.bookingOrchestrator = bookingOrchestrator;
+        this.asyncPaymentSagaService = asyncPaymentSagaService;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("booking.saga.recovery.backlog", backlog, AtomicLong::get)
+                .description("복구 시점이 지났지만 끝나지 않은 saga 수")
+                .register(meterRegistry);
+    }
+
+    // 기동 직후 이전 프로세스가 남긴 saga 정리
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        recoverSagas();
+    }
+
+    @Scheduled(fixedDelayString = "${booking.saga.recovery.poll-interval-ms:30000}",
+            initialDelayString = "${booking.saga.recovery.poll-interval-ms:30000}")
+    public void recoverSagas() {
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<BookingSagaLog> sagaLogs = bookingSagaLogService.claimRecoverable(BATCH_SIZE, CLAIM_LEASE);
+            if (sagaLogs.isEmpty()) {
+                break;
+            }
+            sagaLogs.forEach(this::recover);
+            if (sagaLogs.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        backlog.set(bookingSagaLogService.countRecoverable());
+    }
+
+    private void recover(BookingSagaLog sagaLog) {
+        try {
+            BookingSagaStep result = sagaLog.getSagaId() == null
+                    ? bookingOrchestrator.recoverPerformanceBooking(sagaLog)
+                    : asyncPaymentSagaService.recover(sagaLog);
+            if (result == BookingSagaStep.PAYMENT_PENDING) {
+                count("skipped"); // 복구 직전에 결제 결과 도착
+                return;
+            }
+            count(result == BookingSagaStep.COMPLETED ? "resumed" : "compensated");
+            log.info("Recovered booking saga: holdToken={}, from={}, to={}, bookingId={}",
+                    sagaLog.getHoldToken(), sagaLog.getStep(), result, sagaLog.getBookingId());
+        } catch (Exception e) {
+            if (sagaLog.getRecoveryAttempts() >= MAX_ATTEMPTS) {
+                bookingSagaLogService.fail(sagaLog.getHoldToken(), e.getMessage());
+                count("failed");
+                log.error("Booking saga recovery gave up: holdToken={}, step={}, bookingId={}",
+                        sagaLog.getHoldToken(), sagaLog.getStep(), sagaLog.getBookingId(), e);
+                return;
+            }
+            count("retry");
+            log.warn("Booking saga recovery failed, will retry: holdToken={}, step={}, attempts={}",
+                    sagaLog.getHoldToken(), sagaLog.getStep(), sagaLog.getRecoveryAttempts(), e);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("booking.saga.recovery", "result", result).increment();
+    }
+}
@@ -0,0 +1,209 @@
+package com.dayaeyak.booking.scheduler;
+
+import com.dayaeyak.booking.event.EventFormat;
+import com.dayaeyak.booking.outbox.OutboxEvent;
+import com.dayaeyak.booking.outbox.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 이벤트를 Kafka 로 발행하는 relay
+ *
+ * - 저장 순서를 지키기 위해 Redis 임대 lock 을 잡은 인스턴스 하나만 발행합니다.
+ * - BATCH_SIZE 건을 한꺼번에 send 해 producer 가 묶어 보내게 하고, 모두 응답을 받은 뒤 한 번에 발행 완료로 기록합니다.
+ * - 실패한 이벤트부터는 발행 완료로 기록하지 않고 backoff 뒤 다시 보냅니다. (그 뒤 이벤트는 중복 발행될 수 있음, at-least-once)
+ * - MAX_ATTEMPTS 를 넘긴 이벤트는 발행을 포기하고 abandoned 로 남겨 수동 재발행합니다.
+ */
+@Slf4j
+@Component
+public class OutboxRelayScheduler {
+
+    private static final String CONTENT_TYPE_HEADER = "content-type";
+    private static final String BINARY_CONTENT_TYPE = "application/x-booking-event";
+    private static final String SCHEMA_HEADER = "event-schema";
+    private static final String SCHEMA_VERSION_HEADER = "event-version";
+    private static final String RELAY_LOCK_KEY = "booking:outbox:relay:lock";
+    private static final Duration RELAY_LOCK_TTL = Duration.ofSeconds(60);
+    private static final Duration RUN_TIME_LIMIT = Duration.ofSeconds(20);
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration PUBLISHED_RETENTION = Duration.ofDays(1);
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ATTEMPTS = 20;
+
+    private final OutboxService outboxService;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> compareAndDeleteScript;
+    private final Timer publishLag;
+    private final Counter publishedEvents;
+    private final Counter failedEvents;
+    private final Counter abandonedEvents;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final String relayToken = UUID.randomUUID().toString();
+
+    public OutboxRelayScheduler(OutboxService outboxService,
+                                KafkaTemplate<String, Object> kafkaTemplate,
+                                RedisTemplate<String, String> redisTemplate,
+                                DefaultRedisScript<Long> compareAndDeleteScript,
+                                MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.kafkaTemplate = kafkaTemplate;
+        this.redisTemplate = redisTemplate;
+        this.compareAndDeleteScript = compareAndDeleteScript;
+        this.publishLag = Timer.builder("booking.outbox.publish.lag")
+                .description("outbox 저장부터 Kafka 발행 완료까지 지연")
+                .register(meterRegistry);
+        this.publishedEvents = Counter.builder("booking.outbox.published")
+                .description("Kafka 에 발행한 outbox 이벤트 수")
+                .register(meterRegistry);
+        this.failedEvents = Counter.builder("booking.outbox.failures")
+                .description("발행에 실패해 재시도 대기 중인 이벤트 수")
+                .register(meterRegistry);
+        this.abandonedEvents = Counter.builder("booking.outbox.abandoned")
+                .description("재시도 한도를 넘겨 발행을 포기한 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("booking.outbox.pending", pendingEvents, AtomicLong::get)
+                .description("발행 대기 중인 outbox 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.outbox.relay.poll-interval-ms:200}")
+    public void relay() {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(RELAY_LOCK_KEY, relayToken, RELAY_LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return; // 다른 인스턴스가 발행 중
+        }
+        try {
+            long deadline = System.currentTimeMillis() + RUN_TIME_LIMIT.toMillis();
+            while (System.currentTimeMillis() < deadline) {
+                List<OutboxEvent> events = outboxService.findPending(BATCH_SIZE);
+                if (events.isEmpty() || !publish(events) || events.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            pendingEvents.set(outboxService.countPending());
+        } finally {
+            redisTemplate.execute(compareAndDeleteScript, Collections.singletonList(RELAY_LOCK_KEY), relayToken);
+        }
+    }
+
+    // 보관 기간이 지난 발행 완료 이벤트 정리
+    @Scheduled(cron = "${booking.outbox.purge-cron:0 0 * * * *}")
+    public void purgePublished() {
+        int purged = outboxService.purgePublished(PUBLISHED_RETENTION);
+        log.info("Purged published outbox events: {}", purged);
+    }
+
+    // 배치 전체를 발행했으면 true, 중간에 실패하거나 backoff 중인 이벤트를 만나면 false
+    private boolean publish(List<OutboxEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!events.get(0).isRetryDue(now)) {
+            return false; // 앞선 이벤트가 backoff 중이면 순서를 지키기 위해 대기
+        }
+
+        List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(events.size());
+        RuntimeException sendError = null; // send 호출 자체가 실패한 경우 (buffer 부족, metadata 조회 실패 등)
+        for (OutboxEvent event : events) {
+            if (!event.isRetryDue(now)) {
+                break;
+            }
+            try {
+                sends.add(kafkaTemplate.send(toRecord(event)));
+            } catch (RuntimeException e) {
+                sendError = e;
+                break;
+            }
+        }
+
+        List<Long> published = new ArrayList<>(sends.size());
+        long deadline = System.currentTimeMillis() + SEND_TIMEOUT.toMillis();
+        try {
+            for (int i = 0; i < sends.size(); i++) {
+                OutboxEvent event = events.get(i);
+                try {
+                    sends.get(i).get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                    published.add(event.getId());
+                    publishLag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+                } catch (ExecutionException | TimeoutException e) {
+                    Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                    handleFailure(event, cause);
+                    return false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        } finally {
+            outboxService.markPublished(published);
+            publishedEvents.increment(published.size());
+        }
+        if (sendError != null) {
+            handleFailure(events.get(sends.size()), sendError);
+            return false;
+        }
+        return sends.size() == events.size();
+    }
+
+    private void handleFailure(OutboxEvent event, Throwable cause) {
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        if (event.getAttempts() + 1 >= MAX_ATTEMPTS) {
+            outboxService.markAbandoned(event.getId(), error);
+            abandonedEvents.increment();
+            log.error("Outbox event abandoned: id={}, topic={}, attempts={}",
+                    event.getId(), event.getTopic(), event.getAttempts() + 1, cause);
+            return;
+        }
+        outboxService.markFailed(event.getId(), error, backoff(event.getAttempts()));
+        failedEvents.increment();
+        log.warn("Outbox publish failed, will retry: id={}, topic={}, attempts={}, err={}",
+                event.getId(), event.getTopic(), event.getAttempts() + 1, error);
+    }
+
+    // 1초부터 두 배씩, 최대 MAX_BACKOFF
+    private static Duration backoff(int attempts) {
+        long seconds = 1L << Math.min(attempts, 6);
+        return Duration.ofSeconds(Math.min(seconds, MAX_BACKOFF.toSeconds()));
+    }
+
+    // JSON 은 JsonSerializer 로 보내던 것과 같이 타입 header 를 붙여 소비자 역직렬화 방식 유지,
+    // binary 는 스키마 이름/버전 header 를 붙임
+    private static ProducerRecord<String, Object> toRecord(OutboxEvent event) {
+        ProducerRecord<String, Object> record =
+                new ProducerRecord<>(event.getTopic(), event.getEventKey(), event.getPayload());
+        if (event.getFormat() == EventFormat.BINARY) {
+            record.headers().add(CONTENT_TYPE_HEADER, BINARY_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+            record.headers().add(SCHEMA_HEADER, event.getSchemaName().getBytes(StandardCharsets.UTF_8));
+            record.headers().add(SCHEMA_VERSION_HEADER,
+                    String.valueOf(event.getSchemaVersion()).getBytes(StandardCharsets.UTF_8));
+            return record;
+        }
+        record.headers().add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                event.getPayloadType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
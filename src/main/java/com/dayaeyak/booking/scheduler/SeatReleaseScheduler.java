@@ -1,68 +1,117 @@
 package com.dayaeyak.booking.scheduler;
 
-import lombok.RequiredArgsConstructor;
+import com.dayaeyak.booking.seat.SeatHold;
+import com.dayaeyak.booking.seat.SeatInventory;
+import com.dayaeyak.booking.seat.SeatReleaseJob;
+import com.dayaeyak.booking.seat.SeatReleaseQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-import java.util.Set;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 선점 해제 대기열 처리 워커
+ *
+ * - 여러 인스턴스가 동시에 실행해도 Lua Script 로 작업을 임대(lease)해 가져가므로 같은 작업을 중복 처리하지 않습니다.
+ * - 한 번에 BATCH_SIZE 건씩, 실행당 최대 MAX_BATCHES_PER_RUN 번까지만 가져와 처리 시간을 제한합니다.
+ * - 가져온 작업은 구역별로 묶어 구역당 Lua Script 한 번으로 해제하고, 완료된 작업은 ZREM 한 번으로 제거합니다.
+ * - 처리에 실패한 작업은 대기열에 남아 임대 만료 후 다시 처리됩니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SeatReleaseScheduler {
 
-    private final RedisTemplate<String, String> redisTemplate;
-    private final DefaultRedisScript<Long> releaseSeats; 
-    private static final String SEAT_RELEASE_QUEUE = "seat:release:queue";
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BATCHES_PER_RUN = 10;
+    private static final Duration CLAIM_LEASE = Duration.ofSeconds(30);
 
-    // 5초마다 실행
-    //@Scheduled(fixedRate = 5000)
-    public void processSeatReleaseQueue() {
-        long now = System.currentTimeMillis();
+    private final SeatReleaseQueue seatReleaseQueue;
+    private final SeatInventory seatInventory;
+    private final Timer releaseLag;
+    private final Counter releasedSeats;
+    private final Counter failedJobs;
+    private final AtomicLong dueBacklog = new AtomicLong();
+    private final AtomicLong totalBacklog = new AtomicLong();
 
-        // 1. 실행 시간이 된 작업들을 Redis Sorted Set에서 가져옴
-        Set<String> jobs = redisTemplate.opsForZSet().rangeByScore(SEAT_RELEASE_QUEUE, 0, now);
+    public SeatReleaseScheduler(SeatReleaseQueue seatReleaseQueue,
+                                SeatInventory seatInventory,
+                                MeterRegistry meterRegistry) {
+        this.seatReleaseQueue = seatReleaseQueue;
+        this.seatInventory = seatInventory;
+        this.releaseLag = Timer.builder("booking.seat.release.lag")
+                .description("해제 예정 시각부터 실제 처리 시각까지 지연")
+                .register(meterRegistry);
+        this.releasedSeats = Counter.builder("booking.seat.release.seats")
+                .description("대기열 작업으로 해제한 좌석 수")
+                .register(meterRegistry);
+        this.failedJobs = Counter.builder("booking.seat.release.failures")
+                .description("처리에 실패해 재시도 대기 중인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("booking.seat.release.backlog", dueBacklog, AtomicLong::get)
+                .description("실행 시각이 지났지만 처리되지 않은 작업 수")
+                .tag("state", "due")
+                .register(meterRegistry);
+        Gauge.builder("booking.seat.release.backlog", totalBacklog, AtomicLong::get)
+                .description("대기열 전체 작업 수")
+                .tag("state", "total")
+                .register(meterRegistry);
+    }
 
-        if (jobs == null || jobs.isEmpty()) {
-            return;
+    @Scheduled(fixedDelayString = "${booking.seat.release.poll-interval-ms:1000}")
+    public void processSeatReleaseQueue() {
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            long now = System.currentTimeMillis();
+            List<SeatReleaseJob> jobs = seatReleaseQueue.claim(now, BATCH_SIZE, CLAIM_LEASE);
+            if (jobs.isEmpty()) {
+                break;
+            }
+            process(jobs, now);
+            if (jobs.size() < BATCH_SIZE) {
+                break;
+            }
         }
 
-        log.info("Found {} seat(s) to release.", jobs.size());
-
-        for (String jobInfo : jobs) {
-            try {
-                // 2. 작업 정보 파싱 (예: "performanceId:sessionId:sectionId:seatId")
-                String[] parts = jobInfo.split(":");
-                if (parts.length < 4) {
-                    log.error("Invalid job format: {}", jobInfo);
-                    // 잘못된 형식의 작업은 큐에서 제거
-                    redisTemplate.opsForZSet().remove(SEAT_RELEASE_QUEUE, jobInfo);
-                    continue;
-                }
-                
-                String performanceId = parts[0];
-                String sessionId = parts[1];
-                String sectionId = parts[2];
-                String seatId = parts[3];
-                String redisKey = String.format("seat:%s:%s:%s", performanceId, sessionId, sectionId);
-
-                // 3. Lua 스크립트 실행하여 좌석 상태를 'available'로 변경
-                // releaseSeats 스크립트는 'locked' 상태의 좌석을 'available'로 바꾼다고 가정
-                redisTemplate.execute(releaseSeats, Collections.singletonList(redisKey), seatId);
-
-                // 4. 처리 완료된 작업을 큐에서 삭제
-                redisTemplate.opsForZSet().remove(SEAT_RELEASE_QUEUE, jobInfo);
+        long now = System.currentTimeMillis();
+        dueBacklog.set(seatReleaseQueue.countDue(now));
+        totalBacklog.set(seatReleaseQueue.size());
+    }
 
-                log.info("Successfully released seat lock for job: {}", jobInfo);
+    private void process(List<SeatReleaseJob> jobs, long now) {
+        // 구역별로 묶기
+        Map<String, List<SeatReleaseJob>> jobsBySection = new LinkedHashMap<>();
+        for (SeatReleaseJob job : jobs) {
+            releaseLag.record(Math.max(0, now - job.dueAt()), TimeUnit.MILLISECONDS);
+            jobsBySection.computeIfAbsent(job.sectionKey(), sectionKey -> new ArrayList<>()).add(job);
+        }
 
+        List<String> completed = new ArrayList<>(jobs.size());
+        jobsBySection.forEach((sectionKey, sectionJobs) -> {
+            List<SeatHold> holds = new ArrayList<>();
+            for (SeatReleaseJob job : sectionJobs) {
+                job.seatIds().forEach(seatId -> holds.add(new SeatHold(seatId, job.holdToken())));
+            }
+            try {
+                int released = seatInventory.releaseHolds(sectionKey, holds);
+                releasedSeats.increment(released);
+                sectionJobs.forEach(job -> completed.add(job.member()));
             } catch (Exception e) {
-                log.error("Failed to process seat release job: {}", jobInfo, e);
-                // 실패한 작업은 일단 큐에 남겨두거나, 별도의 '실패 큐'로 옮겨서 수동으로 처리할 수 있습니다.
+                log.error("Failed to release seats: sectionKey={}, jobs={}", sectionKey, sectionJobs.size(), e);
+                failedJobs.increment(sectionJobs.size());
             }
-        }
+        });
+
+        seatReleaseQueue.complete(completed);
+        log.debug("Processed seat release jobs: claimed={}, completed={}", jobs.size(), completed.size());
     }
 }
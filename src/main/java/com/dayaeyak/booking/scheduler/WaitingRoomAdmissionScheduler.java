@@ -0,0 +1,125 @@
+package com.dayaeyak.booking.scheduler;
+
+import com.dayaeyak.booking.waiting.WaitingRoomKeys;
+import com.dayaeyak.booking.waiting.WaitingRoomProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대기열 입장 처리 워커
+ *
+ * - 대기 중인 회차마다 Lua Script 한 번으로 마지막 처리 이후 흐른 시간만큼만 입장시키므로,
+ *   여러 인스턴스가 동시에 실행해도 회차별 입장 속도는 admit-per-second 로 유지됩니다.
+ * - 대기 인원과 입장 허용 인원이 모두 없는 회차는 목록에서 제거합니다.
+ *   입장(enter)은 대기열 추가 → 목록 추가 순서이므로, 제거한 뒤 대기열을 다시 확인해 그 사이 들어온 사용자가 있으면 되돌립니다.
+ */
+@Slf4j
+@Component
+public class WaitingRoomAdmissionScheduler {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<List> admitWaitingRoomScript;
+    private final WaitingRoomProperties properties;
+    private final Counter admittedUsers;
+    private final AtomicLong waiting = new AtomicLong();
+    private final AtomicLong admitted = new AtomicLong();
+
+    public WaitingRoomAdmissionScheduler(RedisTemplate<String, String> redisTemplate,
+                                         DefaultRedisScript<List> admitWaitingRoomScript,
+                                         WaitingRoomProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.admitWaitingRoomScript = admitWaitingRoomScript;
+        this.properties = properties;
+        this.admittedUsers = Counter.builder("booking.waiting-room.admitted")
+                .description("대기열에서 입장시킨 인원")
+                .register(meterRegistry);
+        Gauge.builder("booking.waiting-room.users", waiting, AtomicLong::get)
+                .description("대기열 인원 (전체 회차 합)")
+                .tag("state", "waiting")
+                .register(meterRegistry);
+        Gauge.builder("booking.waiting-room.users", admitted, AtomicLong::get)
+                .description("입장 허용 중인 인원 (전체 회차 합)")
+                .tag("state", "admitted")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedRateString = "${booking.waiting-room.admit-interval-ms:1000}")
+    public void admit() {
+        Set<String> sessions = redisTemplate.opsForSet().members(WaitingRoomKeys.activeSessionsKey());
+        if (sessions == null || sessions.isEmpty()) {
+            waiting.set(0);
+            admitted.set(0);
+            return;
+        }
+
+        long totalWaiting = 0;
+        long totalAdmitted = 0;
+        for (String session : sessions) {
+            try {
+                long[] result = admit(session);
+                admittedUsers.increment(result[0]);
+                totalWaiting += result[1];
+                totalAdmitted += result[2];
+            } catch (Exception e) {
+                log.error("Failed to admit waiting users: session={}", session, e);
+            }
+        }
+        waiting.set(totalWaiting);
+        admitted.set(totalAdmitted);
+    }
+
+    // {입장시킨 수, 남은 대기 인원, 입장 허용 중인 인원}
+    private long[] admit(String session) {
+        String[] ids = session.split(":");
+        Long performanceId = Long.valueOf(ids[0]);
+        Long sessionId = Long.valueOf(ids[1]);
+
+        List<?> result = redisTemplate.execute(
+                admitWaitingRoomScript,
+                List.of(WaitingRoomKeys.queueKey(performanceId, sessionId),
+                        WaitingRoomKeys.admittedKey(performanceId, sessionId),
+                        WaitingRoomKeys.admitAtKey(performanceId, sessionId)),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(properties.admitPerSecond()),
+                String.valueOf(properties.admissionTtlSeconds() * 1000),
+                String.valueOf(properties.maxAdmitted())
+        );
+        long admittedNow = toLong(result, 0);
+        long remaining = toLong(result, 1);
+        long admittedTotal = toLong(result, 2);
+
+        if (remaining == 0 && admittedTotal == 0) {
+            deactivate(performanceId, sessionId, session);
+        }
+        return new long[]{admittedNow, remaining, admittedTotal};
+    }
+
+    // 입장 처리 결과 확인 후 제거 전에 들어온 사용자의 목록 추가(SADD)는 제거(SREM)에 지워지므로, 제거 후 다시 확인
+    private void deactivate(Long performanceId, Long sessionId, String session) {
+        redisTemplate.opsForSet().remove(WaitingRoomKeys.activeSessionsKey(), session);
+
+        Long queued = redisTemplate.opsForZSet().zCard(WaitingRoomKeys.queueKey(performanceId, sessionId));
+        Long admittedNow = redisTemplate.opsForZSet().zCard(WaitingRoomKeys.admittedKey(performanceId, sessionId));
+        if ((queued != null && queued > 0) || (admittedNow != null && admittedNow > 0)) {
+            redisTemplate.opsForSet().add(WaitingRoomKeys.activeSessionsKey(), session);
+        }
+    }
+
+    private static long toLong(List<?> result, int index) {
+        if (result == null || result.size() <= index || result.get(index) == null) {
+            return 0;
+        }
+        return ((Number) result.get(index)).longValue();
+    }
+}
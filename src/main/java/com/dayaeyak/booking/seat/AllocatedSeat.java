@@ -0,0 +1,10 @@
+package com.dayaeyak.booking.seat;
+
+/**
+ * 연속 좌석 자동 배정으로 선점된 좌석
+ */
+public record AllocatedSeat(
+        Long seatId,
+        Integer seatNumber
+) {
+}
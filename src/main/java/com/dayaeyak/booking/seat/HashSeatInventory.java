@@ -0,0 +1,175 @@
+package com.dayaeyak.booking.seat;
+
+import com.dayaeyak.booking.domain.booking.dto.kafka.SeatStatusDto;
+import com.dayaeyak.booking.seat.RedisScriptPipeline.ScriptCall;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석당 Hash 필드 1개("available"/"locked|{holdToken}|{만료시각}"/"booked")로 저장하는 기본 방식
+ * key : seat:{performanceId:sessionId}:{sectionId}, field : seatId
+ * 좌석 순서(seatNumber 순)는 {sectionKey}:order List 에 "{seatId}:{seatNumber}" 로 함께 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "booking.seat.encoding", havingValue = "hash", matchIfMissing = true)
+public class HashSeatInventory implements SeatInventory {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptPipeline scriptPipeline;
+    private final DefaultRedisScript<Long> initSeatMapScript;
+    private final DefaultRedisScript<Long> lockSeatsScript;
+    private final DefaultRedisScript<Long> confirmBooking;
+    private final DefaultRedisScript<Long> releaseSeats;
+    private final DefaultRedisScript<List> allocateSeatsScript;
+    private final DefaultRedisScript<Long> releaseHoldsScript;
+    private final SeatAllocationProperties allocationProperties;
+
+    @Override
+    public boolean exists(String sectionKey) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(sectionKey));
+    }
+
+    @Override
+    public boolean initializeIfAbsent(String sectionKey, List<SeatStatusDto> seats, Duration ttl) {
+        Long result = redisTemplate.execute(
+                initSeatMapScript,
+                initKeys(sectionKey),
+                initArgs(seats, ttl).toArray(String[]::new)
+        );
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public int initializeAllIfAbsent(Map<String, List<SeatStatusDto>> sections, Duration ttl) {
+        List<ScriptCall> calls = sections.entrySet().stream()
+                .map(section -> ScriptCall.of(
+                        initSeatMapScript,
+                        initKeys(section.getKey()),
+                        initArgs(section.getValue(), ttl)))
+                .toList();
+        return (int) scriptPipeline.execute(calls).stream()
+                .filter(result -> result != null && result == 1L)
+                .count();
+    }
+
+    private List<String> initKeys(String sectionKey) {
+        return List.of(
+                sectionKey,
+                SeatKeys.sectionStatsKey(sectionKey),
+                SeatKeys.sessionStatsKey(sectionKey),
+                SeatKeys.sessionSectionsKey(sectionKey),
+                SeatKeys.seatOrderKey(sectionKey));
+    }
+
+    // ARGV[1] = TTL(초), ARGV[2..] = seatId, 상태, seatNumber 묶음 (좌석 순서대로)
+    private List<String> initArgs(List<SeatStatusDto> seats, Duration ttl) {
+        List<String> args = new ArrayList<>(seats.size() * 3 + 1);
+        args.add(String.valueOf(ttl.toSeconds()));
+        seats.stream().sorted(SEAT_ORDER).forEach(seatStatus -> {
+            SeatState state = seatStatus.isBooked() ? SeatState.BOOKED : SeatState.AVAILABLE;
+            args.add(String.valueOf(seatStatus.getSeatId()));
+            args.add(state.getValue());
+            args.add(String.valueOf(seatStatus.getSeatNumber() == null ? 0 : seatStatus.getSeatNumber()));
+        });
+        return args;
+    }
+
+    @Override
+    public boolean lock(Map<String, List<Long>> seatsBySection, String holdToken, Duration holdTtl) {
+        return execute(lockSeatsScript, seatsBySection, holdToken, String.valueOf(holdTtl.toMillis()));
+    }
+
+    // 결과 원소 형식 : {seatId}:{seatNumber}
+    @Override
+    public List<AllocatedSeat> allocateContiguous(String sectionKey, int count, String holdToken, Duration holdTtl) {
+        List<?> result = redisTemplate.execute(
+                allocateSeatsScript,
+                List.of(
+                        sectionKey,
+                        SeatKeys.sectionStatsKey(sectionKey),
+                        SeatKeys.sessionStatsKey(sectionKey),
+                        SeatKeys.seatOrderKey(sectionKey)),
+                holdToken, String.valueOf(holdTtl.toMillis()), String.valueOf(count),
+                String.valueOf(allocationProperties.maxScanSeats())
+        );
+        if (result == null) {
+            return List.of();
+        }
+        return result.stream()
+                .map(entry -> {
+                    String[] seat = ((String) entry).split(":");
+                    return new AllocatedSeat(Long.valueOf(seat[0]), Integer.valueOf(seat[1]));
+                })
+                .toList();
+    }
+
+    @Override
+    public boolean confirm(Map<String, List<Long>> seatsBySection, String holdToken) {
+        return execute(confirmBooking, seatsBySection, holdToken);
+    }
+
+    @Override
+    public void release(Map<String, List<Long>> seatsBySection, String holdToken) {
+        execute(releaseSeats, seatsBySection, holdToken);
+    }
+
+    // ARGV = seatId, holdToken 쌍
+    @Override
+    public int releaseHolds(String sectionKey, List<SeatHold> holds) {
+        List<String> args = new ArrayList<>(holds.size() * 2);
+        for (SeatHold hold : holds) {
+            args.add(String.valueOf(hold.seatId()));
+            args.add(hold.holdToken());
+        }
+        Long released = redisTemplate.execute(
+                releaseHoldsScript,
+                List.of(sectionKey, SeatKeys.sectionStatsKey(sectionKey), SeatKeys.sessionStatsKey(sectionKey)),
+                args.toArray(String[]::new)
+        );
+        return released == null ? 0 : released.intValue();
+    }
+
+    @Override
+    public Map<Long, SeatState> readSeatMap(String sectionKey) {
+        long now = System.currentTimeMillis();
+        Map<Long, SeatState> seatMap = new HashMap<>();
+        redisTemplate.opsForHash().entries(sectionKey).forEach((seatId, value) ->
+                seatMap.put(Long.valueOf((String) seatId), SeatState.fromHashValue((String) value, now)));
+        return seatMap;
+    }
+
+    // Hash 방식은 seatId 를 그대로 발행
+    @Override
+    public List<Long> toSeatIds(String sectionKey, List<Long> publishedIds) {
+        return publishedIds;
+    }
+
+    // KEYS = 회차 카운터, 구역별 (seat hash, 구역 카운터) / ARGV = 선점 정보(holdToken 등) 뒤에 구역별 (좌석 수, 좌석 번호 리스트)
+    // 모든 구역은 같은 회차이므로 Redis Cluster 에서도 한 slot 에서 실행
+    private boolean execute(DefaultRedisScript<Long> script, Map<String, List<Long>> seatsBySection, String... holdArgs) {
+        if (seatsBySection.isEmpty()) {
+            return false;
+        }
+        List<String> keys = new ArrayList<>();
+        keys.add(SeatKeys.sessionStatsKey(seatsBySection.keySet().iterator().next()));
+        List<String> args = new ArrayList<>(List.of(holdArgs));
+        seatsBySection.forEach((sectionKey, seatIds) -> {
+            keys.add(sectionKey);
+            keys.add(SeatKeys.sectionStatsKey(sectionKey));
+            args.add(String.valueOf(seatIds.size()));
+            seatIds.forEach(seatId -> args.add(String.valueOf(seatId)));
+        });
+        Long result = redisTemplate.execute(script, keys, args.toArray(String[]::new));
+        return result != null && result == 1L;
+    }
+}
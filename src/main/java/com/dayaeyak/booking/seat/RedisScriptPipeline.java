@@ -0,0 +1,67 @@
+package com.dayaeyak.booking.seat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 여러 Lua Script 호출을 하나의 파이프라인으로 전송
+ * 파이프라인 안에서는 NOSCRIPT 재시도가 불가능하므로 EVALSHA 대신 EVAL 로 실행합니다.
+ * 인자는 byte 배열로 전달하므로 문자열이 아닌 값(압축한 좌석 인덱스 매핑 등)도 그대로 넘길 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisScriptPipeline {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public record ScriptCall(RedisScript<Long> script, List<String> keys, List<byte[]> args) {
+
+        // 문자열 인자 (UTF-8)
+        public static ScriptCall of(RedisScript<Long> script, List<String> keys, List<String> args) {
+            return new ScriptCall(script, keys, args.stream().map(RedisScriptPipeline::toBytes).toList());
+        }
+    }
+
+    // 호출 순서대로 각 스크립트의 반환값
+    public List<Long> execute(List<ScriptCall> calls) {
+        if (calls.isEmpty()) {
+            return List.of();
+        }
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ScriptCall call : calls) {
+                connection.scriptingCommands().eval(
+                        toBytes(call.script().getScriptAsString()),
+                        ReturnType.INTEGER,
+                        call.keys().size(),
+                        toKeysAndArgs(call));
+            }
+            return null;
+        });
+        return results.stream()
+                .map(result -> result instanceof Long value ? value : null)
+                .toList();
+    }
+
+    private byte[][] toKeysAndArgs(ScriptCall call) {
+        byte[][] keysAndArgs = new byte[call.keys().size() + call.args().size()][];
+        int i = 0;
+        for (String key : call.keys()) {
+            keysAndArgs[i++] = toBytes(key);
+        }
+        for (byte[] arg : call.args()) {
+            keysAndArgs[i++] = arg;
+        }
+        return keysAndArgs;
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
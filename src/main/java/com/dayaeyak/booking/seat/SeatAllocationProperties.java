@@ -0,0 +1,19 @@
+package com.dayaeyak.booking.seat;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 연속 좌석 자동 배정 설정 (booking.seat-allocation.*)
+ *
+ * max-scan-seats : 배정 Lua Script 한 번이 좌석 순서 앞에서부터 탐색하는 최대 좌석 수
+ *                  대부분 선점된 대형 구역에서 호출 하나가 Redis 를 수십 ms 막지 않도록 제한하며, 범위 안에 구간이 없으면 배정 실패
+ */
+@ConfigurationProperties(prefix = "booking.seat-allocation")
+public record SeatAllocationProperties(
+        Integer maxScanSeats
+) {
+
+    public SeatAllocationProperties {
+        maxScanSeats = maxScanSeats == null ? 5_000 : maxScanSeats;
+    }
+}
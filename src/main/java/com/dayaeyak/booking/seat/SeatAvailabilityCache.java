@@ -0,0 +1,98 @@
+package com.dayaeyak.booking.seat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 구역 좌석 상태 인스턴스 내부 캐시 (near cache)
+ *
+ * 좌석 조회 트래픽은 예약 트래픽보다 훨씬 많으므로, 구역별 좌석 맵을 한 번만 Redis 에서 읽고
+ * 이후에는 Lua Script 가 seat:changes 채널로 발행하는 변경 알림으로 캐시를 직접 갱신합니다.
+ * - {sectionKey}|{상태코드}|{좌석 목록} : 해당 좌석 상태만 갱신
+ * - {sectionKey}|*|                   : 구역 전체 재로딩 → 캐시, 좌석 인덱스 매핑 제거
+ * 알림 유실이나 선점 만료는 ENTRY_TTL 안에 Redis 기준으로 다시 맞춰집니다.
+ * 구역마다 좌석 수가 크게 다르므로 구역 수가 아니라 좌석 수 합계(booking.seat-cache.max-seats)로 크기를 제한합니다.
+ */
+@Slf4j
+@Component
+public class SeatAvailabilityCache implements MessageListener {
+
+    public static final String SEAT_CHANGE_CHANNEL = "seat:changes";
+    private static final String RELOAD = "*";
+    private static final Duration ENTRY_TTL = Duration.ofSeconds(30);
+
+    private final SeatInventory seatInventory;
+    private final Cache<String, NavigableMap<Long, SeatState>> sections;
+
+    public SeatAvailabilityCache(SeatInventory seatInventory, SeatCacheProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.seatInventory = seatInventory;
+        this.sections = Caffeine.newBuilder()
+                .maximumWeight(properties.maxSeats())
+                // 적재 시점 좌석 수 (이후 변경 알림은 기존 좌석 상태만 바꾸므로 크기가 거의 변하지 않음)
+                .weigher((String sectionKey, NavigableMap<Long, SeatState> seatMap) -> Math.max(1, seatMap.size()))
+                .expireAfterWrite(ENTRY_TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sections, "seatAvailability");
+    }
+
+    // seatId 오름차순 좌석 맵 (cursor 기반 페이지 조회용)
+    public NavigableMap<Long, SeatState> getSeatMap(String sectionKey) {
+        NavigableMap<Long, SeatState> seatMap = sections.get(sectionKey,
+                key -> new ConcurrentSkipListMap<>(seatInventory.readSeatMap(key)));
+        return Collections.unmodifiableNavigableMap(seatMap);
+    }
+
+    public void evict(String sectionKey) {
+        sections.invalidate(sectionKey);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 3);
+        if (parts.length < 3) {
+            log.warn("Invalid seat change message: {}", body);
+            return;
+        }
+
+        String sectionKey = parts[0];
+        if (RELOAD.equals(parts[1])) {
+            seatInventory.evictIndex(sectionKey); // 좌석 구성이 바뀌었을 수 있으므로 인덱스 매핑부터 제거
+            evict(sectionKey);
+            return;
+        }
+
+        // 캐시에 없는 구역은 다음 조회 시 Redis 에서 읽으므로 무시
+        NavigableMap<Long, SeatState> seatMap = sections.getIfPresent(sectionKey);
+        if (seatMap == null || parts[2].isEmpty()) {
+            return;
+        }
+
+        try {
+            SeatState state = SeatState.fromCode(Integer.parseInt(parts[1]));
+            List<Long> publishedIds = Arrays.stream(parts[2].split(",")).map(Long::valueOf).toList();
+            for (Long seatId : seatInventory.toSeatIds(sectionKey, publishedIds)) {
+                seatMap.put(seatId, state);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid seat change message: {}, err={}", body, e.getMessage());
+            evict(sectionKey);
+        }
+    }
+}
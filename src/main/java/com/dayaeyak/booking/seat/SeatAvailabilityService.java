@@ -0,0 +1,99 @@
+package com.dayaeyak.booking.seat;
+
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.seat.dto.response.SeatFindResponseDto;
+import com.dayaeyak.booking.seat.dto.response.SeatPageResponseDto;
+import com.dayaeyak.booking.seat.dto.response.SectionAvailabilityResponseDto;
+import com.dayaeyak.booking.seat.dto.response.SessionAvailabilityResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+
+/**
+ * 좌석 조회
+ * - 잔여 좌석 수 : Lua Script 가 원자적으로 갱신하는 구역/회차 카운터 (HGETALL 없이 O(1))
+ * - 좌석 목록   : near cache(SeatAvailabilityCache)에서 seatId cursor 기반 페이지 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatAvailabilityService {
+
+    private static final List<Object> STATS_FIELDS = List.of("available", "locked", "booked");
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SeatAvailabilityCache seatAvailabilityCache;
+
+    public SectionAvailabilityResponseDto findSectionAvailability(Long performanceId, Long sessionId, Long sectionId) {
+        String sectionKey = SeatKeys.sectionKey(performanceId, sessionId, sectionId);
+        List<Object> counts = redisTemplate.opsForHash().multiGet(SeatKeys.sectionStatsKey(sectionKey), STATS_FIELDS);
+        if (counts.stream().allMatch(count -> count == null)) {
+            throw new CustomException(ErrorCode.SEAT_AVAILABILITY_NOT_FOUND);
+        }
+        return SectionAvailabilityResponseDto.from(sectionId, counts);
+    }
+
+    public SessionAvailabilityResponseDto findSessionAvailability(Long performanceId, Long sessionId) {
+        List<Object> counts = redisTemplate.opsForHash()
+                .multiGet(SeatKeys.sessionStatsKey(performanceId, sessionId), STATS_FIELDS);
+        if (counts.stream().allMatch(count -> count == null)) {
+            throw new CustomException(ErrorCode.SEAT_AVAILABILITY_NOT_FOUND);
+        }
+
+        // 구역별 카운터는 파이프라인 한 번으로 조회
+        Set<String> sectionStatsKeys = redisTemplate.opsForSet()
+                .members(SeatKeys.sessionSectionsKey(performanceId, sessionId));
+        List<String> statsKeys = sectionStatsKeys == null ? List.of() : new ArrayList<>(sectionStatsKeys);
+        List<Object> sectionCounts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[][] fields = STATS_FIELDS.stream()
+                    .map(field -> ((String) field).getBytes(StandardCharsets.UTF_8))
+                    .toArray(byte[][]::new);
+            for (String statsKey : statsKeys) {
+                connection.hashCommands().hMGet(statsKey.getBytes(StandardCharsets.UTF_8), fields);
+            }
+            return null;
+        });
+
+        List<SectionAvailabilityResponseDto> sections = new ArrayList<>(statsKeys.size());
+        for (int i = 0; i < statsKeys.size(); i++) {
+            sections.add(SectionAvailabilityResponseDto.from(
+                    SeatKeys.sectionIdOf(statsKeys.get(i)), (List<?>) sectionCounts.get(i)));
+        }
+        sections.sort(Comparator.comparing(SectionAvailabilityResponseDto::sectionId));
+
+        return SessionAvailabilityResponseDto.from(performanceId, sessionId, counts, sections);
+    }
+
+    // cursor(마지막으로 받은 seatId) 다음 좌석부터 size 개
+    public SeatPageResponseDto findSectionSeats(Long performanceId, Long sessionId, Long sectionId,
+                                                Long cursor, Integer size) {
+        String sectionKey = SeatKeys.sectionKey(performanceId, sessionId, sectionId);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        NavigableMap<Long, SeatState> seatMap = seatAvailabilityCache.getSeatMap(sectionKey);
+        NavigableMap<Long, SeatState> remaining = cursor == null ? seatMap : seatMap.tailMap(cursor, false);
+
+        List<SeatFindResponseDto> seats = new ArrayList<>(pageSize);
+        for (Map.Entry<Long, SeatState> seat : remaining.entrySet()) {
+            if (seats.size() == pageSize) {
+                break;
+            }
+            seats.add(new SeatFindResponseDto(seat.getKey(), seat.getValue()));
+        }
+
+        Long nextCursor = seats.isEmpty() ? null : seats.get(seats.size() - 1).seatId();
+        boolean hasNext = nextCursor != null && seatMap.higherKey(nextCursor) != null;
+        return new SeatPageResponseDto(seats, hasNext ? nextCursor : null, hasNext);
+    }
+}
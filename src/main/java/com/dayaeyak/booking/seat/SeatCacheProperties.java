@@ -0,0 +1,25 @@
+package com.dayaeyak.booking.seat;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 좌석 near cache 설정 (booking.seat-cache.*)
+ *
+ * max-seats           : 인스턴스 내부 캐시에 담을 좌석 수 합계 상한 (구역 수가 아니라 구역별 좌석 수 합으로 제한)
+ *                       좌석 1개당 수십 byte 이므로 heap 크기에 맞게 조정
+ * index-max-seats     : Bitmap 방식 seatId → 인덱스 매핑 캐시의 좌석 수 합계 상한 (좌석당 약 24 byte)
+ * index-ttl-seconds   : 매핑 캐시 유지 시간, 구역 재적재 알림(*)이 유실되어도 이 시간 안에 Redis 기준으로 맞춰짐
+ */
+@ConfigurationProperties(prefix = "booking.seat-cache")
+public record SeatCacheProperties(
+        Long maxSeats,
+        Long indexMaxSeats,
+        Long indexTtlSeconds
+) {
+
+    public SeatCacheProperties {
+        maxSeats = maxSeats == null ? 2_000_000L : maxSeats;
+        indexMaxSeats = indexMaxSeats == null ? 2_000_000L : indexMaxSeats;
+        indexTtlSeconds = indexTtlSeconds == null ? 600L : indexTtlSeconds;
+    }
+}
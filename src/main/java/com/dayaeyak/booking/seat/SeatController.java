@@ -0,0 +1,66 @@
+package com.dayaeyak.booking.seat;
+
+import com.dayaeyak.booking.annotation.Authorize;
+import com.dayaeyak.booking.common.enums.UserRole;
+import com.dayaeyak.booking.seat.dto.response.SeatPageResponseDto;
+import com.dayaeyak.booking.seat.dto.response.SeatPrewarmResponseDto;
+import com.dayaeyak.booking.seat.dto.response.SectionAvailabilityResponseDto;
+import com.dayaeyak.booking.seat.dto.response.SessionAvailabilityResponseDto;
+import com.dayaeyak.booking.utils.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/bookings/performances/{performanceId}/sessions/{sessionId}")
+public class SeatController {
+
+    private final SeatPrewarmService seatPrewarmService;
+    private final SeatAvailabilityService seatAvailabilityService;
+
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<SessionAvailabilityResponseDto>> findSessionAvailability(
+            @PathVariable Long performanceId,
+            @PathVariable Long sessionId) {
+        return ApiResponse.success(HttpStatus.OK,
+                seatAvailabilityService.findSessionAvailability(performanceId, sessionId));
+    }
+
+    @GetMapping("/sections/{sectionId}/availability")
+    public ResponseEntity<ApiResponse<SectionAvailabilityResponseDto>> findSectionAvailability(
+            @PathVariable Long performanceId,
+            @PathVariable Long sessionId,
+            @PathVariable Long sectionId) {
+        return ApiResponse.success(HttpStatus.OK,
+                seatAvailabilityService.findSectionAvailability(performanceId, sessionId, sectionId));
+    }
+
+    @GetMapping("/sections/{sectionId}/seats")
+    public ResponseEntity<ApiResponse<SeatPageResponseDto>> findSectionSeats(
+            @PathVariable Long performanceId,
+            @PathVariable Long sessionId,
+            @PathVariable Long sectionId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        return ApiResponse.success(HttpStatus.OK,
+                seatAvailabilityService.findSectionSeats(performanceId, sessionId, sectionId, cursor, size));
+    }
+
+    @Authorize(roles = { UserRole.MASTER})
+    @PostMapping("/prewarm")
+    public ResponseEntity<ApiResponse<SeatPrewarmResponseDto>> startPrewarm(
+            @PathVariable Long performanceId,
+            @PathVariable Long sessionId) {
+        return ApiResponse.success(HttpStatus.ACCEPTED, seatPrewarmService.startPrewarm(performanceId, sessionId));
+    }
+
+    @Authorize(roles = { UserRole.MASTER})
+    @GetMapping("/prewarm")
+    public ResponseEntity<ApiResponse<SeatPrewarmResponseDto>> findPrewarm(
+            @PathVariable Long performanceId,
+            @PathVariable Long sessionId) {
+        return ApiResponse.success(HttpStatus.OK, seatPrewarmService.findPrewarm(performanceId, sessionId));
+    }
+}
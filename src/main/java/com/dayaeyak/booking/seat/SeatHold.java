@@ -0,0 +1,10 @@
+package com.dayaeyak.booking.seat;
+
+/**
+ * 좌석 하나와 그 좌석을 선점한 요청의 hold token
+ */
+public record SeatHold(
+        Long seatId,
+        String holdToken
+) {
+}
@@ -0,0 +1,165 @@
+package com.dayaeyak.booking.seat;
+
+import com.dayaeyak.booking.domain.booking.dto.kafka.SeatStatusDto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Bitmap 방식에서 seatId → 좌석 인덱스(bit offset) 매핑
+ * 구역 좌석 목록을 seatNumber 순서(SeatInventory.SEAT_ORDER)로 정렬한 위치가 곧 인덱스이므로,
+ * 연속된 인덱스가 곧 나란히 붙은 좌석입니다.
+ *
+ * Redis 저장 형식 (pack) : PACKED_FORMAT 1byte, 좌석 수, 좌석마다 (seatId 차이, seatNumber 차이)
+ * 차이는 직전 좌석 기준 zigzag varint 이므로 seatId, seatNumber 가 1씩 늘어나는 일반적인 구역은 좌석당 2byte 입니다.
+ * (이전 "seatId:seatNumber,..." 문자열은 좌석당 약 13byte)
+ */
+public final class SeatIndex {
+
+    private static final byte PACKED_FORMAT = 1; // 이전 문자열 형식은 숫자로 시작하므로 구분됨
+    private static final String DELIMITER = ",";
+    private static final String NUMBER_DELIMITER = ":";
+
+    private final long[] seatIds;     // 인덱스 순서
+    private final int[] seatNumbers;  // 인덱스 순서, 좌석 번호가 없으면 0
+    private final long[] sortedSeatIds; // seatId 검색용 (오름차순)
+    private final int[] sortedIndexes;  // sortedSeatIds 위치별 좌석 인덱스
+
+    private SeatIndex(long[] seatIds, int[] seatNumbers) {
+        this.seatIds = seatIds;
+        this.seatNumbers = seatNumbers;
+
+        Integer[] order = new Integer[seatIds.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(index -> seatIds[index]));
+        this.sortedSeatIds = new long[seatIds.length];
+        this.sortedIndexes = new int[seatIds.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedSeatIds[i] = seatIds[order[i]];
+            sortedIndexes[i] = order[i];
+        }
+    }
+
+    public static SeatIndex of(Collection<SeatStatusDto> seats) {
+        SeatStatusDto[] ordered = seats.stream()
+                .filter(seat -> seat.getSeatId() != null)
+                .sorted(SeatInventory.SEAT_ORDER)
+                .toArray(SeatStatusDto[]::new);
+
+        long[] seatIds = new long[ordered.length];
+        int[] seatNumbers = new int[ordered.length];
+        for (int i = 0; i < ordered.length; i++) {
+            seatIds[i] = ordered[i].getSeatId();
+            seatNumbers[i] = ordered[i].getSeatNumber() == null ? 0 : ordered[i].getSeatNumber();
+        }
+        return new SeatIndex(seatIds, seatNumbers);
+    }
+
+    // Redis 에 저장된 값 복원 (압축 형식, 배포 전에 적재된 문자열 형식 모두 허용)
+    public static SeatIndex parse(byte[] stored) {
+        if (stored == null || stored.length == 0) {
+            return new SeatIndex(new long[0], new int[0]);
+        }
+        if (stored[0] != PACKED_FORMAT) {
+            return parseText(new String(stored, StandardCharsets.UTF_8));
+        }
+        int[] position = {1};
+        int size = (int) readVarint(stored, position);
+        long[] seatIds = new long[size];
+        int[] seatNumbers = new int[size];
+        long seatId = 0;
+        long seatNumber = 0;
+        for (int i = 0; i < size; i++) {
+            seatId += zigzagDecode(readVarint(stored, position));
+            seatNumber += zigzagDecode(readVarint(stored, position));
+            seatIds[i] = seatId;
+            seatNumbers[i] = (int) seatNumber;
+        }
+        return new SeatIndex(seatIds, seatNumbers);
+    }
+
+    public byte[] pack() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(seatIds.length * 2 + 8);
+        out.write(PACKED_FORMAT);
+        writeVarint(out, seatIds.length);
+        long previousSeatId = 0;
+        long previousSeatNumber = 0;
+        for (int i = 0; i < seatIds.length; i++) {
+            writeVarint(out, zigzagEncode(seatIds[i] - previousSeatId));
+            writeVarint(out, zigzagEncode(seatNumbers[i] - previousSeatNumber));
+            previousSeatId = seatIds[i];
+            previousSeatNumber = seatNumbers[i];
+        }
+        return out.toByteArray();
+    }
+
+    // "seatId:seatNumber,..." 형식 (좌석 번호 없는 이전 "1,2,3" 형식도 허용)
+    private static SeatIndex parseText(String serialized) {
+        String[] entries = serialized.split(DELIMITER);
+        long[] seatIds = new long[entries.length];
+        int[] seatNumbers = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            int separator = entries[i].indexOf(NUMBER_DELIMITER);
+            if (separator < 0) {
+                seatIds[i] = Long.parseLong(entries[i]);
+            } else {
+                seatIds[i] = Long.parseLong(entries[i].substring(0, separator));
+                seatNumbers[i] = Integer.parseInt(entries[i].substring(separator + 1));
+            }
+        }
+        return new SeatIndex(seatIds, seatNumbers);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    // position[0] 위치부터 읽고 다음 위치로 이동
+    private static long readVarint(byte[] bytes, int[] position) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed seat index varint");
+    }
+
+    // 음수 차이도 작은 값으로 (0, -1, 1, -2 … → 0, 1, 2, 3 …)
+    private static long zigzagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long zigzagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // 매핑되지 않은 seatId 는 -1
+    public int indexOf(long seatId) {
+        int position = Arrays.binarySearch(sortedSeatIds, seatId);
+        return position >= 0 ? sortedIndexes[position] : -1;
+    }
+
+    public long seatIdAt(int index) {
+        return seatIds[index];
+    }
+
+    public int seatNumberAt(int index) {
+        return seatNumbers[index];
+    }
+
+    public int size() {
+        return seatIds.length;
+    }
+}
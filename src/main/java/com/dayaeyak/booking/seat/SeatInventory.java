@@ -0,0 +1,74 @@
+package com.dayaeyak.booking.seat;
+
+import com.dayaeyak.booking.domain.booking.dto.kafka.SeatStatusDto;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구역(section) 단위 좌석 맵을 Redis 에 보관하고 Lua Script 로 선점/확정/해제를 수행하는 저장소
+ *
+ * 선점은 hold token 과 만료 시각을 함께 기록하며, 만료된 선점은 다음 선점 시도 시 Lua Script 안에서 회수됩니다.
+ *
+ * 저장 방식은 배포 환경별로 booking.seat.encoding 값으로 선택합니다.
+ * - hash   : 좌석당 Hash 필드 1개 (기본값)
+ * - bitmap : 좌석당 2bit, 하나의 문자열 값에 연속 저장 (대형 공연장용)
+ *
+ * 두 방식 모두 좌석을 SEAT_ORDER(seatNumber 순) 로 나열한 순서를 함께 저장하며, 연속 좌석 자동 배정은 이 순서를 따릅니다.
+ */
+public interface SeatInventory {
+
+    // 좌석 배치 순서 : seatNumber 오름차순, 번호가 없는 좌석은 뒤로 (같으면 seatId 순)
+    Comparator<SeatStatusDto> SEAT_ORDER = Comparator
+            .comparing(SeatStatusDto::getSeatNumber, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(SeatStatusDto::getSeatId);
+
+    // 구역 좌석 맵이 Redis 에 로딩되어 있는지 확인
+    boolean exists(String sectionKey);
+
+    // 공연 서비스에서 받은 좌석 목록으로 구역 좌석 맵 초기화 (이미 있으면 덮어쓰지 않고 false)
+    boolean initializeIfAbsent(String sectionKey, List<SeatStatusDto> seats, Duration ttl);
+
+    // 여러 구역을 파이프라인 한 번으로 초기화, 새로 저장된 구역 수 반환
+    int initializeAllIfAbsent(Map<String, List<SeatStatusDto>> sections, Duration ttl);
+
+    // 모든 좌석이 available(또는 선점 만료)일 때만 holdToken 소유의 locked 로 변경 (all-or-nothing)
+    default boolean lock(String sectionKey, List<Long> seatIds, String holdToken, Duration holdTtl) {
+        return lock(Map.of(sectionKey, seatIds), holdToken, holdTtl);
+    }
+
+    // 같은 회차의 여러 구역 좌석을 Lua Script 한 번으로 선점 (구역 key → seatId 목록, 전체 all-or-nothing)
+    boolean lock(Map<String, List<Long>> seatsBySection, String holdToken, Duration holdTtl);
+
+    // 좌석 순서상 앞에서부터 선점 가능한 연속 count 석을 찾아 holdToken 소유의 locked 로 변경, 없으면 빈 목록
+    List<AllocatedSeat> allocateContiguous(String sectionKey, int count, String holdToken, Duration holdTtl);
+
+    // 모든 좌석이 holdToken 소유의 locked 일 때만 booked 로 변경
+    default boolean confirm(String sectionKey, List<Long> seatIds, String holdToken) {
+        return confirm(Map.of(sectionKey, seatIds), holdToken);
+    }
+
+    boolean confirm(Map<String, List<Long>> seatsBySection, String holdToken);
+
+    // holdToken 소유의 locked 좌석만 available 로 되돌림
+    default void release(String sectionKey, List<Long> seatIds, String holdToken) {
+        release(Map.of(sectionKey, seatIds), holdToken);
+    }
+
+    void release(Map<String, List<Long>> seatsBySection, String holdToken);
+
+    // 좌석마다 hold token 이 다른 해제 요청을 구역당 한 번에 처리, 해제된 좌석 수 반환
+    int releaseHolds(String sectionKey, List<SeatHold> holds);
+
+    // 구역 전체 좌석 상태 (만료된 선점은 available), 로딩되지 않은 구역은 빈 Map
+    Map<Long, SeatState> readSeatMap(String sectionKey);
+
+    // 변경 알림(seat:changes)에 실린 좌석 식별자를 seatId 로 변환
+    List<Long> toSeatIds(String sectionKey, List<Long> publishedIds);
+
+    // 구역 재적재 시 인스턴스에 캐싱한 좌석 식별자 매핑 제거 (매핑을 두지 않는 구현은 할 일 없음)
+    default void evictIndex(String sectionKey) {
+    }
+}
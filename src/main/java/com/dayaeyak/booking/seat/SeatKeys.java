@@ -0,0 +1,107 @@
+package com.dayaeyak.booking.seat;
+
+/**
+ * 좌석 관련 Redis key 생성 (모든 좌석 key 는 이 클래스에서만 만듭니다)
+ *
+ * Redis Cluster 에서 한 Lua Script 가 여러 key 를 다루려면 같은 hash slot 에 있어야 하므로,
+ * 회차 단위 key 는 모두 hash tag {performanceId:sessionId} 를 포함합니다.
+ * 같은 회차의 좌석 맵/카운터/선점 정보는 한 노드에 모이고, 회차별로 노드에 분산됩니다.
+ *
+ * - 회차 key       : seat:{performanceId:sessionId}
+ * - 구역 key       : seat:{performanceId:sessionId}:{sectionId}            (좌석 맵 Hash)
+ * - 구역 부가 key  : {sectionKey}:order / :bits / :ids / :holds / :loading
+ * - 구역 카운터    : {sectionKey}:stats                                     (available / locked / booked)
+ * - 회차 카운터    : seat:{performanceId:sessionId}:stats                    (구역 카운터의 합)
+ * - 회차 구역 목록 : seat:{performanceId:sessionId}:sections                 (구역 카운터 key 목록)
+ * - 사전 로딩 진행 : seat:{performanceId:sessionId}:prewarm
+ * - 선점 해제 대기열 : seat:release:queue                                  (단일 key)
+ */
+public final class SeatKeys {
+
+    private static final String SESSION_KEY_FORMAT = "seat:{%d:%d}"; // performanceId, sessionId
+    private static final String STATS_SUFFIX = ":stats";
+    private static final String SECTIONS_SUFFIX = ":sections";
+    private static final String ORDER_SUFFIX = ":order";
+    private static final String BITS_SUFFIX = ":bits";
+    private static final String IDS_SUFFIX = ":ids";
+    private static final String HOLDS_SUFFIX = ":holds";
+    private static final String LOADING_SUFFIX = ":loading";
+    private static final String PREWARM_SUFFIX = ":prewarm";
+    private static final String SEAT_LOCK_SUFFIX = ":lock:";
+    private static final String RELEASE_QUEUE_KEY = "seat:release:queue";
+
+    private SeatKeys() {
+    }
+
+    public static String sessionKey(Long performanceId, Long sessionId) {
+        return String.format(SESSION_KEY_FORMAT, performanceId, sessionId);
+    }
+
+    public static String sectionKey(Long performanceId, Long sessionId, Long sectionId) {
+        return sessionKey(performanceId, sessionId) + ":" + sectionId;
+    }
+
+    // 좌석 단위 SETNX 선점 key (구 방식 예약 흐름)
+    public static String seatLockKey(Long performanceId, Long sessionId, Long seatId) {
+        return sessionKey(performanceId, sessionId) + SEAT_LOCK_SUFFIX + seatId;
+    }
+
+    public static String seatOrderKey(String sectionKey) {
+        return sectionKey + ORDER_SUFFIX;
+    }
+
+    public static String seatBitsKey(String sectionKey) {
+        return sectionKey + BITS_SUFFIX;
+    }
+
+    public static String seatIdsKey(String sectionKey) {
+        return sectionKey + IDS_SUFFIX;
+    }
+
+    public static String seatHoldsKey(String sectionKey) {
+        return sectionKey + HOLDS_SUFFIX;
+    }
+
+    public static String loadingKey(String sectionKey) {
+        return sectionKey + LOADING_SUFFIX;
+    }
+
+    public static String sectionStatsKey(String sectionKey) {
+        return sectionKey + STATS_SUFFIX;
+    }
+
+    public static String sessionStatsKey(String sectionKey) {
+        return sessionKeyOf(sectionKey) + STATS_SUFFIX;
+    }
+
+    public static String sessionSectionsKey(String sectionKey) {
+        return sessionKeyOf(sectionKey) + SECTIONS_SUFFIX;
+    }
+
+    public static String sessionStatsKey(Long performanceId, Long sessionId) {
+        return sessionKey(performanceId, sessionId) + STATS_SUFFIX;
+    }
+
+    public static String sessionSectionsKey(Long performanceId, Long sessionId) {
+        return sessionKey(performanceId, sessionId) + SECTIONS_SUFFIX;
+    }
+
+    public static String prewarmKey(Long performanceId, Long sessionId) {
+        return sessionKey(performanceId, sessionId) + PREWARM_SUFFIX;
+    }
+
+    public static String releaseQueueKey() {
+        return RELEASE_QUEUE_KEY;
+    }
+
+    // 구역 카운터 key(seat:{performanceId:sessionId}:{sectionId}:stats) → sectionId
+    public static Long sectionIdOf(String sectionStatsKey) {
+        String sectionKey = sectionStatsKey.substring(0, sectionStatsKey.length() - STATS_SUFFIX.length());
+        return Long.valueOf(sectionKey.substring(sectionKey.lastIndexOf(':') + 1));
+    }
+
+    // 구역 key(seat:{performanceId:sessionId}:{sectionId}) 의 회차 부분
+    private static String sessionKeyOf(String sectionKey) {
+        return sectionKey.substring(0, sectionKey.lastIndexOf(':'));
+    }
+}
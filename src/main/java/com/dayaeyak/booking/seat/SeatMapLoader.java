@@ -0,0 +1,126 @@
+package com.dayaeyak.booking.seat;
+
+import com.dayaeyak.booking.client.performance.PerformanceClient;
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.domain.booking.dto.kafka.SeatStatusDto;
+import com.dayaeyak.booking.utils.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 구역 좌석 맵 단일 로딩(single-flight)
+ *
+ * 판매 오픈 직후 같은 구역에 대한 요청이 몰려도 공연 서비스 조회는 클러스터 전체에서 한 번만 발생합니다.
+ * 1) 인스턴스 내부 : 같은 구역 로딩은 진행 중인 Future 하나를 공유
+ * 2) 인스턴스 간   : Redis 로딩 가드(SET NX PX)를 잡은 인스턴스만 조회하고, 나머지는 좌석 맵이 생길 때까지 대기
+ * 3) 저장         : "없을 때만 저장" Lua Script 로 로딩 사이에 기록된 선점을 덮어쓰지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatMapLoader {
+
+    private static final Duration SEAT_MAP_TTL = Duration.ofHours(1);
+    private static final Duration LOADING_GUARD_TTL = Duration.ofSeconds(10);
+    private static final long LOAD_WAIT_TIMEOUT_MILLIS = 5_000L;
+    private static final long POLL_INTERVAL_MILLIS = 50L;
+
+    private final SeatInventory seatInventory;
+    private final PerformanceClient performanceClient;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> compareAndDeleteScript;
+
+    private final Map<String, CompletableFuture<Void>> inFlightLoads = new ConcurrentHashMap<>();
+
+    public void ensureLoaded(String sectionKey, Long performanceId, Long sessionId, Long sectionId) {
+        if (seatInventory.exists(sectionKey)) {
+            return;
+        }
+
+        CompletableFuture<Void> myLoad = new CompletableFuture<>();
+        CompletableFuture<Void> inFlight = inFlightLoads.putIfAbsent(sectionKey, myLoad);
+        if (inFlight != null) {
+            awaitInFlight(sectionKey, inFlight);
+            return;
+        }
+
+        try {
+            loadAcrossCluster(sectionKey, performanceId, sessionId, sectionId);
+            myLoad.complete(null);
+        } catch (RuntimeException e) {
+            myLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(sectionKey, myLoad);
+        }
+    }
+
+    private void loadAcrossCluster(String sectionKey, Long performanceId, Long sessionId, Long sectionId) {
+        long deadline = System.currentTimeMillis() + LOAD_WAIT_TIMEOUT_MILLIS;
+        String loadingKey = SeatKeys.loadingKey(sectionKey);
+        String guardToken = UUID.randomUUID().toString();
+
+        while (!seatInventory.exists(sectionKey)) {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(loadingKey, guardToken, LOADING_GUARD_TTL);
+            if (Boolean.TRUE.equals(acquired)) {
+                try {
+                    ApiResponse<List<SeatStatusDto>> seatList =
+                            performanceClient.readPerformanceSeats(performanceId, sessionId, sectionId);
+                    boolean written = seatInventory.initializeIfAbsent(sectionKey, seatList.getData(), SEAT_MAP_TTL);
+                    log.info("Seat map loaded: sectionKey={}, seats={}, written={}",
+                            sectionKey, seatList.getData().size(), written);
+                    return;
+                } finally {
+                    redisTemplate.execute(compareAndDeleteScript, Collections.singletonList(loadingKey), guardToken);
+                }
+            }
+
+            // 다른 인스턴스가 로딩 중 → 좌석 맵이 생기거나 가드가 만료될 때까지 대기
+            if (System.currentTimeMillis() >= deadline) {
+                throw new CustomException(ErrorCode.SEAT_MAP_NOT_READY);
+            }
+            sleep();
+        }
+    }
+
+    private void awaitInFlight(String sectionKey, CompletableFuture<Void> inFlight) {
+        try {
+            inFlight.get(LOAD_WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("Seat map load wait timed out: sectionKey={}", sectionKey);
+            throw new CustomException(ErrorCode.SEAT_MAP_NOT_READY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.SEAT_MAP_NOT_READY);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.SEAT_MAP_NOT_READY);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.dayaeyak.booking.seat;
+
+import com.dayaeyak.booking.client.performance.PerformanceClient;
+import com.dayaeyak.booking.client.performance.SectionResponseDto;
+import com.dayaeyak.booking.config.SeatPrewarmExecutorConfig;
+import com.dayaeyak.booking.domain.booking.dto.kafka.SeatStatusDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회차의 모든 구역을 공연 서비스에서 조회하여 SECTION_BATCH_SIZE 개씩 파이프라인으로 Redis 에 저장
+ * 이미 로딩된 구역은 조회하지 않으며, 저장도 "없을 때만" 수행하므로 판매 중 실행해도 선점을 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+public class SeatPrewarmJob {
+
+    static final String RUNNING = "RUNNING";
+    static final String COMPLETED = "COMPLETED";
+    static final String FAILED = "FAILED";
+
+    private static final int SECTION_BATCH_SIZE = 20;
+    private static final Duration PREWARM_TTL = Duration.ofHours(3); // 판매 오픈 전에 만료되지 않도록 여유
+
+    private final PerformanceClient performanceClient;
+    private final SeatInventory seatInventory;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> compareAndDeleteScript;
+    private final Timer prewarmTimer;
+    private final Counter prewarmSeatCounter;
+    private final DistributionSummary prewarmThroughput;
+
+    public SeatPrewarmJob(PerformanceClient performanceClient,
+                          SeatInventory seatInventory,
+                          RedisTemplate<String, String> redisTemplate,
+                          DefaultRedisScript<Long> compareAndDeleteScript,
+                          MeterRegistry meterRegistry) {
+        this.performanceClient = performanceClient;
+        this.seatInventory = seatInventory;
+        this.redisTemplate = redisTemplate;
+        this.compareAndDeleteScript = compareAndDeleteScript;
+        this.prewarmTimer = Timer.builder("booking.seat.prewarm.duration")
+                .description("회차 좌석 맵 사전 로딩 소요 시간")
+                .register(meterRegistry);
+        this.prewarmSeatCounter = Counter.builder("booking.seat.prewarm.seats")
+                .description("사전 로딩한 좌석 수")
+                .register(meterRegistry);
+        this.prewarmThroughput = DistributionSummary.builder("booking.seat.prewarm.throughput")
+                .description("사전 로딩 처리량")
+                .baseUnit("seats/s")
+                .register(meterRegistry);
+    }
+
+    @Async(SeatPrewarmExecutorConfig.SEAT_PREWARM_EXECUTOR)
+    public void run(Long performanceId, Long sessionId, String progressKey, String lockKey, String lockToken) {
+        long startedAt = System.currentTimeMillis();
+        Timer.Sample sample = Timer.start();
+
+        try {
+            List<SectionResponseDto> sections =
+                    performanceClient.readPerformanceSections(performanceId, sessionId).getData();
+            redisTemplate.opsForHash().put(progressKey, "totalSections", String.valueOf(sections.size()));
+
+            Map<String, List<SeatStatusDto>> batch = new LinkedHashMap<>();
+            int loadedSections = 0;
+            int writtenSections = 0;
+            long seats = 0;
+
+            for (SectionResponseDto section : sections) {
+                String sectionKey = SeatKeys.sectionKey(performanceId, sessionId, section.sectionId());
+                if (!seatInventory.exists(sectionKey)) {
+                    List<SeatStatusDto> seatList = performanceClient
+                            .readPerformanceSeats(performanceId, sessionId, section.sectionId())
+                            .getData();
+                    batch.put(sectionKey, seatList);
+                    seats += seatList.size();
+                }
+                loadedSections++;
+
+                if (batch.size() >= SECTION_BATCH_SIZE) {
+                    writtenSections += flush(batch);
+                    reportProgress(progressKey, RUNNING, loadedSections, writtenSections, seats, startedAt);
+                }
+            }
+            writtenSections += flush(batch);
+
+            double seatsPerSecond = reportProgress(progressKey, COMPLETED, loadedSections, writtenSections, seats, startedAt);
+            prewarmSeatCounter.increment(seats);
+            prewarmThroughput.record(seatsPerSecond);
+            log.info("Seat prewarm completed: performanceId={}, sessionId={}, sections={}, written={}, seats={}, seats/s={}",
+                    performanceId, sessionId, sections.size(), writtenSections, seats, seatsPerSecond);
+
+        } catch (Exception e) {
+            log.error("Seat prewarm failed: performanceId={}, sessionId={}, err={}",
+                    performanceId, sessionId, e.getMessage(), e);
+            redisTemplate.opsForHash().putAll(progressKey, Map.of(
+                    "status", FAILED,
+                    "finishedAt", String.valueOf(System.currentTimeMillis())
+            ));
+        } finally {
+            sample.stop(prewarmTimer);
+            // 잠금 시간을 넘겨 다른 실행이 잠금을 가져갔다면 그 잠금은 두고 종료
+            redisTemplate.execute(compareAndDeleteScript, Collections.singletonList(lockKey), lockToken);
+        }
+    }
+
+    private int flush(Map<String, List<SeatStatusDto>> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int written = seatInventory.initializeAllIfAbsent(batch, PREWARM_TTL);
+        batch.clear();
+        return written;
+    }
+
+    // 진행 상황 기록 후 현재 처리량(좌석/초) 반환
+    private double reportProgress(String progressKey, String status, int loadedSections,
+                                  int writtenSections, long seats, long startedAt) {
+        long now = System.currentTimeMillis();
+        double seatsPerSecond = seats * 1000.0 / Math.max(1, now - startedAt);
+
+        Map<String, String> progress = new LinkedHashMap<>();
+        progress.put("status", status);
+        progress.put("loadedSections", String.valueOf(loadedSections));
+        progress.put("writtenSections", String.valueOf(writtenSections));
+        progress.put("seats", String.valueOf(seats));
+        progress.put("seatsPerSecond", String.format("%.1f", seatsPerSecond));
+        if (!RUNNING.equals(status)) {
+            progress.put("finishedAt", String.valueOf(now));
+        }
+        redisTemplate.opsForHash().putAll(progressKey, progress);
+        return seatsPerSecond;
+    }
+}
@@ -0,0 +1,75 @@
+package com.dayaeyak.booking.seat;
+
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.seat.dto.response.SeatPrewarmResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 판매 오픈 전 회차(session) 전체 구역 좌석 맵 사전 로딩
+ * 진행 상황은 Redis hash 에 기록하여 어느 인스턴스에서든 조회할 수 있습니다.
+ * 잠금 값은 실행마다 다른 token 이며, 본인 token 일 때만 해제하므로 잠금 시간을 넘긴 작업이 다음 실행의 잠금을 풀지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatPrewarmService {
+
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final Duration PREWARM_LOCK_TTL = Duration.ofMinutes(10);
+    private static final Duration PROGRESS_TTL = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SeatPrewarmJob seatPrewarmJob;
+    private final DefaultRedisScript<Long> compareAndDeleteScript;
+
+    public SeatPrewarmResponseDto startPrewarm(Long performanceId, Long sessionId) {
+        String progressKey = SeatKeys.prewarmKey(performanceId, sessionId);
+        String lockKey = progressKey + LOCK_SUFFIX;
+
+        String lockToken = UUID.randomUUID().toString();
+
+        // 같은 회차 작업은 클러스터 전체에서 하나만 실행
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, lockToken, PREWARM_LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            throw new CustomException(ErrorCode.SEAT_PREWARM_IN_PROGRESS);
+        }
+
+        // 작업에 넘기기 전에 실패하면 잠금이 만료될 때까지 남지 않도록 바로 해제
+        try {
+            redisTemplate.delete(progressKey);
+            redisTemplate.opsForHash().putAll(progressKey, Map.of(
+                    "status", SeatPrewarmJob.RUNNING,
+                    "startedAt", String.valueOf(System.currentTimeMillis())
+            ));
+            redisTemplate.expire(progressKey, PROGRESS_TTL);
+
+            seatPrewarmJob.run(performanceId, sessionId, progressKey, lockKey, lockToken);
+        } catch (RuntimeException e) {
+            redisTemplate.opsForHash().put(progressKey, "status", SeatPrewarmJob.FAILED);
+            redisTemplate.execute(compareAndDeleteScript, Collections.singletonList(lockKey), lockToken);
+            if (e instanceof TaskRejectedException) {
+                throw new CustomException(ErrorCode.SEAT_PREWARM_BUSY);
+            }
+            throw e;
+        }
+        return findPrewarm(performanceId, sessionId);
+    }
+
+    public SeatPrewarmResponseDto findPrewarm(Long performanceId, Long sessionId) {
+        String progressKey = SeatKeys.prewarmKey(performanceId, sessionId);
+        Map<Object, Object> progress = redisTemplate.opsForHash().entries(progressKey);
+        if (progress.isEmpty()) {
+            throw new CustomException(ErrorCode.SEAT_PREWARM_NOT_FOUND);
+        }
+        return SeatPrewarmResponseDto.from(performanceId, sessionId, progress);
+    }
+}
@@ -0,0 +1,48 @@
+package com.dayaeyak.booking.seat;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 선점 해제 대기열 작업 : 한 요청(holdToken)이 한 구역에서 선점한 좌석들
+ * 대기열 member 형식 : {sectionKey}|{holdToken}|{seatId 목록(,)}|{원래 실행 시각(ms)}
+ *
+ * 가져간 작업은 score 가 임대 만료 시각으로 바뀌므로, 지연 시간은 member 에 담긴 원래 실행 시각 기준으로 계산합니다.
+ * (원래 실행 시각이 없는 이전 형식 member 는 score 를 실행 시각으로 사용)
+ */
+public record SeatReleaseJob(
+        String member,
+        String sectionKey,
+        String holdToken,
+        List<Long> seatIds,
+        long dueAt
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static String toMember(String sectionKey, String holdToken, List<Long> seatIds, long dueAt) {
+        StringBuilder member = new StringBuilder(sectionKey).append(DELIMITER).append(holdToken).append(DELIMITER);
+        for (int i = 0; i < seatIds.size(); i++) {
+            if (i > 0) {
+                member.append(',');
+            }
+            member.append(seatIds.get(i));
+        }
+        return member.append(DELIMITER).append(dueAt).toString();
+    }
+
+    // 형식이 잘못된 작업은 null, score 는 이전 형식 member 의 실행 시각으로만 사용
+    public static SeatReleaseJob parse(String member, long score) {
+        String[] parts = member.split("\\|", 4);
+        if (parts.length < 3 || parts[0].isEmpty() || parts[1].isEmpty() || parts[2].isEmpty()) {
+            return null;
+        }
+        try {
+            List<Long> seatIds = Arrays.stream(parts[2].split(",")).map(Long::valueOf).toList();
+            long dueAt = parts.length == 4 ? Long.parseLong(parts[3]) : score;
+            return new SeatReleaseJob(member, parts[0], parts[1], seatIds, dueAt);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.dayaeyak.booking.seat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 선점 해제 대기열 (Redis Sorted Set, score = 해제 실행 시각(ms))
+ *
+ * 좌석 선점 시 선점 만료 후 실행할 해제 작업을 등록합니다.
+ * 예약 흐름이 중간에 끊겨도 선점 좌석과 카운터가 다음 선점 시도 전까지 locked 로 남지 않도록 정리하며,
+ * 이미 확정/해제된 좌석은 hold token 이 달라져 있으므로 해제 작업은 아무것도 바꾸지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatReleaseQueue {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<List> claimReleaseJobsScript;
+
+    // 구역별 작업 하나씩 등록 (ZADD 한 번)
+    public void schedule(Map<String, List<Long>> seatsBySection, String holdToken, Instant releaseAt) {
+        long dueAt = releaseAt.toEpochMilli();
+        Set<TypedTuple<String>> jobs = new HashSet<>();
+        seatsBySection.forEach((sectionKey, seatIds) -> {
+            if (!seatIds.isEmpty()) {
+                jobs.add(new DefaultTypedTuple<>(
+                        SeatReleaseJob.toMember(sectionKey, holdToken, seatIds, dueAt), (double) dueAt));
+            }
+        });
+        if (!jobs.isEmpty()) {
+            redisTemplate.opsForZSet().add(SeatKeys.releaseQueueKey(), jobs);
+        }
+    }
+
+    // 실행 시각이 지난 작업을 최대 limit 건 임대(lease) 방식으로 가져옴, 형식이 잘못된 작업은 바로 제거
+    public List<SeatReleaseJob> claim(long now, int limit, Duration lease) {
+        List<?> claimed = redisTemplate.execute(
+                claimReleaseJobsScript,
+                List.of(SeatKeys.releaseQueueKey()),
+                String.valueOf(now), String.valueOf(limit), String.valueOf(lease.toMillis())
+        );
+        if (claimed == null || claimed.isEmpty()) {
+            return List.of();
+        }
+
+        List<SeatReleaseJob> jobs = new ArrayList<>(claimed.size() / 2);
+        List<String> invalid = new ArrayList<>();
+        for (int i = 0; i + 1 < claimed.size(); i += 2) {
+            String member = (String) claimed.get(i);
+            SeatReleaseJob job = SeatReleaseJob.parse(member, (long) Double.parseDouble((String) claimed.get(i + 1)));
+            if (job == null) {
+                log.error("Invalid seat release job: {}", member);
+                invalid.add(member);
+            } else {
+                jobs.add(job);
+            }
+        }
+        complete(invalid);
+        return jobs;
+    }
+
+    // 처리 완료된 작업 제거 (ZREM 한 번)
+    public void complete(List<String> members) {
+        if (!members.isEmpty()) {
+            redisTemplate.opsForZSet().remove(SeatKeys.releaseQueueKey(), members.toArray());
+        }
+    }
+
+    // 실행 시각이 지난 작업 수 (처리 중인 작업 제외)
+    public long countDue(long now) {
+        Long count = redisTemplate.opsForZSet().count(SeatKeys.releaseQueueKey(), 0, now);
+        return count == null ? 0 : count;
+    }
+
+    public long size() {
+        Long size = redisTemplate.opsForZSet().zCard(SeatKeys.releaseQueueKey());
+        return size == null ? 0 : size;
+    }
+}
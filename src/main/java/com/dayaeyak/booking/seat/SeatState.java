@@ -0,0 +1,54 @@
+package com.dayaeyak.booking.seat;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 좌석 맵에 저장되는 좌석 상태
+ * - value : Hash 방식에서 필드 값으로 저장되는 문자열
+ * - code  : Bitmap 방식에서 좌석당 2bit 로 저장되는 값
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SeatState {
+
+    AVAILABLE("available", 0),
+    LOCKED("locked", 1),
+    BOOKED("booked", 2);
+
+    private final String value;
+    private final int code;
+
+    public static SeatState fromCode(int code) {
+        for (SeatState state : values()) {
+            if (state.code == code) {
+                return state;
+            }
+        }
+        throw new IllegalArgumentException("Unknown seat state code: " + code);
+    }
+
+    // Hash 필드 값 → 상태, 만료된 선점("locked|{holdToken}|{만료시각}")은 available 로 간주
+    public static SeatState fromHashValue(String value, long now) {
+        if (BOOKED.value.equals(value)) {
+            return BOOKED;
+        }
+        if (value == null || !value.startsWith(LOCKED.value)) {
+            return AVAILABLE;
+        }
+        return isHoldExpired(value, now) ? AVAILABLE : LOCKED;
+    }
+
+    // 선점 값의 마지막 "|" 뒤가 만료 시각(ms), 만료 정보가 없으면 유효한 선점
+    public static boolean isHoldExpired(String holdValue, long now) {
+        int separator = holdValue.lastIndexOf('|');
+        if (separator < 0) {
+            return false;
+        }
+        try {
+            return Long.parseLong(holdValue.substring(separator + 1)) <= now;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.dayaeyak.booking.seat.dto.response;
+
+import com.dayaeyak.booking.seat.SeatState;
+
+public record SeatFindResponseDto(
+        Long seatId,
+        SeatState status
+) {
+}
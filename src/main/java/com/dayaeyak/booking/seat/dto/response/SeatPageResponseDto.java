@@ -0,0 +1,10 @@
+package com.dayaeyak.booking.seat.dto.response;
+
+import java.util.List;
+
+public record SeatPageResponseDto(
+        List<SeatFindResponseDto> seats,
+        Long nextCursor, // 다음 페이지 요청 시 cursor 로 전달 (마지막 seatId)
+        boolean hasNext
+) {
+}
@@ -0,0 +1,40 @@
+package com.dayaeyak.booking.seat.dto.response;
+
+import java.util.Map;
+
+public record SeatPrewarmResponseDto(
+        Long performanceId,
+        Long sessionId,
+        String status, // RUNNING, COMPLETED, FAILED
+        int totalSections,
+        int loadedSections,
+        int writtenSections,
+        long seats,
+        double seatsPerSecond,
+        Long startedAt,
+        Long finishedAt
+) {
+    // Redis 진행 상황 hash → 응답
+    public static SeatPrewarmResponseDto from(Long performanceId, Long sessionId, Map<Object, Object> progress) {
+        return new SeatPrewarmResponseDto(
+                performanceId,
+                sessionId,
+                (String) progress.get("status"),
+                toInt(progress.get("totalSections")),
+                toInt(progress.get("loadedSections")),
+                toInt(progress.get("writtenSections")),
+                toLong(progress.get("seats")),
+                progress.get("seatsPerSecond") == null ? 0 : Double.parseDouble((String) progress.get("seatsPerSecond")),
+                progress.get("startedAt") == null ? null : toLong(progress.get("startedAt")),
+                progress.get("finishedAt") == null ? null : toLong(progress.get("finishedAt"))
+        );
+    }
+
+    private static int toInt(Object value) {
+        return value == null ? 0 : Integer.parseInt((String) value);
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0 : Long.parseLong((String) value);
+    }
+}
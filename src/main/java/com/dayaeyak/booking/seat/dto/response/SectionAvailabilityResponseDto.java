@@ -0,0 +1,24 @@
+package com.dayaeyak.booking.seat.dto.response;
+
+import java.util.List;
+
+public record SectionAvailabilityResponseDto(
+        Long sectionId,
+        long remaining, // available
+        long locked,
+        long booked
+) {
+    // HMGET available, locked, booked 결과 → 응답
+    public static SectionAvailabilityResponseDto from(Long sectionId, List<?> counts) {
+        return new SectionAvailabilityResponseDto(
+                sectionId,
+                toLong(counts.get(0)),
+                toLong(counts.get(1)),
+                toLong(counts.get(2))
+        );
+    }
+
+    static long toLong(Object value) {
+        return value == null ? 0 : Long.parseLong(String.valueOf(value));
+    }
+}
@@ -0,0 +1,25 @@
+package com.dayaeyak.booking.seat.dto.response;
+
+import java.util.List;
+
+public record SessionAvailabilityResponseDto(
+        Long performanceId,
+        Long sessionId,
+        long remaining, // available
+        long locked,
+        long booked,
+        List<SectionAvailabilityResponseDto> sections
+) {
+    // 회차 카운터 HMGET available, locked, booked 결과 + 구역별 카운터 → 응답
+    public static SessionAvailabilityResponseDto from(Long performanceId, Long sessionId, List<?> counts,
+                                                      List<SectionAvailabilityResponseDto> sections) {
+        return new SessionAvailabilityResponseDto(
+                performanceId,
+                sessionId,
+                SectionAvailabilityResponseDto.toLong(counts.get(0)),
+                SectionAvailabilityResponseDto.toLong(counts.get(1)),
+                SectionAvailabilityResponseDto.toLong(counts.get(2)),
+                sections
+        );
+    }
+}
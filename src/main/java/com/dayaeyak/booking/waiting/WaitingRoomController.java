@@ -0,0 +1,38 @@
+package com.dayaeyak.booking.waiting;
+
+import com.dayaeyak.booking.annotation.PassportHolder;
+import com.dayaeyak.booking.annotation.RateLimit;
+import com.dayaeyak.booking.common.dto.Passport;
+import com.dayaeyak.booking.utils.ApiResponse;
+import com.dayaeyak.booking.waiting.dto.response.WaitingRoomResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/bookings/performances/{performanceId}/sessions/{sessionId}/waiting-room")
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    // 대기열 입장, 발급받은 token 으로 순번 조회 및 예약 (X-Admission-Token)
+    @RateLimit
+    @PostMapping
+    public ResponseEntity<ApiResponse<WaitingRoomResponseDto>> enter(
+            @PathVariable Long performanceId,
+            @PathVariable Long sessionId,
+            @PassportHolder Passport passport) {
+        return ApiResponse.success(HttpStatus.OK,
+                waitingRoomService.enter(performanceId, sessionId, passport.userId()));
+    }
+
+    @GetMapping("/{token}")
+    public ResponseEntity<ApiResponse<WaitingRoomResponseDto>> findStatus(
+            @PathVariable Long performanceId,
+            @PathVariable Long sessionId,
+            @PathVariable String token) {
+        return ApiResponse.success(HttpStatus.OK, waitingRoomService.findStatus(performanceId, sessionId, token));
+    }
+}
@@ -0,0 +1,54 @@
+package com.dayaeyak.booking.waiting;
+
+/**
+ * 대기열 관련 Redis key 생성
+ *
+ * 한 Lua Script 가 회차의 대기열/입장 허용 key 를 함께 다루므로 회차 key 는 hash tag {performanceId:sessionId} 를 포함합니다.
+ *
+ * - 대기열         : waiting:{performanceId:sessionId}:queue        (token → 입장 순번)
+ * - 입장 순번      : waiting:{performanceId:sessionId}:seq
+ * - 입장 허용      : waiting:{performanceId:sessionId}:admitted     (token → 허용 만료 시각(ms))
+ * - 입장 처리 시각 : waiting:{performanceId:sessionId}:admit-at
+ * - 사용자 token   : waiting:{performanceId:sessionId}:user:{userId}
+ * - 진행 중 회차   : waiting:sessions                                (performanceId:sessionId 목록, 단일 key)
+ */
+public final class WaitingRoomKeys {
+
+    private static final String SESSION_KEY_FORMAT = "waiting:{%d:%d}"; // performanceId, sessionId
+    private static final String ACTIVE_SESSIONS_KEY = "waiting:sessions";
+
+    private WaitingRoomKeys() {
+    }
+
+    public static String queueKey(Long performanceId, Long sessionId) {
+        return sessionKey(performanceId, sessionId) + ":queue";
+    }
+
+    public static String seqKey(Long performanceId, Long sessionId) {
+        return sessionKey(performanceId, sessionId) + ":seq";
+    }
+
+    public static String admittedKey(Long performanceId, Long sessionId) {
+        return sessionKey(performanceId, sessionId) + ":admitted";
+    }
+
+    public static String admitAtKey(Long performanceId, Long sessionId) {
+        return sessionKey(performanceId, sessionId) + ":admit-at";
+    }
+
+    public static String userTokenKey(Long performanceId, Long sessionId, Long userId) {
+        return sessionKey(performanceId, sessionId) + ":user:" + userId;
+    }
+
+    public static String activeSessionsKey() {
+        return ACTIVE_SESSIONS_KEY;
+    }
+
+    public static String sessionMember(Long performanceId, Long sessionId) {
+        return performanceId + ":" + sessionId;
+    }
+
+    private static String sessionKey(Long performanceId, Long sessionId) {
+        return String.format(SESSION_KEY_FORMAT, performanceId, sessionId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.dayaeyak.booking.waiting;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 대기열 설정 (booking.waiting-room.*)
+ *
+ * enabled               : true 면 공연 예약 시 입장 허용된 token(X-Admission-Token) 필수
+ * admit-per-second      : 회차별 초당 입장 허용 수 (클러스터 전체 기준)
+ * admission-ttl-seconds : 입장 후 예약할 수 있는 시간, 지나면 다시 대기
+ * max-admitted          : 회차별 동시 입장 허용 상한 (0 = 제한 없음)
+ * admit-interval-ms     : 입장 처리 주기
+ */
+@ConfigurationProperties(prefix = "booking.waiting-room")
+public record WaitingRoomProperties(
+        Boolean enabled,
+        Integer admitPerSecond,
+        Long admissionTtlSeconds,
+        Integer maxAdmitted,
+        Long admitIntervalMs
+) {
+
+    public WaitingRoomProperties {
+        enabled = enabled == null ? Boolean.FALSE : enabled;
+        admitPerSecond = admitPerSecond == null ? 100 : admitPerSecond;
+        admissionTtlSeconds = admissionTtlSeconds == null ? 600L : admissionTtlSeconds;
+        maxAdmitted = maxAdmitted == null ? 0 : maxAdmitted;
+        admitIntervalMs = admitIntervalMs == null ? 1_000L : admitIntervalMs;
+    }
+}
@@ -0,0 +1,101 @@
+package com.dayaeyak.booking.waiting;
+
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingPerformanceRequestDto;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+import com.dayaeyak.booking.domain.booking.enums.ServiceType;
+import com.dayaeyak.booking.waiting.dto.response.WaitingRoomResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 인기 공연 판매 오픈용 대기열
+ *
+ * 회차별로 입장 순서대로 token 을 발급하고, WaitingRoomAdmissionScheduler 가 초당 admit-per-second 명씩 입장시킵니다.
+ * 입장 허용된 token 만 예약 API 를 호출할 수 있으므로 예약 처리량은 트래픽 급증과 관계없이 입장 속도로 제한됩니다.
+ * token 형식 : {userId}.{UUID} (다른 사용자의 token 으로 예약할 수 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    private static final String TOKEN_SEPARATOR = ".";
+    private static final Duration USER_TOKEN_TTL = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<List> enterWaitingRoomScript;
+    private final WaitingRoomProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 대기열 입장 (이미 들어온 사용자는 기존 순번 유지)
+    public WaitingRoomResponseDto enter(Long performanceId, Long sessionId, Long userId) {
+        List<?> result = redisTemplate.execute(
+                enterWaitingRoomScript,
+                List.of(WaitingRoomKeys.queueKey(performanceId, sessionId),
+                        WaitingRoomKeys.seqKey(performanceId, sessionId),
+                        WaitingRoomKeys.admittedKey(performanceId, sessionId),
+                        WaitingRoomKeys.userTokenKey(performanceId, sessionId, userId)),
+                userId + TOKEN_SEPARATOR + UUID.randomUUID(),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(USER_TOKEN_TTL.toMillis())
+        );
+        if (result == null || result.size() < 2) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "대기열 입장 실패");
+        }
+        redisTemplate.opsForSet().add(WaitingRoomKeys.activeSessionsKey(),
+                WaitingRoomKeys.sessionMember(performanceId, sessionId));
+        meterRegistry.counter("booking.waiting-room.entered").increment();
+
+        return WaitingRoomResponseDto.of(performanceId, sessionId, (String) result.get(0),
+                Long.parseLong((String) result.get(1)), properties.admitPerSecond());
+    }
+
+    // 대기 순번 조회
+    public WaitingRoomResponseDto findStatus(Long performanceId, Long sessionId, String token) {
+        if (isAdmitted(performanceId, sessionId, token)) {
+            return WaitingRoomResponseDto.of(performanceId, sessionId, token, 0, properties.admitPerSecond());
+        }
+        Long rank = redisTemplate.opsForZSet().rank(WaitingRoomKeys.queueKey(performanceId, sessionId), token);
+        if (rank == null) {
+            throw new CustomException(ErrorCode.WAITING_TOKEN_INVALID); // 없는 token 이거나 입장 시간 만료
+        }
+        return WaitingRoomResponseDto.of(performanceId, sessionId, token, rank + 1, properties.admitPerSecond());
+    }
+
+    // 공연 예약 전 입장 허용 확인 (대기열 사용 시)
+    public void verifyAdmission(BookingRequestDto requestDto, String token) {
+        if (!properties.enabled() || requestDto.serviceType() != ServiceType.PERFORMANCE) {
+            return;
+        }
+        if (!StringUtils.hasText(token)) {
+            reject("missing", ErrorCode.WAITING_TOKEN_REQUIRED);
+        }
+        if (!(requestDto.bookingDetailRequest() instanceof BookingPerformanceRequestDto performanceRequest)
+                || performanceRequest.performanceId() == null || performanceRequest.sessionId() == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE); // 공연 예약인데 공연 상세 정보가 없거나 형식이 다름
+        }
+        if (!token.startsWith(requestDto.userId() + TOKEN_SEPARATOR)
+                || !isAdmitted(performanceRequest.performanceId(), performanceRequest.sessionId(), token)) {
+            reject("invalid", ErrorCode.WAITING_TOKEN_INVALID);
+        }
+    }
+
+    private boolean isAdmitted(Long performanceId, Long sessionId, String token) {
+        Double expiresAt = redisTemplate.opsForZSet().score(WaitingRoomKeys.admittedKey(performanceId, sessionId), token);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    private void reject(String reason, ErrorCode errorCode) {
+        meterRegistry.counter("booking.waiting-room.rejected", "reason", reason).increment();
+        throw new CustomException(errorCode);
+    }
+}
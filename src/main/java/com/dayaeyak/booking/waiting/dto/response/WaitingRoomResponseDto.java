@@ -0,0 +1,19 @@
+package com.dayaeyak.booking.waiting.dto.response;
+
+public record WaitingRoomResponseDto(
+        Long performanceId,
+        Long sessionId,
+        String token,
+        String status, // WAITING, ADMITTED
+        long position, // 앞에 남은 인원 포함 내 순번 (입장 허용 시 0)
+        long estimatedWaitSeconds
+) {
+    public static WaitingRoomResponseDto of(Long performanceId, Long sessionId, String token,
+                                            long position, int admitPerSecond) {
+        if (position == 0) {
+            return new WaitingRoomResponseDto(performanceId, sessionId, token, "ADMITTED", 0, 0);
+        }
+        return new WaitingRoomResponseDto(performanceId, sessionId, token, "WAITING", position,
+                (position + admitPerSecond - 1) / admitPerSecond);
+    }
+}
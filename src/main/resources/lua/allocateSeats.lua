@@ -0,0 +1,81 @@
+-- KEYS[1] = seat hash key (ex: seat:{200:100}:10)
+-- KEYS[2] = 구역 카운터 hash key, KEYS[3] = 회차 카운터 hash key
+-- KEYS[4] = 좌석 순서 list key (ex: seat:{200:100}:10:order), 원소 = {seatId}:{seatNumber}
+-- ARGV[1] = hold token, ARGV[2] = 선점 유지 시간(ms), ARGV[3] = 연속 좌석 수, ARGV[4] = 최대 탐색 좌석 수
+-- 좌석 순서 앞에서부터 available(또는 선점 만료) 좌석이 ARGV[3] 개 연속된 첫 구간을 찾아 선점
+-- 대부분 선점된 구역에서 한 번의 호출이 Redis 를 오래 막지 않도록 앞에서부터 ARGV[4] 석까지만 탐색
+-- 반환 : 선점한 좌석의 {seatId}:{seatNumber} 목록, 구간이 없으면 빈 목록
+
+local count = tonumber(ARGV[3])
+local total = math.min(redis.call("LLEN", KEYS[4]), tonumber(ARGV[4]))
+if count < 1 or total < count then
+    return {}
+end
+
+local time = redis.call("TIME")
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- 앞쪽 좌석부터 나누어 조회하고, 구간을 찾으면 더 읽지 않음
+local chunk = 500
+local run = {}
+local inRun = {} -- 좌석 순서 list 에 같은 좌석이 중복으로 있어도 구간에 한 번만 포함
+local start = 0
+while start < total and #run < count do
+    local entries = redis.call("LRANGE", KEYS[4], start, math.min(start + chunk, total) - 1)
+    local seatIds = {}
+    for i=1,#entries do
+        seatIds[i] = string.match(entries[i], "^(%d+)")
+    end
+    local statuses = redis.call("HMGET", KEYS[1], unpack(seatIds))
+
+    for i=1,#entries do
+        local seatStatus = statuses[i]
+        local free = seatStatus == "available"
+        if seatStatus and not free and seatStatus ~= "booked" then
+            local expireAt = tonumber(string.match(seatStatus, "|(%d+)$"))
+            free = expireAt ~= nil and expireAt <= now
+        end
+
+        if free and not inRun[seatIds[i]] then
+            table.insert(run, { seatId = seatIds[i], entry = entries[i], available = seatStatus == "available" })
+            inRun[seatIds[i]] = true
+            if #run == count then
+                break
+            end
+        elseif not free then
+            run = {}
+            inRun = {}
+        end
+    end
+    start = start + chunk
+end
+
+if #run < count then
+    return {}
+end
+
+-- 찾은 구간 → locked 처리
+local lockValue = "locked|" .. ARGV[1] .. "|" .. (now + tonumber(ARGV[2]))
+local available = 0
+local seatIds = {}
+local allocated = {}
+for i=1,#run do
+    redis.call("HSET", KEYS[1], run[i].seatId, lockValue)
+    if run[i].available then
+        available = available + 1
+    end
+    seatIds[i] = run[i].seatId
+    allocated[i] = run[i].entry
+end
+
+-- 회수한 만료 선점은 이미 locked 로 집계되어 있으므로 available 에서 넘어온 좌석만 반영
+if available > 0 then
+    redis.call("HINCRBY", KEYS[2], "available", -available)
+    redis.call("HINCRBY", KEYS[2], "locked", available)
+    redis.call("HINCRBY", KEYS[3], "available", -available)
+    redis.call("HINCRBY", KEYS[3], "locked", available)
+end
+
+redis.call("PUBLISH", "seat:changes", KEYS[1] .. "|1|" .. table.concat(seatIds, ","))
+
+return allocated
@@ -0,0 +1,12 @@
+-- KEYS[1] = Idempotency-Key 별 요청 결과 hash (status, fingerprint, owner, response, errorCode, message)
+-- ARGV[1] = 요청 body fingerprint, ARGV[2] = 처리 중 상태 유지 시간(ms), ARGV[3] = 처리하는 요청의 owner token
+-- 처음 온 요청이면 IN_PROGRESS 로 기록하고 {"ACQUIRED"} 반환
+-- 이미 있으면 조회 한 번으로 재응답할 수 있도록 {status, fingerprint, response, errorCode, message} 반환
+
+if redis.call("EXISTS", KEYS[1]) == 0 then
+    redis.call("HSET", KEYS[1], "status", "IN_PROGRESS", "fingerprint", ARGV[1], "owner", ARGV[3])
+    redis.call("PEXPIRE", KEYS[1], tonumber(ARGV[2]))
+    return {"ACQUIRED"}
+end
+
+return redis.call("HMGET", KEYS[1], "status", "fingerprint", "response", "errorCode", "message")
@@ -0,0 +1,84 @@
+-- KEYS[1] = 좌석 bitmap key (ex: seat:{200:100}:10:bits), KEYS[2] = 선점 정보 hash key (ex: seat:{200:100}:10:holds)
+-- KEYS[3] = 구역 카운터 hash key, KEYS[4] = 회차 카운터 hash key
+-- ARGV[1] = hold token, ARGV[2] = 선점 유지 시간(ms), ARGV[3] = 연속 좌석 수, ARGV[4] = 구역 좌석 수, ARGV[5] = 최대 탐색 좌석 수
+-- 좌석 인덱스 순서가 곧 좌석 순서이므로, 앞에서부터 available(또는 선점 만료) 좌석이 ARGV[3] 개 연속된 첫 구간을 찾아 선점
+-- 대부분 선점된 구역에서 한 번의 호출이 Redis 를 오래 막지 않도록 앞에서부터 ARGV[5] 석까지만 읽고 탐색
+-- (선점 좌석마다 만료 확인 HGET 이 필요하므로 탐색 범위가 곧 최대 HGET 수)
+-- 반환 : 선점한 좌석 인덱스 목록, 구간이 없으면 빈 목록
+
+local count = tonumber(ARGV[3])
+local seatCount = math.min(tonumber(ARGV[4]), tonumber(ARGV[5]))
+if count < 1 or seatCount < count or redis.call("EXISTS", KEYS[1]) == 0 then
+    return {}
+end
+local bits = redis.call("GETRANGE", KEYS[1], 0, math.floor((seatCount - 1) / 4))
+
+local time = redis.call("TIME")
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- 마지막 바이트의 남는 비트는 0 이므로 구역 좌석 수(또는 최대 탐색 수)까지만 탐색
+local runStart = 0
+local runLength = 0
+local available = 0
+for index=0,seatCount - 1 do
+    local byte = string.byte(bits, math.floor(index / 4) + 1) or 0
+    local code = math.floor(byte / 2 ^ (6 - (index % 4) * 2)) % 4
+    local free = code == 0
+    if code == 1 then
+        local hold = redis.call("HGET", KEYS[2], index)
+        local expireAt = hold and tonumber(string.match(hold, "|(%d+)$"))
+        free = expireAt ~= nil and expireAt <= now
+    end
+
+    if free then
+        if runLength == 0 then
+            runStart = index
+            available = 0
+        end
+        runLength = runLength + 1
+        if code == 0 then
+            available = available + 1
+        end
+        if runLength == count then
+            break
+        end
+    else
+        runLength = 0
+    end
+end
+
+if runLength < count then
+    return {}
+end
+
+-- 찾은 구간 → locked 처리
+local holdValue = ARGV[1] .. "|" .. (now + tonumber(ARGV[2]))
+local ops = {}
+local allocated = {}
+for index=runStart,runStart + count - 1 do
+    table.insert(ops, "SET")
+    table.insert(ops, "u2")
+    table.insert(ops, "#" .. index)
+    table.insert(ops, 1)
+    redis.call("HSET", KEYS[2], index, holdValue)
+    table.insert(allocated, tostring(index))
+end
+redis.call("BITFIELD", KEYS[1], unpack(ops))
+
+-- 회수한 만료 선점은 이미 locked 로 집계되어 있으므로 available 에서 넘어온 좌석만 반영
+if available > 0 then
+    redis.call("HINCRBY", KEYS[3], "available", -available)
+    redis.call("HINCRBY", KEYS[3], "locked", available)
+    redis.call("HINCRBY", KEYS[4], "available", -available)
+    redis.call("HINCRBY", KEYS[4], "locked", available)
+end
+
+redis.call("PUBLISH", "seat:changes", string.sub(KEYS[1], 1, -6) .. "|1|" .. table.concat(allocated, ","))
+
+-- 선점 정보는 좌석 맵과 함께 만료
+local ttl = redis.call("PTTL", KEYS[1])
+if ttl > 0 then
+    redis.call("PEXPIRE", KEYS[2], ttl)
+end
+
+return allocated
@@ -0,0 +1,78 @@
+-- KEYS[1] = 회차 카운터 hash key
+-- KEYS[3s-1], KEYS[3s], KEYS[3s+1] = s번째 구역 좌석 bitmap key, 선점 정보 hash key, 구역 카운터 hash key
+-- ARGV[1] = hold token, ARGV[2..] = 구역 순서대로 {좌석 수, 좌석 인덱스 리스트} 반복
+-- 본인이 선점한 좌석만 확정, 모든 구역 all-or-nothing
+
+-- 같은 좌석이 중복으로 넘어와도 한 번만 처리 (카운터 중복 반영 방지)
+local function distinct(from, to)
+    local seats, seen = {}, {}
+    for i=from,to do
+        if not seen[ARGV[i]] then
+            seen[ARGV[i]] = true
+            table.insert(seats, ARGV[i])
+        end
+    end
+    return seats
+end
+
+local sections = {}
+local pos = 2
+for s=1,(#KEYS - 1) / 3 do
+    local count = tonumber(ARGV[pos])
+    sections[s] = { bits = KEYS[s * 3 - 1], holds = KEYS[s * 3], stats = KEYS[s * 3 + 1],
+                    seats = distinct(pos + 1, pos + count) }
+    pos = pos + count + 1
+end
+
+local prefix = ARGV[1] .. "|"
+
+for s=1,#sections do
+    local section = sections[s]
+    if redis.call("EXISTS", section.bits) == 0 then
+        return 0
+    end
+
+    if #section.seats > 0 then
+        local ops = {}
+        for _, index in ipairs(section.seats) do
+            table.insert(ops, "GET")
+            table.insert(ops, "u2")
+            table.insert(ops, "#" .. index)
+        end
+
+        local states = redis.call("BITFIELD", section.bits, unpack(ops))
+        for i=1,#states do
+            local hold = redis.call("HGET", section.holds, section.seats[i])
+            if states[i] ~= 1 or not hold or string.sub(hold, 1, #prefix) ~= prefix then
+                return 0 -- 실패 (중간에 풀렸거나 이미 booked 또는 다른 요청이 선점)
+            end
+        end
+    end
+end
+
+local confirmed = 0
+for s=1,#sections do
+    local section = sections[s]
+    if #section.seats > 0 then
+        local ops = {}
+        for _, index in ipairs(section.seats) do
+            table.insert(ops, "SET")
+            table.insert(ops, "u2")
+            table.insert(ops, "#" .. index)
+            table.insert(ops, 2)
+            redis.call("HDEL", section.holds, index)
+        end
+        redis.call("BITFIELD", section.bits, unpack(ops))
+
+        redis.call("HINCRBY", section.stats, "locked", -#section.seats)
+        redis.call("HINCRBY", section.stats, "booked", #section.seats)
+        redis.call("PUBLISH", "seat:changes",
+                string.sub(section.bits, 1, -6) .. "|2|" .. table.concat(section.seats, ","))
+        confirmed = confirmed + #section.seats
+    end
+end
+
+redis.call("HINCRBY", KEYS[1], "locked", -confirmed)
+redis.call("HINCRBY", KEYS[1], "booked", confirmed)
+
+return 1
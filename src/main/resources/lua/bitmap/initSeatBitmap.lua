@@ -0,0 +1,49 @@
+-- KEYS[1] = 좌석 bitmap key (ex: seat:{200:100}:10:bits), KEYS[2] = seatId 인덱스 key (ex: seat:{200:100}:10:ids)
+-- KEYS[3] = 선점 정보 hash key (ex: seat:{200:100}:10:holds)
+-- KEYS[4] = 구역 카운터 hash key (ex: seat:{200:100}:10:stats), KEYS[5] = 회차 카운터 hash key (ex: seat:{200:100}:stats)
+-- KEYS[6] = 회차 구역 목록 set key (ex: seat:{200:100}:sections)
+-- ARGV[1] = TTL(초), ARGV[2] = 좌석 수, ARGV[3] = 좌석 순서대로 압축한 seatId, seatNumber 매핑 (SeatIndex.pack), ARGV[4..] = booked 좌석 인덱스
+-- 좌석당 2bit : 0 = available, 1 = locked, 2 = booked
+-- 이미 로딩된 구역이면 덮어쓰지 않음 (로딩 사이에 기록된 선점 보호)
+
+if redis.call("EXISTS", KEYS[1]) == 1 then
+    return 0
+end
+
+redis.call("DEL", KEYS[3])
+
+-- 마지막 좌석까지 0(available)으로 공간 확보
+redis.call("BITFIELD", KEYS[1], "SET", "u2", "#" .. (tonumber(ARGV[2]) - 1), 0)
+
+for i=4,#ARGV do
+    redis.call("BITFIELD", KEYS[1], "SET", "u2", "#" .. ARGV[i], 2)
+end
+
+redis.call("SET", KEYS[2], ARGV[3])
+redis.call("EXPIRE", KEYS[1], ARGV[1])
+redis.call("EXPIRE", KEYS[2], ARGV[1])
+
+-- 구역 카운터를 새 값으로 맞추고 회차 카운터에는 차이만 반영 (재로딩 시 중복 집계 방지)
+-- 카운터는 차이 계산을 위해 좌석 맵보다 오래 보관
+local statsTtl = 7 * 24 * 60 * 60
+local booked = #ARGV - 3
+local counts = { available = tonumber(ARGV[2]) - booked, locked = 0, booked = booked }
+
+local old = redis.call("HMGET", KEYS[4], "available", "locked", "booked")
+local fields = { "available", "locked", "booked" }
+for i=1,#fields do
+    local delta = counts[fields[i]] - (tonumber(old[i]) or 0)
+    if delta ~= 0 then
+        redis.call("HINCRBY", KEYS[5], fields[i], delta)
+    end
+end
+redis.call("HSET", KEYS[4], "available", counts.available, "locked", 0, "booked", counts.booked)
+redis.call("SADD", KEYS[6], KEYS[4])
+redis.call("EXPIRE", KEYS[4], statsTtl)
+redis.call("EXPIRE", KEYS[5], statsTtl)
+redis.call("EXPIRE", KEYS[6], statsTtl)
+
+-- 구역 전체가 새로 로딩되었음을 알림 (캐시는 다시 읽음)
+redis.call("PUBLISH", "seat:changes", string.sub(KEYS[1], 1, -6) .. "|*|")
+
+return 1
@@ -0,0 +1,35 @@
+-- KEYS[1] = 좌석 bitmap key, KEYS[2] = 선점 정보 hash key
+-- KEYS[3] = 구역 카운터 hash key, KEYS[4] = 회차 카운터 hash key
+-- ARGV = {좌석 인덱스, hold token} 반복
+-- 선점 해제 대기열 처리용 : 좌석마다 선점한 요청이 달라도 구역당 한 번에 해제 (해당 hold token 소유의 locked 좌석만)
+
+if redis.call("EXISTS", KEYS[1]) == 0 then
+    return 0
+end
+
+local released = {}
+local seen = {} -- 같은 좌석이 중복으로 넘어와도 한 번만 처리
+
+for i=1,#ARGV,2 do
+    local prefix = ARGV[i + 1] .. "|"
+    local hold = not seen[ARGV[i]] and redis.call("HGET", KEYS[2], ARGV[i])
+    seen[ARGV[i]] = true
+    if hold and string.sub(hold, 1, #prefix) == prefix then
+        local seatStatus = redis.call("BITFIELD", KEYS[1], "GET", "u2", "#" .. ARGV[i])[1]
+        if seatStatus == 1 then
+            redis.call("BITFIELD", KEYS[1], "SET", "u2", "#" .. ARGV[i], 0)
+            table.insert(released, ARGV[i])
+        end
+        redis.call("HDEL", KEYS[2], ARGV[i])
+    end
+end
+
+if #released > 0 then
+    redis.call("HINCRBY", KEYS[3], "locked", -#released)
+    redis.call("HINCRBY", KEYS[3], "available", #released)
+    redis.call("HINCRBY", KEYS[4], "locked", -#released)
+    redis.call("HINCRBY", KEYS[4], "available", #released)
+    redis.call("PUBLISH", "seat:changes", string.sub(KEYS[1], 1, -6) .. "|0|" .. table.concat(released, ","))
+end
+
+return #released
@@ -0,0 +1,63 @@
+-- KEYS[1] = 회차 카운터 hash key
+-- KEYS[3s-1], KEYS[3s], KEYS[3s+1] = s번째 구역 좌석 bitmap key, 선점 정보 hash key, 구역 카운터 hash key
+-- ARGV[1] = hold token, ARGV[2..] = 구역 순서대로 {좌석 수, 좌석 인덱스 리스트} 반복
+-- 본인이 선점한 좌석만 해제
+
+-- 같은 좌석이 중복으로 넘어와도 한 번만 처리 (카운터 중복 반영 방지)
+local function distinct(from, to)
+    local seats, seen = {}, {}
+    for i=from,to do
+        if not seen[ARGV[i]] then
+            seen[ARGV[i]] = true
+            table.insert(seats, ARGV[i])
+        end
+    end
+    return seats
+end
+
+local sections = {}
+local pos = 2
+for s=1,(#KEYS - 1) / 3 do
+    local count = tonumber(ARGV[pos])
+    sections[s] = { bits = KEYS[s * 3 - 1], holds = KEYS[s * 3], stats = KEYS[s * 3 + 1],
+                    seats = distinct(pos + 1, pos + count) }
+    pos = pos + count + 1
+end
+
+local prefix = ARGV[1] .. "|"
+local total = 0
+
+for s=1,#sections do
+    local section = sections[s]
+    local released = {}
+
+    -- 만료되어 사라진 구역은 해제할 좌석이 없음
+    if redis.call("EXISTS", section.bits) == 1 then
+        for _, index in ipairs(section.seats) do
+            local hold = redis.call("HGET", section.holds, index)
+            if hold and string.sub(hold, 1, #prefix) == prefix then
+                local seatStatus = redis.call("BITFIELD", section.bits, "GET", "u2", "#" .. index)[1]
+                if seatStatus == 1 then
+                    redis.call("BITFIELD", section.bits, "SET", "u2", "#" .. index, 0)
+                    table.insert(released, index)
+                end
+                redis.call("HDEL", section.holds, index)
+            end
+        end
+    end
+
+    if #released > 0 then
+        redis.call("HINCRBY", section.stats, "locked", -#released)
+        redis.call("HINCRBY", section.stats, "available", #released)
+        redis.call("PUBLISH", "seat:changes",
+                string.sub(section.bits, 1, -6) .. "|0|" .. table.concat(released, ","))
+        total = total + #released
+    end
+end
+
+if total > 0 then
+    redis.call("HINCRBY", KEYS[1], "locked", -total)
+    redis.call("HINCRBY", KEYS[1], "available", total)
+end
+
+return 1
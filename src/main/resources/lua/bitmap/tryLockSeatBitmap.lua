@@ -0,0 +1,107 @@
+-- KEYS[1] = 회차 카운터 hash key (ex: seat:{200:100}:stats)
+-- KEYS[3s-1], KEYS[3s], KEYS[3s+1] = s번째 구역 좌석 bitmap key (ex: seat:{200:100}:10:bits),
+--                                    선점 정보 hash key (ex: seat:{200:100}:10:holds), 구역 카운터 hash key
+-- ARGV[1] = hold token, ARGV[2] = 선점 유지 시간(ms), ARGV[3..] = 구역 순서대로 {좌석 수, 좌석 인덱스 리스트} 반복
+-- 모든 구역의 모든 좌석이 선점 가능할 때만 한 번에 선점 (all-or-nothing)
+-- 선점 정보 형식 : field = 좌석 인덱스, value = {holdToken}|{만료시각(ms)}
+-- 변경 알림 : seat:changes 채널에 구역별 {sectionKey}|{상태코드}|{좌석 인덱스 목록} 발행 (sectionKey 는 ":bits" 제외)
+
+-- 같은 좌석이 중복으로 넘어와도 한 번만 처리 (카운터 중복 반영 방지)
+local function distinct(from, to)
+    local seats, seen = {}, {}
+    for i=from,to do
+        if not seen[ARGV[i]] then
+            seen[ARGV[i]] = true
+            table.insert(seats, ARGV[i])
+        end
+    end
+    return seats
+end
+
+local sections = {}
+local pos = 3
+for s=1,(#KEYS - 1) / 3 do
+    local count = tonumber(ARGV[pos])
+    sections[s] = { bits = KEYS[s * 3 - 1], holds = KEYS[s * 3], stats = KEYS[s * 3 + 1],
+                    seats = distinct(pos + 1, pos + count) }
+    pos = pos + count + 1
+end
+
+local time = redis.call("TIME")
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+for s=1,#sections do
+    local section = sections[s]
+    section.available = 0
+
+    -- 로딩되지 않은 구역은 BITFIELD GET 이 0(available)을 반환하므로 먼저 차단
+    if redis.call("EXISTS", section.bits) == 0 then
+        return 0
+    end
+
+    if #section.seats > 0 then
+        local ops = {}
+        for _, index in ipairs(section.seats) do
+            table.insert(ops, "GET")
+            table.insert(ops, "u2")
+            table.insert(ops, "#" .. index)
+        end
+
+        local states = redis.call("BITFIELD", section.bits, unpack(ops))
+        for i=1,#states do
+            if states[i] == 1 then
+                -- 만료된 선점은 회수, 만료 정보가 없거나 유효한 선점이면 실패
+                local hold = redis.call("HGET", section.holds, section.seats[i])
+                local expireAt = hold and tonumber(string.match(hold, "|(%d+)$"))
+                if not expireAt or expireAt > now then
+                    return 0
+                end
+            elseif states[i] == 0 then
+                section.available = section.available + 1
+            else
+                return 0 -- 실패 (booked)
+            end
+        end
+    end
+end
+
+-- 전부 available(또는 만료) → locked 처리
+local holdValue = ARGV[1] .. "|" .. (now + tonumber(ARGV[2]))
+local available = 0
+for s=1,#sections do
+    local section = sections[s]
+    if #section.seats > 0 then
+        local ops = {}
+        for _, index in ipairs(section.seats) do
+            table.insert(ops, "SET")
+            table.insert(ops, "u2")
+            table.insert(ops, "#" .. index)
+            table.insert(ops, 1)
+            redis.call("HSET", section.holds, index, holdValue)
+        end
+        redis.call("BITFIELD", section.bits, unpack(ops))
+
+        -- 회수한 만료 선점은 이미 locked 로 집계되어 있으므로 available 에서 넘어온 좌석만 반영
+        if section.available > 0 then
+            redis.call("HINCRBY", section.stats, "available", -section.available)
+            redis.call("HINCRBY", section.stats, "locked", section.available)
+            available = available + section.available
+        end
+
+        redis.call("PUBLISH", "seat:changes",
+                string.sub(section.bits, 1, -6) .. "|1|" .. table.concat(section.seats, ","))
+
+        -- 선점 정보는 좌석 맵과 함께 만료
+        local ttl = redis.call("PTTL", section.bits)
+        if ttl > 0 then
+            redis.call("PEXPIRE", section.holds, ttl)
+        end
+    end
+end
+
+if available > 0 then
+    redis.call("HINCRBY", KEYS[1], "available", -available)
+    redis.call("HINCRBY", KEYS[1], "locked", available)
+end
+
+return 1
@@ -0,0 +1,15 @@
+-- KEYS[1] = 선점 해제 대기열 sorted set key (score = 실행 시각(ms))
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = 최대 건수, ARGV[3] = 처리 임대 시간(ms)
+-- 실행 시각이 지난 작업을 최대 ARGV[2] 건 가져오면서 score 를 임대 만료 시각으로 미룸
+-- 여러 인스턴스가 동시에 호출해도 같은 작업을 중복으로 가져가지 않고,
+-- 처리 중 인스턴스가 죽으면 임대 만료 후 다른 인스턴스가 다시 가져감
+-- 반환 : {작업, 현재 score} 반복 (다시 가져간 작업은 이전 임대 만료 시각, 원래 실행 시각은 member 에 있음)
+
+local jobs = redis.call("ZRANGEBYSCORE", KEYS[1], "-inf", ARGV[1], "WITHSCORES", "LIMIT", 0, tonumber(ARGV[2]))
+local leaseUntil = tonumber(ARGV[1]) + tonumber(ARGV[3])
+
+for i=1,#jobs,2 do
+    redis.call("ZADD", KEYS[1], "XX", leaseUntil, jobs[i])
+end
+
+return jobs
@@ -0,0 +1,8 @@
+-- KEYS[1] = 삭제할 key, ARGV[1] = 기대하는 값
+-- 본인이 기록한 값일 때만 삭제
+
+if redis.call("GET", KEYS[1]) == ARGV[1] then
+    return redis.call("DEL", KEYS[1])
+end
+
+return 0
@@ -0,0 +1,18 @@
+-- KEYS[1] = Idempotency-Key 별 요청 결과 hash
+-- ARGV[1] = 처리한 요청의 owner token, ARGV[2] = 결과 보관 시간(ms), ARGV[3..] = 기록할 field, value 쌍 (없으면 key 삭제)
+-- 처리 중 상태가 만료되어 재시도가 key 를 다시 가져간 경우 그 상태를 덮어쓰거나 지우지 않도록 본인이 처리 중일 때만 반영
+-- 반영하면 1, 아니면 0 반환
+
+if redis.call("HGET", KEYS[1], "owner") ~= ARGV[1] or redis.call("HGET", KEYS[1], "status") ~= "IN_PROGRESS" then
+    return 0
+end
+
+if #ARGV < 3 then
+    redis.call("DEL", KEYS[1])
+    return 1
+end
+
+redis.call("HSET", KEYS[1], unpack(ARGV, 3))
+redis.call("HDEL", KEYS[1], "owner")
+redis.call("PEXPIRE", KEYS[1], tonumber(ARGV[2]))
+return 1
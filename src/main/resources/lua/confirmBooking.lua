@@ -1,12 +1,54 @@
-for i=1,#ARGV do
-    local seatStatus = redis.call("HGET", KEYS[1], ARGV[i])
-    if seatStatus ~= "locked" then
-        return 0 -- 실패 (중간에 풀렸거나 이미 booked 됨)
+-- KEYS[1] = 회차 카운터 hash key
+-- KEYS[2s], KEYS[2s+1] = s번째 구역 seat hash key, 구역 카운터 hash key
+-- ARGV[1] = hold token, ARGV[2..] = 구역 순서대로 {좌석 수, 좌석 번호 리스트} 반복
+-- 본인이 선점한 좌석만 확정 (만료되었더라도 다른 요청이 회수하지 않았다면 확정 가능), 모든 구역 all-or-nothing
+
+-- 같은 좌석이 중복으로 넘어와도 한 번만 처리 (카운터 중복 반영 방지)
+local function distinct(from, to)
+    local seats, seen = {}, {}
+    for i=from,to do
+        if not seen[ARGV[i]] then
+            seen[ARGV[i]] = true
+            table.insert(seats, ARGV[i])
+        end
+    end
+    return seats
+end
+
+local sections = {}
+local pos = 2
+for s=1,(#KEYS - 1) / 2 do
+    local count = tonumber(ARGV[pos])
+    sections[s] = { key = KEYS[s * 2], stats = KEYS[s * 2 + 1], seats = distinct(pos + 1, pos + count) }
+    pos = pos + count + 1
+end
+
+local prefix = "locked|" .. ARGV[1] .. "|"
+
+for s=1,#sections do
+    for _, seatId in ipairs(sections[s].seats) do
+        local seatStatus = redis.call("HGET", sections[s].key, seatId)
+        if not seatStatus or string.sub(seatStatus, 1, #prefix) ~= prefix then
+            return 0 -- 실패 (중간에 풀렸거나 이미 booked 또는 다른 요청이 선점)
+        end
     end
 end
 
-for i=1,#ARGV do
-    redis.call("HSET", KEYS[1], ARGV[i], "booked")
+local confirmed = 0
+for s=1,#sections do
+    local section = sections[s]
+    for _, seatId in ipairs(section.seats) do
+        redis.call("HSET", section.key, seatId, "booked")
+    end
+    if #section.seats > 0 then
+        redis.call("HINCRBY", section.stats, "locked", -#section.seats)
+        redis.call("HINCRBY", section.stats, "booked", #section.seats)
+        redis.call("PUBLISH", "seat:changes", section.key .. "|2|" .. table.concat(section.seats, ","))
+        confirmed = confirmed + #section.seats
+    end
 end
 
+redis.call("HINCRBY", KEYS[1], "locked", -confirmed)
+redis.call("HINCRBY", KEYS[1], "booked", confirmed)
+
 return 1
@@ -0,0 +1,52 @@
+-- KEYS[1] = seat hash key (ex: seat:{200:100}:10)
+-- KEYS[2] = 구역 카운터 hash key (ex: seat:{200:100}:10:stats), KEYS[3] = 회차 카운터 hash key (ex: seat:{200:100}:stats)
+-- KEYS[4] = 회차 구역 목록 set key (ex: seat:{200:100}:sections)
+-- KEYS[5] = 좌석 순서 list key (ex: seat:{200:100}:10:order), 원소 = {seatId}:{seatNumber}
+-- ARGV[1] = TTL(초), ARGV[2..] = seatId, 상태, seatNumber 묶음 (좌석 순서대로 정렬)
+-- 이미 로딩된 구역이면 덮어쓰지 않음 (로딩 사이에 기록된 선점 보호)
+
+if redis.call("EXISTS", KEYS[1]) == 1 then
+    return 0
+end
+
+-- unpack 인자 수 제한을 피하기 위해 나누어 저장
+local chunk = 1000
+local counts = { available = 0, locked = 0, booked = 0 }
+redis.call("DEL", KEYS[5])
+for i=2,#ARGV,chunk * 3 do
+    local fields = {}
+    local order = {}
+    for j=i,math.min(i + chunk * 3 - 1, #ARGV),3 do
+        table.insert(fields, ARGV[j])
+        table.insert(fields, ARGV[j + 1])
+        table.insert(order, ARGV[j] .. ":" .. ARGV[j + 2])
+        counts[ARGV[j + 1]] = counts[ARGV[j + 1]] + 1
+    end
+    redis.call("HSET", KEYS[1], unpack(fields))
+    redis.call("RPUSH", KEYS[5], unpack(order))
+end
+
+redis.call("EXPIRE", KEYS[1], ARGV[1])
+redis.call("EXPIRE", KEYS[5], ARGV[1])
+
+-- 구역 카운터를 새 값으로 맞추고 회차 카운터에는 차이만 반영 (재로딩 시 중복 집계 방지)
+-- 카운터는 차이 계산을 위해 좌석 맵보다 오래 보관
+local statsTtl = 7 * 24 * 60 * 60
+local old = redis.call("HMGET", KEYS[2], "available", "locked", "booked")
+local fields = { "available", "locked", "booked" }
+for i=1,#fields do
+    local delta = counts[fields[i]] - (tonumber(old[i]) or 0)
+    if delta ~= 0 then
+        redis.call("HINCRBY", KEYS[3], fields[i], delta)
+    end
+end
+redis.call("HSET", KEYS[2], "available", counts.available, "locked", 0, "booked", counts.booked)
+redis.call("SADD", KEYS[4], KEYS[2])
+redis.call("EXPIRE", KEYS[2], statsTtl)
+redis.call("EXPIRE", KEYS[3], statsTtl)
+redis.call("EXPIRE", KEYS[4], statsTtl)
+
+-- 구역 전체가 새로 로딩되었음을 알림 (캐시는 다시 읽음)
+redis.call("PUBLISH", "seat:changes", KEYS[1] .. "|*|")
+
+return 1
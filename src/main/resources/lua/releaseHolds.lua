@@ -0,0 +1,26 @@
+-- KEYS[1] = seat hash key, KEYS[2] = 구역 카운터 hash key, KEYS[3] = 회차 카운터 hash key
+-- ARGV = {좌석 번호, hold token} 반복
+-- 선점 해제 대기열 처리용 : 좌석마다 선점한 요청이 달라도 구역당 한 번에 해제 (해당 hold token 소유의 locked 좌석만)
+
+local released = {}
+local seen = {} -- 같은 좌석이 중복으로 넘어와도 한 번만 처리
+
+for i=1,#ARGV,2 do
+    local prefix = "locked|" .. ARGV[i + 1] .. "|"
+    local seatStatus = not seen[ARGV[i]] and redis.call("HGET", KEYS[1], ARGV[i])
+    seen[ARGV[i]] = true
+    if seatStatus and string.sub(seatStatus, 1, #prefix) == prefix then
+        redis.call("HSET", KEYS[1], ARGV[i], "available")
+        table.insert(released, ARGV[i])
+    end
+end
+
+if #released > 0 then
+    redis.call("HINCRBY", KEYS[2], "locked", -#released)
+    redis.call("HINCRBY", KEYS[2], "available", #released)
+    redis.call("HINCRBY", KEYS[3], "locked", -#released)
+    redis.call("HINCRBY", KEYS[3], "available", #released)
+    redis.call("PUBLISH", "seat:changes", KEYS[1] .. "|0|" .. table.concat(released, ","))
+end
+
+return #released
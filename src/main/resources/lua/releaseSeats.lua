@@ -1,8 +1,53 @@
-for i=1,#ARGV do
-    local seatStatus = redis.call("HGET", KEYS[1], ARGV[i])
-    if seatStatus == "locked" then
-        redis.call("HSET", KEYS[1], ARGV[i], "available")
+-- KEYS[1] = 회차 카운터 hash key
+-- KEYS[2s], KEYS[2s+1] = s번째 구역 seat hash key, 구역 카운터 hash key
+-- ARGV[1] = hold token, ARGV[2..] = 구역 순서대로 {좌석 수, 좌석 번호 리스트} 반복
+-- 본인이 선점한 좌석만 해제
+
+-- 같은 좌석이 중복으로 넘어와도 한 번만 처리 (카운터 중복 반영 방지)
+local function distinct(from, to)
+    local seats, seen = {}, {}
+    for i=from,to do
+        if not seen[ARGV[i]] then
+            seen[ARGV[i]] = true
+            table.insert(seats, ARGV[i])
+        end
     end
+    return seats
+end
+
+local sections = {}
+local pos = 2
+for s=1,(#KEYS - 1) / 2 do
+    local count = tonumber(ARGV[pos])
+    sections[s] = { key = KEYS[s * 2], stats = KEYS[s * 2 + 1], seats = distinct(pos + 1, pos + count) }
+    pos = pos + count + 1
+end
+
+local prefix = "locked|" .. ARGV[1] .. "|"
+local total = 0
+
+for s=1,#sections do
+    local section = sections[s]
+    local released = {}
+    for _, seatId in ipairs(section.seats) do
+        local seatStatus = redis.call("HGET", section.key, seatId)
+        if seatStatus and string.sub(seatStatus, 1, #prefix) == prefix then
+            redis.call("HSET", section.key, seatId, "available")
+            table.insert(released, seatId)
+        end
+    end
+
+    if #released > 0 then
+        redis.call("HINCRBY", section.stats, "locked", -#released)
+        redis.call("HINCRBY", section.stats, "available", #released)
+        redis.call("PUBLISH", "seat:changes", section.key .. "|0|" .. table.concat(released, ","))
+        total = total + #released
+    end
+end
+
+if total > 0 then
+    redis.call("HINCRBY", KEYS[1], "locked", -total)
+    redis.call("HINCRBY", KEYS[1], "available", total)
 end
 
 return 1
@@ -0,0 +1,13 @@
+-- KEYS[1] = 예약 캐시 hash (version, data)
+-- ARGV[1] = version (예약 updatedAt, epoch microseconds), ARGV[2] = 캐시 값(JSON), ARGV[3] = TTL(ms)
+-- 캐시된 값보다 새 버전일 때만 기록 (commit 전 값을 읽은 조회가 commit 후 갱신된 값을 덮어쓰지 않도록)
+-- 기록하면 1, 더 새로운 값이 이미 있으면 0
+
+local current = redis.call("HGET", KEYS[1], "version")
+if current and tonumber(current) >= tonumber(ARGV[1]) then
+    return 0
+end
+
+redis.call("HSET", KEYS[1], "version", ARGV[1], "data", ARGV[2])
+redis.call("PEXPIRE", KEYS[1], tonumber(ARGV[3]))
+return 1
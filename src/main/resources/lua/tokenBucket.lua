@@ -0,0 +1,34 @@
+-- KEYS[1] = token bucket hash (tokens = 남은 token 수, ts = 마지막 갱신 시각(ms))
+-- ARGV[1] = 버킷 크기 (순간 허용량), ARGV[2] = 초당 충전 수, ARGV[3] = 현재 시각(ms), ARGV[4] = 요청당 사용 token 수
+-- 마지막 갱신 이후 흐른 시간만큼 충전한 뒤 token 이 충분하면 사용
+-- 반환 : {허용 여부(1/0), 남은 token 수, 다시 허용될 때까지 대기 시간(ms)}
+
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local now = tonumber(ARGV[3])
+local cost = tonumber(ARGV[4])
+
+local bucket = redis.call("HMGET", KEYS[1], "tokens", "ts")
+local tokens = tonumber(bucket[1]) or capacity
+local ts = tonumber(bucket[2]) or now
+
+-- 인스턴스 간 시각 차이로 과거 시각이 들어와도 충전량이 음수가 되지 않도록
+if now > ts then
+    tokens = math.min(capacity, tokens + (now - ts) * rate / 1000)
+    ts = now
+end
+
+local allowed = 0
+local retryAfter = 0
+if tokens >= cost then
+    tokens = tokens - cost
+    allowed = 1
+else
+    retryAfter = math.ceil((cost - tokens) * 1000 / rate)
+end
+
+redis.call("HSET", KEYS[1], "tokens", tokens, "ts", ts)
+-- 가득 찰 때까지 요청이 없으면 key 제거 (없는 key 는 가득 찬 버킷과 같음)
+redis.call("PEXPIRE", KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+
+return {allowed, math.floor(tokens), retryAfter}
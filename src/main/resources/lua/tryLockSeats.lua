@@ -1,16 +1,76 @@
--- KEYS[1] = seat hash key (ex: seat:200:100:10)
--- ARGV = 좌석 번호 리스트
+-- KEYS[1] = 회차 카운터 hash key (ex: seat:{200:100}:stats)
+-- KEYS[2s], KEYS[2s+1] = s번째 구역 seat hash key (ex: seat:{200:100}:10), 구역 카운터 hash key
+-- ARGV[1] = hold token, ARGV[2] = 선점 유지 시간(ms), ARGV[3..] = 구역 순서대로 {좌석 수, 좌석 번호 리스트} 반복
+-- 모든 구역의 모든 좌석이 선점 가능할 때만 한 번에 선점 (all-or-nothing)
+-- 선점 값 형식 : locked|{holdToken}|{만료시각(ms)}
+-- 변경 알림 : seat:changes 채널에 구역별 {sectionKey}|{상태코드}|{seatId 목록} 발행
 
-for i=1,#ARGV do
-    local seatStatus = redis.call("HGET", KEYS[1], ARGV[i])
-    if seatStatus ~= "available" then
-        return 0 -- 실패 (이미 locked 또는 booked)
+-- 같은 좌석이 중복으로 넘어와도 한 번만 처리 (카운터 중복 반영 방지)
+local function distinct(from, to)
+    local seats, seen = {}, {}
+    for i=from,to do
+        if not seen[ARGV[i]] then
+            seen[ARGV[i]] = true
+            table.insert(seats, ARGV[i])
+        end
     end
+    return seats
 end
 
--- 전부 available → locked 처리
-for i=1,#ARGV do
-    redis.call("HSET", KEYS[1], ARGV[i], "locked")
+local sections = {}
+local pos = 3
+for s=1,(#KEYS - 1) / 2 do
+    local count = tonumber(ARGV[pos])
+    sections[s] = { key = KEYS[s * 2], stats = KEYS[s * 2 + 1], seats = distinct(pos + 1, pos + count) }
+    pos = pos + count + 1
+end
+
+local time = redis.call("TIME")
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+for s=1,#sections do
+    local section = sections[s]
+    section.available = 0
+    for _, seatId in ipairs(section.seats) do
+        local seatStatus = redis.call("HGET", section.key, seatId)
+        if not seatStatus or seatStatus == "booked" then
+            return 0 -- 실패 (없는 좌석 또는 booked)
+        end
+        if seatStatus == "available" then
+            section.available = section.available + 1
+        else
+            -- 만료된 선점은 회수, 만료 정보가 없거나 유효한 선점이면 실패
+            local expireAt = tonumber(string.match(seatStatus, "|(%d+)$"))
+            if not expireAt or expireAt > now then
+                return 0
+            end
+        end
+    end
+end
+
+-- 전부 available(또는 만료) → locked 처리
+local lockValue = "locked|" .. ARGV[1] .. "|" .. (now + tonumber(ARGV[2]))
+local available = 0
+for s=1,#sections do
+    local section = sections[s]
+    for _, seatId in ipairs(section.seats) do
+        redis.call("HSET", section.key, seatId, lockValue)
+    end
+
+    -- 회수한 만료 선점은 이미 locked 로 집계되어 있으므로 available 에서 넘어온 좌석만 반영
+    if section.available > 0 then
+        redis.call("HINCRBY", section.stats, "available", -section.available)
+        redis.call("HINCRBY", section.stats, "locked", section.available)
+        available = available + section.available
+    end
+    if #section.seats > 0 then
+        redis.call("PUBLISH", "seat:changes", section.key .. "|1|" .. table.concat(section.seats, ","))
+    end
+end
+
+if available > 0 then
+    redis.call("HINCRBY", KEYS[1], "available", -available)
+    redis.call("HINCRBY", KEYS[1], "locked", available)
 end
 
 return 1
@@ -0,0 +1,42 @@
+-- KEYS[1] = 대기열 sorted set, KEYS[2] = 입장 허용 sorted set (score = 허용 만료 시각(ms))
+-- KEYS[3] = 마지막 입장 처리 시각(ms)
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = 초당 입장 허용 수, ARGV[3] = 입장 허용 시간(ms), ARGV[4] = 동시 입장 허용 상한 (0 = 제한 없음)
+-- 마지막 처리 이후 흐른 시간만큼만 입장시키므로 여러 인스턴스가 동시에 실행해도 전체 입장 속도는 초당 ARGV[2] 명
+-- 반환 : {이번에 입장시킨 수, 남은 대기 인원, 입장 허용 중인 인원}
+
+local now = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local maxAdmitted = tonumber(ARGV[4])
+
+-- 허용 시간이 지난 token 정리
+redis.call("ZREMRANGEBYSCORE", KEYS[2], "-inf", now)
+
+local lastAt = tonumber(redis.call("GET", KEYS[3]) or "0")
+if lastAt < now - 1000 then
+    lastAt = now - 1000 -- 쉬었다 다시 시작해도 최대 1초 분량만 한 번에 입장
+end
+
+local due = math.floor((now - lastAt) * rate / 1000) -- 흐른 시간만큼 입장 가능한 수
+local admit = due
+if maxAdmitted > 0 then
+    admit = math.min(admit, maxAdmitted - redis.call("ZCARD", KEYS[2]))
+end
+
+local admitted = 0
+if admit > 0 then
+    local popped = redis.call("ZPOPMIN", KEYS[1], admit)
+    local expiresAt = now + tonumber(ARGV[3])
+    for i = 1, #popped, 2 do
+        redis.call("ZADD", KEYS[2], expiresAt, popped[i])
+        admitted = admitted + 1
+    end
+end
+
+if due > 0 and admitted == due then
+    lastAt = lastAt + math.floor(admitted * 1000 / rate) -- 입장시킨 만큼만 진행 (1명 분량 미만의 시간은 다음 실행에 이어서)
+elseif due > 0 then
+    lastAt = now -- 대기열이 비었거나 상한에 걸린 경우 남은 몫을 쌓아두지 않음
+end
+redis.call("SET", KEYS[3], lastAt, "PX", 60000)
+
+return {admitted, redis.call("ZCARD", KEYS[1]), redis.call("ZCARD", KEYS[2])}
@@ -0,0 +1,24 @@
+-- KEYS[1] = 대기열 sorted set (score = 입장 순번), KEYS[2] = 입장 순번 카운터
+-- KEYS[3] = 입장 허용 sorted set (score = 허용 만료 시각(ms)), KEYS[4] = 사용자별 발급 token
+-- ARGV[1] = 새 token, ARGV[2] = 현재 시각(ms), ARGV[3] = 사용자별 token 보관 시간(ms)
+-- 같은 사용자가 다시 들어오면 (새로고침, 재시도) 뒤로 밀리지 않도록 기존 token 과 순번을 그대로 돌려줌
+-- 반환 : {token, 순번} (순번 0 = 입장 허용됨)
+
+local existing = redis.call("GET", KEYS[4])
+
+if existing then
+    local expiresAt = redis.call("ZSCORE", KEYS[3], existing)
+    if expiresAt and tonumber(expiresAt) > tonumber(ARGV[2]) then
+        return {existing, "0"}
+    end
+    local rank = redis.call("ZRANK", KEYS[1], existing)
+    if rank then
+        return {existing, tostring(rank + 1)}
+    end
+end
+
+-- 처음 들어왔거나 입장 허용 시간이 지난 경우 맨 뒤로
+local seq = redis.call("INCR", KEYS[2])
+redis.call("ZADD", KEYS[1], seq, ARGV[1])
+redis.call("SET", KEYS[4], ARGV[1], "PX", tonumber(ARGV[3]))
+return {ARGV[1], tostring(redis.call("ZRANK", KEYS[1], ARGV[1]) + 1)}
@@ -0,0 +1,56 @@
+package com.dayaeyak.booking.domain.booking;
+
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingCursorTest {
+
+    @Test
+    void encode_roundTripsCreatedAtAndId() {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(BookingCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void encode_roundTripsWholeSecond() {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.of(2026, 3, 1, 12, 30), Long.MAX_VALUE);
+
+        assertThat(BookingCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_returnsNullForFirstPage() {
+        assertThat(BookingCursor.decode(null)).isNull();
+        assertThat(BookingCursor.decode("")).isNull();
+        assertThat(BookingCursor.decode("  ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "2026-03-01T12:30|", "2026-03-01T12:30", "yesterday|1", "2026-03-01T12:30|abc"})
+    void decode_rejectsMalformedCursor(String raw) {
+        String cursor = raw.equals("not base64!") ? raw : encode(raw);
+
+        assertThatThrownBy(() -> BookingCursor.decode(cursor))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
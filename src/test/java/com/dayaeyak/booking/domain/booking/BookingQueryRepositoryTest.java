@@ -0,0 +1,85 @@
+package com.dayaeyak.booking.domain.booking;
+
+import com.dayaeyak.booking.domain.booking.dto.request.BookingSearchCondition;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingServiceSummaryResponseDto;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingSummaryResponseDto;
+import com.dayaeyak.booking.domain.booking.enums.ServiceType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * keyset 조건 확인 (같은 createdAt 은 id 로 이어서 조회, 조건이 없는 항목은 where 절에서 제외)
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingQueryRepositoryTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TypedQuery<BookingSummaryResponseDto> summaryQuery;
+
+    @Mock
+    private TypedQuery<BookingServiceSummaryResponseDto> serviceSummaryQuery;
+
+    @InjectMocks
+    private BookingQueryRepository bookingQueryRepository;
+
+    @Test
+    void findPage_continuesSameCreatedAtById() {
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        when(entityManager.createQuery(jpql.capture(), eq(BookingSummaryResponseDto.class))).thenReturn(summaryQuery);
+        when(summaryQuery.setMaxResults(anyInt())).thenReturn(summaryQuery);
+        when(summaryQuery.getResultList()).thenReturn(List.of());
+
+        bookingQueryRepository.findPage(new BookingSearchCondition(null, null, null, null, null),
+                new BookingCursor(CREATED_AT, 8L), 51);
+
+        assertThat(jpql.getValue())
+                .contains("(b.createdAt < :cursorCreatedAt or (b.createdAt = :cursorCreatedAt and b.id < :cursorId))")
+                .endsWith("order by b.createdAt desc, b.id desc")
+                .doesNotContain(":serviceType", ":serviceId", ":status", ":from", ":to");
+        verify(summaryQuery).setParameter("cursorCreatedAt", CREATED_AT);
+        verify(summaryQuery).setParameter("cursorId", 8L);
+        verify(summaryQuery).setMaxResults(51);
+    }
+
+    @Test
+    void findServicePage_firstPageHasNoCursorCondition() {
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        when(entityManager.createQuery(jpql.capture(), eq(BookingServiceSummaryResponseDto.class)))
+                .thenReturn(serviceSummaryQuery);
+        when(serviceSummaryQuery.setMaxResults(anyInt())).thenReturn(serviceSummaryQuery);
+        when(serviceSummaryQuery.getResultList()).thenReturn(List.of());
+
+        bookingQueryRepository.findServicePage(
+                new BookingSearchCondition(ServiceType.PERFORMANCE, 100L, null, null, null), null, 11);
+
+        assertThat(jpql.getValue())
+                .contains("b.serviceType = :serviceType", "b.serviceId = :serviceId")
+                .doesNotContain(":cursorCreatedAt", ":cursorId");
+        verify(serviceSummaryQuery).setParameter("serviceType", ServiceType.PERFORMANCE);
+        verify(serviceSummaryQuery).setParameter("serviceId", 100L);
+        verify(serviceSummaryQuery, never()).setParameter(eq("cursorId"), any());
+        verify(serviceSummaryQuery).setMaxResults(11);
+    }
+}
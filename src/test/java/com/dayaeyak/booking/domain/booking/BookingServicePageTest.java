@@ -0,0 +1,172 @@
+package com.dayaeyak.booking.domain.booking;
+
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingFindByServiceDto;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingSearchCondition;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingPageResponseDto;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingServiceSummaryResponseDto;
+import com.dayaeyak.booking.domain.booking.dto.response.BookingSummaryResponseDto;
+import com.dayaeyak.booking.domain.booking.enums.ServiceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 예약 목록 cursor 페이지 처리 (pageSize + 1 개 조회로 다음 페이지 판단, 마지막 예약으로 nextCursor 생성)
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingServicePageTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 1, 12, 0);
+    private static final BookingSearchCondition NO_CONDITION = new BookingSearchCondition(null, null, null, null, null);
+
+    @Mock
+    private BookingQueryRepository bookingQueryRepository;
+
+    @InjectMocks
+    private BookingService bookingService;
+
+    @Test
+    void findBookings_lastPageWhenRowsFitPageSize() {
+        when(bookingQueryRepository.findPage(NO_CONDITION, null, 4)).thenReturn(summaries(3, 2, 1));
+
+        BookingPageResponseDto<BookingSummaryResponseDto> page = bookingService.findBookings(NO_CONDITION, null, 3);
+
+        assertThat(page.bookings()).extracting(BookingSummaryResponseDto::bookingId).containsExactly(3L, 2L, 1L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void findBookings_extraRowMeansNextPage() {
+        when(bookingQueryRepository.findPage(NO_CONDITION, null, 4)).thenReturn(summaries(4, 3, 2, 1));
+
+        BookingPageResponseDto<BookingSummaryResponseDto> page = bookingService.findBookings(NO_CONDITION, null, 3);
+
+        assertThat(page.bookings()).extracting(BookingSummaryResponseDto::bookingId).containsExactly(4L, 3L, 2L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(BookingCursor.decode(page.nextCursor())).isEqualTo(new BookingCursor(CREATED_AT, 2L));
+    }
+
+    @Test
+    void findBookings_cursorKeepsIdForSameCreatedAt() {
+        // 같은 createdAt 인 예약이 페이지 경계에 걸치면 id 로 이어서 조회
+        when(bookingQueryRepository.findPage(NO_CONDITION, null, 3)).thenReturn(summaries(9, 8, 7));
+        BookingPageResponseDto<BookingSummaryResponseDto> first = bookingService.findBookings(NO_CONDITION, null, 2);
+
+        when(bookingQueryRepository.findPage(NO_CONDITION, new BookingCursor(CREATED_AT, 8L), 3))
+                .thenReturn(summaries(7));
+        BookingPageResponseDto<BookingSummaryResponseDto> second =
+                bookingService.findBookings(NO_CONDITION, first.nextCursor(), 2);
+
+        assertThat(second.bookings()).extracting(BookingSummaryResponseDto::bookingId).containsExactly(7L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void findBookings_clampsPageSize() {
+        when(bookingQueryRepository.findPage(any(), isNull(), anyInt())).thenReturn(List.of());
+
+        bookingService.findBookings(NO_CONDITION, null, null);
+        bookingService.findBookings(NO_CONDITION, null, 0);
+        bookingService.findBookings(NO_CONDITION, null, 1_000);
+
+        verify(bookingQueryRepository).findPage(NO_CONDITION, null, 51);
+        verify(bookingQueryRepository).findPage(NO_CONDITION, null, 2);
+        verify(bookingQueryRepository).findPage(NO_CONDITION, null, 201);
+    }
+
+    @Test
+    void findBookings_rejectsMalformedCursor() {
+        assertThatThrownBy(() -> bookingService.findBookings(NO_CONDITION, "%%%", 10))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        verifyNoInteractions(bookingQueryRepository);
+    }
+
+    @Test
+    void findBookingsByService_pagesWithServiceCondition() {
+        BookingFindByServiceDto requestDto = serviceRequest(ServiceType.PERFORMANCE, 100L);
+        ArgumentCaptor<BookingSearchCondition> condition = ArgumentCaptor.forClass(BookingSearchCondition.class);
+        when(bookingQueryRepository.findServicePage(condition.capture(), isNull(), eq(3)))
+                .thenReturn(serviceSummaries(5, 4, 3));
+
+        BookingPageResponseDto<BookingServiceSummaryResponseDto> page =
+                bookingService.findBookingsByService(requestDto, null, null, null, null, 2);
+
+        assertThat(condition.getValue().serviceType()).isEqualTo(ServiceType.PERFORMANCE);
+        assertThat(condition.getValue().serviceId()).isEqualTo(100L);
+        assertThat(page.bookings()).extracting(BookingServiceSummaryResponseDto::bookingId).containsExactly(5L, 4L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(BookingCursor.decode(page.nextCursor())).isEqualTo(new BookingCursor(CREATED_AT, 4L));
+    }
+
+    @Test
+    void findBookingsByService_followsCursorToLastPage() {
+        BookingFindByServiceDto requestDto = serviceRequest(ServiceType.PERFORMANCE, 100L);
+        String cursor = new BookingCursor(CREATED_AT, 4L).encode();
+        when(bookingQueryRepository.findServicePage(any(), eq(new BookingCursor(CREATED_AT, 4L)), eq(3)))
+                .thenReturn(serviceSummaries(3, 2));
+
+        BookingPageResponseDto<BookingServiceSummaryResponseDto> page =
+                bookingService.findBookingsByService(requestDto, null, null, null, cursor, 2);
+
+        assertThat(page.bookings()).extracting(BookingServiceSummaryResponseDto::bookingId).containsExactly(3L, 2L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void findBookingsByService_rejectsMalformedCursorAndMissingService() {
+        assertThatThrownBy(() -> bookingService.findBookingsByService(
+                serviceRequest(ServiceType.PERFORMANCE, 100L), null, null, null, "bm9wZQ", 10))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> bookingService.findBookingsByService(
+                serviceRequest(ServiceType.PERFORMANCE, null), null, null, null, null, 10))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        verifyNoInteractions(bookingQueryRepository);
+    }
+
+    private static List<BookingSummaryResponseDto> summaries(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> new BookingSummaryResponseDto(id, 1L, ServiceType.PERFORMANCE, 100L, null, 10_000, CREATED_AT))
+                .toList();
+    }
+
+    private static List<BookingServiceSummaryResponseDto> serviceSummaries(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> new BookingServiceSummaryResponseDto(id, 1L, null, CREATED_AT))
+                .toList();
+    }
+
+    private static BookingFindByServiceDto serviceRequest(ServiceType serviceType, Long serviceId) {
+        BookingFindByServiceDto requestDto = mock(BookingFindByServiceDto.class);
+        when(requestDto.serviceType()).thenReturn(serviceType);
+        when(requestDto.serviceId()).thenReturn(serviceId);
+        return requestDto;
+    }
+}
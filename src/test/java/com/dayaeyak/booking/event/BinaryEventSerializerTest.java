@@ -0,0 +1,150 @@
+package com.dayaeyak.booking.event;
+
+import com.dayaeyak.booking.domain.booking.dto.request.BookingPerformanceRequestDto;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingSectionRequestDto;
+import com.dayaeyak.booking.domain.booking.enums.BookingStatus;
+import com.dayaeyak.booking.domain.booking.enums.ServiceType;
+import com.dayaeyak.booking.event.schema.BookingCompleteEventSchema;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryEventSerializerTest {
+
+    private final JsonEventSerializer jsonEventSerializer =
+            new JsonEventSerializer(JsonMapper.builder().findAndAddModules().build());
+    private final BinaryEventSerializer serializer =
+            new BinaryEventSerializer(List.of(new BookingCompleteEventSchema()), jsonEventSerializer);
+
+    @Test
+    void writerAndReader_roundTripPrimitives() {
+        byte[] bytes = new BinaryEventWriter()
+                .writeLong(0).writeLong(-1).writeLong(Long.MIN_VALUE).writeLong(Long.MAX_VALUE)
+                .writeNullableLong(null).writeNullableLong(-300L)
+                .writeNullableInt(null).writeNullableInt(Integer.MIN_VALUE)
+                .writeString("").writeNullableString(null).writeNullableString("A열 좌석")
+                .writeBoolean(true)
+                .writeLongs(List.of(1L, -2L, 1_000_000_000_000L)).writeLongs(null)
+                .writeInts(List.of(-1, 0, Integer.MAX_VALUE))
+                .toByteArray();
+
+        BinaryEventReader reader = new BinaryEventReader(bytes);
+        assertThat(reader.readLong()).isZero();
+        assertThat(reader.readLong()).isEqualTo(-1L);
+        assertThat(reader.readLong()).isEqualTo(Long.MIN_VALUE);
+        assertThat(reader.readLong()).isEqualTo(Long.MAX_VALUE);
+        assertThat(reader.readNullableLong()).isNull();
+        assertThat(reader.readNullableLong()).isEqualTo(-300L);
+        assertThat(reader.readNullableInt()).isNull();
+        assertThat(reader.readNullableInt()).isEqualTo(Integer.MIN_VALUE);
+        assertThat(reader.readString()).isEmpty();
+        assertThat(reader.readNullableString()).isNull();
+        assertThat(reader.readNullableString()).isEqualTo("A열 좌석");
+        assertThat(reader.readBoolean()).isTrue();
+        assertThat(reader.readLongs()).containsExactly(1L, -2L, 1_000_000_000_000L);
+        assertThat(reader.readLongs()).isEmpty();
+        assertThat(reader.readInts()).containsExactly(-1, 0, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void singleSection_roundTrip() {
+        BookingRequestDto request = booking(new BookingPerformanceRequestDto(
+                100L, LocalDate.of(2026, 10, 18), LocalTime.of(19, 30), "VIP", 150000, false,
+                200L, 10L, List.of(1L, 2L), List.of(11, 12), null, null));
+
+        EncodedEvent encoded = serializer.serialize(request);
+
+        assertThat(encoded.format()).isEqualTo(EventFormat.BINARY);
+        assertThat(encoded.schema()).isEqualTo("booking-complete");
+        assertThat(serializer.deserialize(encoded.payload())).isEqualTo(request);
+    }
+
+    @Test
+    void multiSection_roundTrip() {
+        List<BookingSectionRequestDto> sections = List.of(
+                new BookingSectionRequestDto(10L, "VIP", 150000, List.of(1L, 2L), List.of(11, 12)),
+                new BookingSectionRequestDto(20L, "R", 120000, List.of(101L), List.of(1)));
+        BookingPerformanceRequestDto performance = new BookingPerformanceRequestDto(
+                100L, LocalDate.of(2026, 10, 18), LocalTime.of(19, 30), "VIP", 150000, true,
+                200L, 10L, List.of(1L, 2L), List.of(11, 12), null, sections);
+
+        BookingRequestDto decoded = (BookingRequestDto) serializer.deserialize(serializer.serialize(booking(performance)).payload());
+
+        BookingPerformanceRequestDto decodedPerformance = (BookingPerformanceRequestDto) decoded.bookingDetailRequest();
+        assertThat(decodedPerformance.sectionRequests()).isEqualTo(sections);
+        assertThat(decodedPerformance.isSoldOut()).isTrue();
+        assertThat(decodedPerformance.sectionId()).isEqualTo(10L); // 첫 구역을 최상위 필드로 복원
+    }
+
+    @Test
+    void nullAndNegativeFields_roundTrip() {
+        BookingPerformanceRequestDto performance = new BookingPerformanceRequestDto(
+                null, null, null, null, -5000, false,
+                -1L, null, List.of(-7L), List.of(-3), 2, null);
+        BookingRequestDto request = new BookingRequestDto(null, -42L, null, -1, null, performance);
+
+        BookingRequestDto decoded = (BookingRequestDto) serializer.deserialize(serializer.serialize(request).payload());
+
+        assertThat(decoded.userId()).isNull();
+        assertThat(decoded.serviceId()).isEqualTo(-42L);
+        assertThat(decoded.serviceType()).isNull();
+        assertThat(decoded.totalFee()).isEqualTo(-1);
+        assertThat(decoded.status()).isNull();
+        assertThat(decoded.bookingDetailRequest()).isEqualTo(performance);
+    }
+
+    @Test
+    void withoutDetail_roundTrip() {
+        BookingRequestDto request = new BookingRequestDto(1L, 2L, ServiceType.PERFORMANCE, 0, BookingStatus.COMPLETED, null);
+
+        assertThat(serializer.deserialize(serializer.serialize(request).payload())).isEqualTo(request);
+    }
+
+    @Test
+    void binary_isSmallerThanJson() {
+        BookingRequestDto request = booking(new BookingPerformanceRequestDto(
+                100L, LocalDate.of(2026, 10, 18), LocalTime.of(19, 30), "VIP", 150000, false,
+                200L, 10L, List.of(1L, 2L, 3L, 4L), List.of(11, 12, 13, 14), null, null));
+
+        assertThat(serializer.serialize(request).payload().length)
+                .isLessThan(jsonEventSerializer.serialize(request).payload().length);
+    }
+
+    @Test
+    void deserialize_rejectsBadMagic() {
+        byte[] bytes = new BinaryEventWriter().writeByte(0x7B).writeCount(1).writeCount(1).toByteArray();
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Not a binary");
+    }
+
+    @Test
+    void deserialize_rejectsUnknownSchema() {
+        byte[] bytes = new BinaryEventWriter().writeByte(BinaryEventSerializer.MAGIC).writeCount(99).writeCount(1).toByteArray();
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown binary event schema id: 99");
+    }
+
+    @Test
+    void deserialize_rejectsNewerVersion() {
+        byte[] bytes = new BinaryEventWriter().writeByte(BinaryEventSerializer.MAGIC).writeCount(1).writeCount(2).toByteArray();
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported booking-complete schema version: 2");
+    }
+
+    private static BookingRequestDto booking(BookingPerformanceRequestDto performance) {
+        return new BookingRequestDto(7L, 200L, ServiceType.PERFORMANCE, 300000, BookingStatus.COMPLETED, performance);
+    }
+}
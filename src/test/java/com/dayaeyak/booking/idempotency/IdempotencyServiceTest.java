@@ -0,0 +1,193 @@
+package com.dayaeyak.booking.idempotency;
+
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.config.RedisLuaConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Idempotency-Key 처리를 실제 Redis 에서 실행해 확인
+ *
+ * 처리 시작, 결과 재응답, 다른 body 재사용, 처리 중 대기, 처리 중 상태 만료 후 owner 확인
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class IdempotencyServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String IDEMPOTENCY_KEY = "key-1";
+    private static final String REDIS_KEY = "booking:idempotency:1:key-1";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static final RedisLuaConfig scripts = new RedisLuaConfig();
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyService idempotencyService;
+
+    record Result(String value) {
+    }
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        meterRegistry = new SimpleMeterRegistry();
+        idempotencyService = new IdempotencyService(
+                redisTemplate,
+                scripts.beginIdempotentRequestScript(),
+                scripts.completeIdempotentRequestScript(),
+                new IdempotencyProperties(60L, 60L, 2_000L),
+                new ObjectMapper(),
+                meterRegistry);
+    }
+
+    @Test
+    void execute_acquiresOnceAndReplaysResponse() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Result first = execute(Map.of("seat", 1), () -> new Result("booking-" + calls.incrementAndGet()));
+        Result second = execute(Map.of("seat", 1), () -> new Result("booking-" + calls.incrementAndGet()));
+
+        assertThat(first).isEqualTo(new Result("booking-1"));
+        assertThat(second).isEqualTo(first);
+        assertThat(calls).hasValue(1);
+        assertThat(redisTemplate.opsForHash().get(REDIS_KEY, "status")).isEqualTo("COMPLETED");
+        assertThat(redisTemplate.opsForHash().hasKey(REDIS_KEY, "owner")).isFalse();
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(count("replayed")).isEqualTo(1);
+    }
+
+    @Test
+    void execute_replaysClientErrorButRetriesServerError() {
+        assertThatThrownBy(() -> execute(Map.of("seat", 1), () -> {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "좌석 없음");
+        })).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> execute(Map.of("seat", 1), () -> new Result("never")))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("좌석 없음")
+                .extracting(e -> ((CustomException) e).getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+
+        assertThatThrownBy(() -> execute(Map.of("seat", 2), "key-2", () -> {
+            throw new IllegalStateException("down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(redisTemplate.hasKey("booking:idempotency:1:key-2")).isFalse();
+        assertThat(execute(Map.of("seat", 2), "key-2", () -> new Result("retried"))).isEqualTo(new Result("retried"));
+    }
+
+    @Test
+    void execute_rejectsDifferentBodyWithSameKey() {
+        execute(Map.of("seat", 1), () -> new Result("booking-1"));
+
+        assertThatThrownBy(() -> execute(Map.of("seat", 2), () -> new Result("booking-2")))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        assertThat(count("mismatch")).isEqualTo(1);
+    }
+
+    @Test
+    void execute_waitsForInProgressRequest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<Result> first = CompletableFuture.supplyAsync(() -> execute(Map.of("seat", 1), () -> {
+            calls.incrementAndGet();
+            await(release);
+            return new Result("booking-1");
+        }));
+        while (!"IN_PROGRESS".equals(redisTemplate.opsForHash().get(REDIS_KEY, "status"))) {
+            Thread.sleep(10);
+        }
+        CompletableFuture.runAsync(release::countDown, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS));
+
+        Result second = execute(Map.of("seat", 1), () -> new Result("booking-" + calls.incrementAndGet()));
+
+        assertThat(second).isEqualTo(new Result("booking-1"));
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(second);
+        assertThat(calls).hasValue(1);
+        assertThat(count("waited")).isEqualTo(1);
+    }
+
+    @Test
+    void execute_doesNotOverwriteRetryAfterInProgressExpired() {
+        Result first = execute(Map.of("seat", 1), () -> {
+            redisTemplate.delete(REDIS_KEY); // 처리 중 상태 만료
+            Result retried = execute(Map.of("seat", 1), () -> new Result("booking-retry"));
+            assertThat(retried).isEqualTo(new Result("booking-retry"));
+            return new Result("booking-first");
+        });
+
+        assertThat(first).isEqualTo(new Result("booking-first"));
+        assertThat(execute(Map.of("seat", 1), () -> new Result("never"))).isEqualTo(new Result("booking-retry"));
+        assertThat(count("expired")).isEqualTo(1);
+    }
+
+    @Test
+    void execute_keepsOriginalExceptionWhenOwnershipLost() {
+        assertThatThrownBy(() -> execute(Map.of("seat", 1), () -> {
+            redisTemplate.delete(REDIS_KEY);
+            execute(Map.of("seat", 1), () -> new Result("booking-retry"));
+            throw new IllegalStateException("first failed");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("first failed");
+
+        assertThat(redisTemplate.opsForHash().get(REDIS_KEY, "status")).isEqualTo("COMPLETED");
+    }
+
+    private Result execute(Object request, Supplier<Result> action) {
+        return execute(request, IDEMPOTENCY_KEY, action);
+    }
+
+    private Result execute(Object request, String idempotencyKey, Supplier<Result> action) {
+        return idempotencyService.execute(idempotencyKey, USER_ID, request, Result.class, action);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("booking.idempotency.requests", "result", result).count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
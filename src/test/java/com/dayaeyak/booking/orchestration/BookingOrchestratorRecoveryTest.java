@@ -0,0 +1,147 @@
+package com.dayaeyak.booking.orchestration;
+
+import com.dayaeyak.booking.client.payment.PaymentClient;
+import com.dayaeyak.booking.domain.booking.Booking;
+import com.dayaeyak.booking.domain.booking.BookingService;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+import com.dayaeyak.booking.domain.booking.enums.BookingStatus;
+import com.dayaeyak.booking.domain.detail.BookingDetail;
+import com.dayaeyak.booking.domain.detail.BookingDetailService;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaLog;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaLogService;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaStep;
+import com.dayaeyak.booking.seat.SeatInventory;
+import com.dayaeyak.booking.utils.ApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 중단된 공연 예약 복구 : 결제 결과를 모르면 환불 포함 보상, 결제가 끝났으면 이어서 확정, 결제 거절이면 환불 없이 보상
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingOrchestratorRecoveryTest {
+
+    private static final String HOLD_TOKEN = "hold-1";
+    private static final Long BOOKING_ID = 10L;
+    private static final Map<String, List<Long>> SEATS = Map.of("section", List.of(1L, 2L));
+
+    @Mock
+    private BookingService bookingService;
+    @Mock
+    private PaymentClient paymentClient;
+    @Mock
+    private BookingDetailService bookingDetailService;
+    @Mock
+    private SeatInventory seatInventory;
+    @Mock
+    private BookingSagaLogService bookingSagaLogService;
+
+    @InjectMocks
+    private BookingOrchestrator bookingOrchestrator;
+
+    private BookingSagaLog sagaLog;
+
+    @BeforeEach
+    void setUp() {
+        sagaLog = new BookingSagaLog(
+                new PerformanceSeatHold(mock(BookingRequestDto.class), null, SEATS, HOLD_TOKEN),
+                null, LocalDateTime.now());
+        sagaLog.bookingCreated(BOOKING_ID, LocalDateTime.now());
+    }
+
+    @Test
+    void recover_paymentRequestedCompensatesWithRefund() {
+        sagaLog.advance(BookingSagaStep.PAYMENT_REQUESTED, LocalDateTime.now());
+        startCompensationOnSagaLog();
+        ApiResponse<Boolean> noPayment = refundResponse(false);
+        when(paymentClient.refundPayment(BOOKING_ID)).thenReturn(noPayment);
+
+        assertThat(bookingOrchestrator.recoverPerformanceBooking(sagaLog)).isEqualTo(BookingSagaStep.COMPENSATED);
+
+        // 결제 여부를 모르므로 환불 요청, 환불할 결제가 없어도 보상 완료
+        verify(seatInventory).release(SEATS, HOLD_TOKEN);
+        verify(bookingService).updateBookingStatus(BOOKING_ID, BookingStatus.CANCELLED);
+        verify(paymentClient).refundPayment(BOOKING_ID);
+        verify(bookingSagaLogService).paymentRefunded(HOLD_TOKEN);
+        verify(bookingSagaLogService).record(HOLD_TOKEN, BookingSagaStep.COMPENSATED);
+    }
+
+    @Test
+    void recover_paymentCompletedResumesWithoutRefund() {
+        sagaLog.paymentCompleted(7L, LocalDateTime.now());
+        when(seatInventory.confirm(SEATS, HOLD_TOKEN)).thenReturn(true);
+        when(bookingService.getBookingById(BOOKING_ID)).thenReturn(mock(Booking.class));
+        when(bookingDetailService.findBookingDetailByBookingId(BOOKING_ID)).thenReturn(List.of(mock(BookingDetail.class)));
+
+        assertThat(bookingOrchestrator.recoverPerformanceBooking(sagaLog)).isEqualTo(BookingSagaStep.COMPLETED);
+
+        verify(bookingSagaLogService).record(HOLD_TOKEN, BookingSagaStep.SEATS_CONFIRMED);
+        verify(bookingService).confirmBooking(eq(BOOKING_ID.longValue()), anyList());
+        verify(bookingSagaLogService).record(HOLD_TOKEN, BookingSagaStep.COMPLETED);
+        verify(seatInventory, never()).release(SEATS, HOLD_TOKEN);
+        verify(paymentClient, never()).refundPayment(anyLong());
+    }
+
+    @Test
+    void recover_paymentDeclinedCompensatesWithoutRefund() {
+        sagaLog.awaitPayment(LocalDateTime.now());
+        sagaLog.advance(BookingSagaStep.PAYMENT_DECLINED, LocalDateTime.now());
+        sagaLog.startCompensation("한도 초과", LocalDateTime.now());
+
+        assertThat(bookingOrchestrator.recoverPerformanceBooking(sagaLog)).isEqualTo(BookingSagaStep.COMPENSATED);
+
+        verify(seatInventory).release(SEATS, HOLD_TOKEN);
+        verify(bookingService).updateBookingStatus(BOOKING_ID, BookingStatus.CANCELLED);
+        verify(paymentClient, never()).refundPayment(anyLong());
+        verify(bookingSagaLogService).record(HOLD_TOKEN, BookingSagaStep.COMPENSATED);
+    }
+
+    @Test
+    void recover_compensatingSkipsFinishedSteps() {
+        sagaLog.paymentCompleted(7L, LocalDateTime.now());
+        sagaLog.startCompensation("좌석 확정 실패", LocalDateTime.now());
+        sagaLog.markSeatsReleased();
+        sagaLog.markBookingCancelled();
+        ApiResponse<Boolean> refunded = refundResponse(true);
+        when(paymentClient.refundPayment(BOOKING_ID)).thenReturn(refunded);
+
+        assertThat(bookingOrchestrator.recoverPerformanceBooking(sagaLog)).isEqualTo(BookingSagaStep.COMPENSATED);
+
+        verify(seatInventory, never()).release(SEATS, HOLD_TOKEN);
+        verify(bookingService, never()).updateBookingStatus(anyLong(), eq(BookingStatus.CANCELLED));
+        verify(paymentClient).refundPayment(BOOKING_ID);
+    }
+
+    // 실제 기록처럼 보상 시작 단계의 환불 필요 여부를 남김
+    private void startCompensationOnSagaLog() {
+        when(bookingSagaLogService.startCompensation(eq(HOLD_TOKEN), anyString())).thenAnswer(invocation -> {
+            sagaLog.startCompensation(invocation.getArgument(1), LocalDateTime.now());
+            return sagaLog;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ApiResponse<Boolean> refundResponse(boolean refunded) {
+        ApiResponse<Boolean> response = mock(ApiResponse.class);
+        when(response.getData()).thenReturn(refunded);
+        return response;
+    }
+}
@@ -0,0 +1,159 @@
+package com.dayaeyak.booking.orchestration.saga;
+
+import com.dayaeyak.booking.common.exception.CustomException;
+import com.dayaeyak.booking.common.exception.ErrorCode;
+import com.dayaeyak.booking.domain.booking.dto.request.BookingRequestDto;
+import com.dayaeyak.booking.orchestration.PerformanceSeatHold;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * saga 기록 상태 전이 (결제 결과 반영, 보상 시 환불 여부, 복구 임대)
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingSagaLogServiceTest {
+
+    private static final String HOLD_TOKEN = "hold-1";
+    private static final Long BOOKING_ID = 10L;
+
+    @Mock
+    private BookingSagaLogRepository bookingSagaLogRepository;
+
+    private BookingSagaLogService bookingSagaLogService;
+    private BookingSagaLog sagaLog;
+
+    @BeforeEach
+    void setUp() {
+        bookingSagaLogService = new BookingSagaLogService(bookingSagaLogRepository);
+        sagaLog = new BookingSagaLog(
+                new PerformanceSeatHold(mock(BookingRequestDto.class), null, Map.of("section", List.of(1L)), HOLD_TOKEN),
+                null, LocalDateTime.now());
+    }
+
+    @Test
+    void resolvePayment_declinedCompensatesWithoutRefund() {
+        awaitPayment(7L);
+
+        assertThat(bookingSagaLogService.resolvePayment(BOOKING_ID, 7L, false, "한도 초과")).isTrue();
+
+        assertThat(sagaLog.getStep()).isEqualTo(BookingSagaStep.COMPENSATING);
+        assertThat(sagaLog.getFailureReason()).isEqualTo("한도 초과");
+        assertThat(sagaLog.isPaymentUncertain()).isFalse();
+        assertThat(sagaLog.isRefundRequired()).isFalse();
+    }
+
+    @Test
+    void resolvePayment_paidResumesAndIgnoresDuplicate() {
+        awaitPayment(7L);
+
+        assertThat(bookingSagaLogService.resolvePayment(BOOKING_ID, 7L, true, null)).isTrue();
+        assertThat(sagaLog.getStep()).isEqualTo(BookingSagaStep.PAYMENT_COMPLETED);
+        assertThat(sagaLog.getPaymentId()).isEqualTo(7L);
+
+        assertThat(bookingSagaLogService.resolvePayment(BOOKING_ID, 7L, true, null)).isFalse();
+    }
+
+    @Test
+    void resolvePayment_rejectsOtherPayment() {
+        awaitPayment(7L);
+
+        assertThatThrownBy(() -> bookingSagaLogService.resolvePayment(BOOKING_ID, 8L, true, null))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PAYMENT_RESULT_MISMATCH);
+        assertThat(sagaLog.getStep()).isEqualTo(BookingSagaStep.PAYMENT_PENDING);
+    }
+
+    @Test
+    void expirePayment_compensatesWithRefundForUnknownResult() {
+        awaitPayment(7L);
+
+        assertThat(bookingSagaLogService.expirePayment(BOOKING_ID, "timeout")).isTrue();
+
+        assertThat(sagaLog.getStep()).isEqualTo(BookingSagaStep.COMPENSATING);
+        assertThat(sagaLog.isPaymentUncertain()).isTrue();
+        assertThat(sagaLog.isRefundRequired()).isTrue();
+    }
+
+    @Test
+    void startCompensation_fromPaymentRequestedRequiresRefund() {
+        sagaLog.bookingCreated(BOOKING_ID, LocalDateTime.now());
+        sagaLog.advance(BookingSagaStep.PAYMENT_REQUESTED, LocalDateTime.now());
+        when(bookingSagaLogRepository.findByHoldToken(HOLD_TOKEN)).thenReturn(Optional.of(sagaLog));
+
+        bookingSagaLogService.startCompensation(HOLD_TOKEN, "중단");
+        bookingSagaLogService.startCompensation(HOLD_TOKEN, "다시 중단");
+
+        assertThat(sagaLog.isRefundRequired()).isTrue();
+        assertThat(sagaLog.getFailureReason()).isEqualTo("중단"); // 처음 사유 유지
+    }
+
+    @Test
+    void claimRecoverable_leasesUntilLeaseExpires() {
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(bookingSagaLogRepository.findRecoverable(eq(BookingSagaStep.terminalSteps()), now.capture(),
+                eq(PageRequest.of(0, 50)))).thenReturn(List.of(sagaLog));
+
+        assertThat(bookingSagaLogService.claimRecoverable(50, Duration.ofMinutes(2))).containsExactly(sagaLog);
+
+        assertThat(sagaLog.getRecoveryAttempts()).isEqualTo(1);
+        assertThat(sagaLog.getNextRecoveryAt()).isEqualTo(now.getValue().plusMinutes(2));
+        assertThat(sagaLog.isUnstarted()).isFalse(); // 대기 중이던 비동기 실행은 시작하지 않음
+    }
+
+    @Test
+    void claimRecoverable_reclaimsAfterLeaseExpires() throws InterruptedException {
+        when(bookingSagaLogRepository.findRecoverable(any(), any(), any())).thenReturn(List.of(sagaLog));
+
+        bookingSagaLogService.claimRecoverable(50, Duration.ofMillis(1));
+        Thread.sleep(5);
+
+        // 임대가 끝나면 다음 조회 조건(next_recovery_at <= now)에 다시 걸려 재시도
+        assertThat(sagaLog.getNextRecoveryAt()).isBefore(LocalDateTime.now());
+        bookingSagaLogService.claimRecoverable(50, Duration.ofMinutes(2));
+        assertThat(sagaLog.getRecoveryAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    void claimExecution_skipsSagaClaimedByRecovery() {
+        when(bookingSagaLogRepository.findByHoldTokenForUpdate(HOLD_TOKEN)).thenReturn(Optional.of(sagaLog));
+
+        sagaLog.claim(LocalDateTime.now().plusMinutes(2));
+
+        assertThat(bookingSagaLogService.claimExecution(HOLD_TOKEN)).isFalse();
+    }
+
+    @Test
+    void claimExecution_startsUnclaimedSaga() {
+        when(bookingSagaLogRepository.findByHoldTokenForUpdate(HOLD_TOKEN)).thenReturn(Optional.of(sagaLog));
+        LocalDateTime before = LocalDateTime.now();
+
+        assertThat(bookingSagaLogService.claimExecution(HOLD_TOKEN)).isTrue();
+        assertThat(sagaLog.getNextRecoveryAt()).isAfter(before.plusSeconds(60)); // 실행 중에는 복구 대상 아님
+    }
+
+    private void awaitPayment(Long requestedPaymentId) {
+        sagaLog.bookingCreated(BOOKING_ID, LocalDateTime.now());
+        sagaLog.awaitPayment(LocalDateTime.now().plusMinutes(3));
+        sagaLog.paymentRequested(requestedPaymentId);
+        when(bookingSagaLogRepository.findByBookingIdForUpdate(BOOKING_ID)).thenReturn(Optional.of(sagaLog));
+    }
+}
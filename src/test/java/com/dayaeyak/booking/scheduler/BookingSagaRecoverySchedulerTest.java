@@ -0,0 +1,132 @@
+package com.dayaeyak.booking.scheduler;
+
+import com.dayaeyak.booking.orchestration.BookingOrchestrator;
+import com.dayaeyak.booking.orchestration.saga.AsyncPaymentSagaService;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaLog;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaLogService;
+import com.dayaeyak.booking.orchestration.saga.BookingSagaStep;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 복구 워커 : 임대한 saga 를 동기/비동기 복구로 나눠 실행하고, 실패는 재시도 한도까지 남겨 둠
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingSagaRecoverySchedulerTest {
+
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(2);
+
+    @Mock
+    private BookingSagaLogService bookingSagaLogService;
+    @Mock
+    private BookingOrchestrator bookingOrchestrator;
+    @Mock
+    private AsyncPaymentSagaService asyncPaymentSagaService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BookingSagaRecoveryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new BookingSagaRecoveryScheduler(
+                bookingSagaLogService, bookingOrchestrator, asyncPaymentSagaService, meterRegistry);
+    }
+
+    @Test
+    void recoverSagas_routesSyncAndAsyncSagas() {
+        BookingSagaLog syncSaga = sagaLog(null, 1);
+        BookingSagaLog asyncSaga = sagaLog("saga-1", 1);
+        when(bookingSagaLogService.claimRecoverable(50, CLAIM_LEASE)).thenReturn(List.of(syncSaga, asyncSaga));
+        when(bookingOrchestrator.recoverPerformanceBooking(syncSaga)).thenReturn(BookingSagaStep.COMPLETED);
+        when(asyncPaymentSagaService.recover(asyncSaga)).thenReturn(BookingSagaStep.COMPENSATED);
+        when(bookingSagaLogService.countRecoverable()).thenReturn(3L);
+
+        scheduler.recoverSagas();
+
+        assertThat(count("resumed")).isEqualTo(1);
+        assertThat(count("compensated")).isEqualTo(1);
+        assertThat(meterRegistry.get("booking.saga.recovery.backlog").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void recoverSagas_skipsSagaResolvedByPaymentResult() {
+        BookingSagaLog asyncSaga = sagaLog("saga-1", 1);
+        when(bookingSagaLogService.claimRecoverable(50, CLAIM_LEASE)).thenReturn(List.of(asyncSaga));
+        when(asyncPaymentSagaService.recover(asyncSaga)).thenReturn(BookingSagaStep.PAYMENT_PENDING);
+
+        scheduler.recoverSagas();
+
+        assertThat(count("skipped")).isEqualTo(1);
+    }
+
+    @Test
+    void recoverSagas_leavesFailedSagaForRetryAfterLease() {
+        BookingSagaLog saga = sagaLog(null, 9);
+        when(bookingSagaLogService.claimRecoverable(50, CLAIM_LEASE)).thenReturn(List.of(saga));
+        when(bookingOrchestrator.recoverPerformanceBooking(saga)).thenThrow(new IllegalStateException("payment down"));
+
+        scheduler.recoverSagas();
+
+        // 상태를 바꾸지 않으므로 임대가 끝나면 다시 조회됨
+        verify(bookingSagaLogService, never()).fail(any(), anyString());
+        assertThat(count("retry")).isEqualTo(1);
+    }
+
+    @Test
+    void recoverSagas_failsSagaAtMaxAttempts() {
+        BookingSagaLog saga = sagaLog(null, 10);
+        when(saga.getHoldToken()).thenReturn("hold-1");
+        when(bookingSagaLogService.claimRecoverable(50, CLAIM_LEASE)).thenReturn(List.of(saga));
+        when(bookingOrchestrator.recoverPerformanceBooking(saga)).thenThrow(new IllegalStateException("payment down"));
+
+        scheduler.recoverSagas();
+
+        verify(bookingSagaLogService).fail("hold-1", "payment down");
+        assertThat(count("failed")).isEqualTo(1);
+        assertThat(count("retry")).isZero();
+    }
+
+    @Test
+    void recoverSagas_claimsNextBatchOnlyWhenBatchIsFull() {
+        BookingSagaLog saga = sagaLog(null, 1);
+        when(bookingOrchestrator.recoverPerformanceBooking(saga)).thenReturn(BookingSagaStep.COMPENSATED);
+        when(bookingSagaLogService.claimRecoverable(50, CLAIM_LEASE))
+                .thenReturn(Collections.nCopies(50, saga))
+                .thenReturn(List.of(saga));
+
+        scheduler.recoverSagas();
+
+        verify(bookingSagaLogService, times(2)).claimRecoverable(50, CLAIM_LEASE);
+        assertThat(count("compensated")).isEqualTo(51);
+    }
+
+    private static BookingSagaLog sagaLog(String sagaId, int recoveryAttempts) {
+        BookingSagaLog sagaLog = mock(BookingSagaLog.class);
+        when(sagaLog.getSagaId()).thenReturn(sagaId);
+        lenient().when(sagaLog.getRecoveryAttempts()).thenReturn(recoveryAttempts); // 실패한 경우에만 확인
+        return sagaLog;
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("booking.saga.recovery", "result", result).count();
+    }
+}
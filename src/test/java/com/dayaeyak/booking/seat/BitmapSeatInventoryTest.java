@@ -0,0 +1,22 @@
+package com.dayaeyak.booking.seat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BitmapSeatInventoryTest extends SeatInventoryScriptTest {
+
+    @Override
+    protected SeatInventory createSeatInventory() {
+        return new BitmapSeatInventory(
+                redisTemplate,
+                new RedisScriptPipeline(redisTemplate),
+                scripts.initSeatBitmapScript(),
+                scripts.lockSeatBitmapScript(),
+                scripts.confirmSeatBitmapScript(),
+                scripts.releaseSeatBitmapScript(),
+                scripts.allocateSeatBitmapScript(),
+                scripts.releaseHoldsBitmapScript(),
+                allocationProperties,
+                new SeatCacheProperties(null, null, null),
+                new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,18 @@
+package com.dayaeyak.booking.seat;
+
+class HashSeatInventoryTest extends SeatInventoryScriptTest {
+
+    @Override
+    protected SeatInventory createSeatInventory() {
+        return new HashSeatInventory(
+                redisTemplate,
+                new RedisScriptPipeline(redisTemplate),
+                scripts.initSeatMapScript(),
+                scripts.lockSeatsScript(),
+                scripts.confirmBooking(),
+                scripts.releaseSeats(),
+                scripts.allocateSeatsScript(),
+                scripts.releaseHoldsScript(),
+                allocationProperties);
+    }
+}
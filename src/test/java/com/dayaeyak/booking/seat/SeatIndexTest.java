@@ -0,0 +1,62 @@
+package com.dayaeyak.booking.seat;
+
+import com.dayaeyak.booking.domain.booking.dto.kafka.SeatStatusDto;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 인덱스 매핑 압축 형식 (seatId, seatNumber 차이 varint)
+ */
+class SeatIndexTest {
+
+    @Test
+    void pack_roundTripsSeatOrder() {
+        SeatIndex seatIndex = SeatIndex.of(List.of(
+                seat(30L, 3), seat(10L, 1), seat(Long.MAX_VALUE, 2), seat(5L, null)));
+
+        SeatIndex restored = SeatIndex.parse(seatIndex.pack());
+
+        assertThat(restored.size()).isEqualTo(4);
+        assertThat(IntStream.range(0, 4).mapToLong(restored::seatIdAt)).containsExactly(10L, Long.MAX_VALUE, 30L, 5L);
+        assertThat(IntStream.range(0, 4).map(restored::seatNumberAt)).containsExactly(1, 2, 3, 0);
+        assertThat(restored.indexOf(30L)).isEqualTo(2);
+        assertThat(restored.indexOf(99L)).isEqualTo(-1);
+    }
+
+    @Test
+    void pack_usesTwoBytesPerConsecutiveSeat() {
+        List<SeatStatusDto> seats = new ArrayList<>();
+        for (int i = 1; i <= 10_000; i++) {
+            seats.add(seat(1_000_000L + i, i));
+        }
+        SeatIndex seatIndex = SeatIndex.of(seats);
+
+        byte[] packed = seatIndex.pack();
+
+        // 이전 "seatId:seatNumber," 문자열은 128,893 byte
+        assertThat(packed).hasSize(20_005);
+        assertThat(SeatIndex.parse(packed).seatIdAt(9_999)).isEqualTo(1_010_000L);
+        assertThat(SeatIndex.parse(packed).seatNumberAt(9_999)).isEqualTo(10_000);
+    }
+
+    @Test
+    void parse_readsTextFormatStoredBeforePacking() {
+        SeatIndex withNumbers = SeatIndex.parse("10:1,20:2".getBytes(StandardCharsets.UTF_8));
+        SeatIndex idsOnly = SeatIndex.parse("10,20".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(withNumbers.seatIdAt(1)).isEqualTo(20L);
+        assertThat(withNumbers.seatNumberAt(1)).isEqualTo(2);
+        assertThat(idsOnly.indexOf(20L)).isEqualTo(1);
+        assertThat(SeatIndex.parse(new byte[0]).size()).isZero();
+    }
+
+    private static SeatStatusDto seat(Long seatId, Integer seatNumber) {
+        return new SeatStatusDto(seatId, false, seatNumber);
+    }
+}
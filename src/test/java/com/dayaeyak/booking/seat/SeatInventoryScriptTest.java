@@ -0,0 +1,182 @@
+package com.dayaeyak.booking.seat;
+
+import com.dayaeyak.booking.config.RedisLuaConfig;
+import com.dayaeyak.booking.domain.booking.dto.kafka.SeatStatusDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 Lua Script 를 실제 Redis 에서 실행해 확인 (Hash / Bitmap 방식 공통)
+ *
+ * 구역 A : seatId 1~6 (seatNumber 순서 동일, 3번 booked), 구역 B : seatId 101~103
+ * 배정 탐색 범위는 5석 (구역 A 의 6번 좌석은 탐색하지 않음)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+abstract class SeatInventoryScriptTest {
+
+    private static final Duration SEAT_MAP_TTL = Duration.ofMinutes(10);
+    private static final Duration HOLD_TTL = Duration.ofMinutes(5);
+    private static final String SECTION_A = SeatKeys.sectionKey(200L, 100L, 10L);
+    private static final String SECTION_B = SeatKeys.sectionKey(200L, 100L, 20L);
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    protected static StringRedisTemplate redisTemplate;
+    protected static final RedisLuaConfig scripts = new RedisLuaConfig();
+    protected static final SeatAllocationProperties allocationProperties = new SeatAllocationProperties(5);
+
+    private SeatInventory seatInventory;
+
+    protected abstract SeatInventory createSeatInventory();
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        seatInventory = createSeatInventory();
+
+        Map<String, List<SeatStatusDto>> sections = new LinkedHashMap<>();
+        sections.put(SECTION_A, List.of(
+                seat(1L, false, 1), seat(2L, false, 2), seat(3L, true, 3),
+                seat(4L, false, 4), seat(5L, false, 5), seat(6L, false, 6)));
+        sections.put(SECTION_B, List.of(seat(101L, false, 1), seat(102L, false, 2), seat(103L, false, 3)));
+        assertThat(seatInventory.initializeAllIfAbsent(sections, SEAT_MAP_TTL)).isEqualTo(2);
+    }
+
+    @Test
+    void allocateContiguous_skipsBookedSeat() {
+        List<AllocatedSeat> allocated = seatInventory.allocateContiguous(SECTION_A, 2, "token-1", HOLD_TTL);
+        assertThat(allocated).extracting(AllocatedSeat::seatId).containsExactly(1L, 2L);
+
+        allocated = seatInventory.allocateContiguous(SECTION_A, 2, "token-2", HOLD_TTL);
+        assertThat(allocated).extracting(AllocatedSeat::seatId).containsExactly(4L, 5L);
+        assertThat(seatInventory.readSeatMap(SECTION_A))
+                .containsEntry(4L, SeatState.LOCKED)
+                .containsEntry(6L, SeatState.AVAILABLE);
+        assertStats(SECTION_A, 1, 4, 1);
+    }
+
+    @Test
+    void allocateContiguous_stopsAtMaxScanSeats() {
+        assertThat(seatInventory.lock(SECTION_A, List.of(4L), "token-1", HOLD_TTL)).isTrue();
+
+        // 5, 6 번이 비어 있지만 6번은 탐색 범위(5석) 밖
+        assertThat(seatInventory.allocateContiguous(SECTION_A, 2, "token-2", HOLD_TTL)).extracting(AllocatedSeat::seatId)
+                .containsExactly(1L, 2L);
+        assertThat(seatInventory.allocateContiguous(SECTION_A, 2, "token-3", HOLD_TTL)).isEmpty();
+        assertStats(SECTION_A, 2, 3, 1);
+    }
+
+    @Test
+    void allocateContiguous_returnsEmptyWithoutRun() {
+        assertThat(seatInventory.allocateContiguous(SECTION_A, 4, "token-1", HOLD_TTL)).isEmpty();
+        assertStats(SECTION_A, 5, 0, 1);
+    }
+
+    @Test
+    void lock_isAllOrNothingAcrossSections() {
+        assertThat(seatInventory.lock(SECTION_A, List.of(1L), "token-1", HOLD_TTL)).isTrue();
+
+        Map<String, List<Long>> seatsBySection = new LinkedHashMap<>();
+        seatsBySection.put(SECTION_B, List.of(101L));
+        seatsBySection.put(SECTION_A, List.of(1L, 2L));
+        assertThat(seatInventory.lock(seatsBySection, "token-2", HOLD_TTL)).isFalse();
+
+        assertThat(seatInventory.readSeatMap(SECTION_B)).containsEntry(101L, SeatState.AVAILABLE);
+        assertThat(seatInventory.readSeatMap(SECTION_A)).containsEntry(2L, SeatState.AVAILABLE);
+        assertStats(SECTION_B, 3, 0, 0);
+        assertThat(sessionStat("locked")).isEqualTo(1);
+    }
+
+    @Test
+    void lockAndConfirm_countDuplicateSeatOnce() {
+        assertThat(seatInventory.lock(SECTION_A, List.of(1L, 1L, 2L), "token-1", HOLD_TTL)).isTrue();
+        assertStats(SECTION_A, 3, 2, 1);
+
+        assertThat(seatInventory.confirm(SECTION_A, List.of(1L, 2L, 2L), "token-1")).isTrue();
+        assertStats(SECTION_A, 3, 0, 3);
+        assertThat(sessionStat("booked")).isEqualTo(3);
+    }
+
+    @Test
+    void expiredHold_isReclaimedByAnotherRequest() throws InterruptedException {
+        assertThat(seatInventory.lock(SECTION_A, List.of(1L), "token-1", Duration.ofMillis(100))).isTrue();
+        Thread.sleep(200);
+
+        assertThat(seatInventory.readSeatMap(SECTION_A)).containsEntry(1L, SeatState.AVAILABLE);
+        assertThat(seatInventory.lock(SECTION_A, List.of(1L), "token-2", HOLD_TTL)).isTrue();
+        assertStats(SECTION_A, 4, 1, 1); // 회수한 만료 선점은 locked 로 한 번만 집계
+
+        assertThat(seatInventory.confirm(SECTION_A, List.of(1L), "token-1")).isFalse();
+        assertThat(seatInventory.confirm(SECTION_A, List.of(1L), "token-2")).isTrue();
+    }
+
+    @Test
+    void release_onlyReleasesOwnHolds() {
+        assertThat(seatInventory.lock(SECTION_A, List.of(1L, 2L), "token-1", HOLD_TTL)).isTrue();
+
+        seatInventory.release(SECTION_A, List.of(1L, 2L), "token-2");
+        assertStats(SECTION_A, 3, 2, 1);
+
+        seatInventory.release(SECTION_A, List.of(1L, 1L), "token-1");
+        assertThat(seatInventory.readSeatMap(SECTION_A))
+                .containsEntry(1L, SeatState.AVAILABLE)
+                .containsEntry(2L, SeatState.LOCKED);
+        assertStats(SECTION_A, 4, 1, 1);
+
+        int released = seatInventory.releaseHolds(SECTION_A, List.of(
+                new SeatHold(2L, "token-1"), new SeatHold(2L, "token-1"), new SeatHold(4L, "token-1")));
+        assertThat(released).isEqualTo(1);
+        assertStats(SECTION_A, 5, 0, 1);
+        assertThat(sessionStat("available")).isEqualTo(8);
+    }
+
+    private static SeatStatusDto seat(Long seatId, boolean booked, int seatNumber) {
+        return new SeatStatusDto(seatId, booked, seatNumber);
+    }
+
+    private static void assertStats(String sectionKey, long available, long locked, long booked) {
+        List<Object> stats = redisTemplate.opsForHash()
+                .multiGet(SeatKeys.sectionStatsKey(sectionKey), List.of("available", "locked", "booked"));
+        assertThat(stats).containsExactly(String.valueOf(available), String.valueOf(locked), String.valueOf(booked));
+    }
+
+    private static long sessionStat(String field) {
+        Object value = redisTemplate.opsForHash().get(SeatKeys.sessionStatsKey(SECTION_A), field);
+        return value == null ? 0 : Long.parseLong((String) value);
+    }
+}